@@ -0,0 +1,78 @@
+package com.reactnativehmssdk.benchmark
+
+import com.google.gson.JsonObject
+import com.reactnativehmssdk.HMSDecoder
+import live.hms.video.connection.stats.HMSRemoteVideoStats
+import live.hms.video.sdk.models.HMSPeer
+import live.hms.video.sdk.models.HMSRoom
+import live.hms.video.sdk.models.enums.HMSPeerUpdate
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.Level
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.infra.Blackhole
+
+/**
+ * Benchmarks of the marshalling of SDK models to React Native maps & arrays, for rooms of [peerCount] peers.
+ *
+ * Run with `gradle jmh` from this directory, results are written to `build/results/jmh/results.json`.
+ */
+@State(Scope.Benchmark)
+open class HMSDecoderBenchmark {
+  @Param("10", "100", "1000")
+  var peerCount: Int = 0
+
+  private lateinit var peers: List<HMSPeer>
+  private lateinit var room: HMSRoom
+  private lateinit var remoteVideoStats: HMSRemoteVideoStats
+  private lateinit var jsonObject: JsonObject
+
+  @Setup(Level.Trial)
+  fun setup() {
+    peers = SyntheticRoom.peers(peerCount)
+    room = SyntheticRoom.room(peers)
+    remoteVideoStats = SyntheticRoom.remoteVideoStats()
+    jsonObject = SyntheticRoom.jsonObject(peerCount)
+  }
+
+  @Setup(Level.Iteration)
+  fun resetDecoder() {
+    // Role definitions are sent in full until acknowledged by JS, which doesn't happen here
+    HMSDecoder.clearRestrictDataStates()
+  }
+
+  @Benchmark
+  fun getHmsPeer(blackhole: Blackhole) {
+    for (peer in peers) {
+      blackhole.consume(HMSDecoder.getHmsPeer(peer))
+    }
+  }
+
+  @Benchmark
+  fun getHmsRoom(blackhole: Blackhole) {
+    blackhole.consume(HMSDecoder.getHmsRoom(room))
+  }
+
+  @Benchmark
+  fun getRemoteVideoStats(blackhole: Blackhole) {
+    // Stats are decoded once per remote video track on every stats tick
+    repeat(peerCount) {
+      blackhole.consume(HMSDecoder.getRemoteVideoStats(remoteVideoStats))
+    }
+  }
+
+  @Benchmark
+  fun getReadableMapFromJsonObject(blackhole: Blackhole) {
+    blackhole.consume(HMSDecoder.getReadableMapFromJsonObject(jsonObject))
+  }
+
+  @Benchmark
+  fun getHmsPeerSubsetForPeerUpdateEvent(blackhole: Blackhole) {
+    // Network quality updates are received for every peer periodically
+    for (peer in peers) {
+      blackhole.consume(HMSDecoder.getHmsPeerSubsetForPeerUpdateEvent(peer, HMSPeerUpdate.NETWORK_QUALITY_UPDATED))
+    }
+  }
+}
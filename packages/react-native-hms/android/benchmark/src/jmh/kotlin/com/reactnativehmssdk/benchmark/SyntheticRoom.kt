@@ -0,0 +1,158 @@
+package com.reactnativehmssdk.benchmark
+
+import com.google.gson.JsonArray
+import com.google.gson.JsonObject
+import live.hms.video.connection.stats.HMSRemoteVideoStats
+import live.hms.video.connection.stats.quality.HMSNetworkQuality
+import live.hms.video.media.tracks.HMSAudioTrack
+import live.hms.video.media.tracks.HMSTrack
+import live.hms.video.media.tracks.HMSTrackType
+import live.hms.video.media.tracks.HMSVideoTrack
+import live.hms.video.sdk.models.HMSPeer
+import live.hms.video.sdk.models.HMSRoom
+import live.hms.video.sdk.models.role.HMSRole
+import org.mockito.Mockito
+import org.mockito.Mockito.doReturn
+
+/**
+ * Builds synthetic rooms of stubbed SDK models. Models are stubbed once while building the room,
+ * benchmarks only read from them. Stubs are `stubOnly`, so reading doesn't record invocations.
+ */
+object SyntheticRoom {
+  private const val ROLE_COUNT = 4
+
+  private inline fun <reified T> stub(): T =
+    Mockito.mock(T::class.java, Mockito.withSettings().stubOnly().defaultAnswer(Mockito.RETURNS_MOCKS))
+
+  // Enum constants are looked up from the getter, so that fixtures don't depend on the package of SDK enums
+  private fun firstEnumConstant(
+    type: Class<*>,
+    getter: String,
+  ): Any = type.getMethod(getter).returnType.enumConstants.first()
+
+  // Numbers are boxed to the return type of the getter, as stats getters differ in their numeric types
+  private fun numberFor(
+    type: Class<*>,
+    getter: String,
+    value: Double,
+  ): Any =
+    when (type.getMethod(getter).returnType.name) {
+      "int", "java.lang.Integer" -> value.toInt()
+      "long", "java.lang.Long" -> value.toLong()
+      "float", "java.lang.Float" -> value.toFloat()
+      else -> value
+    }
+
+  // Publish & subscribe params hold enums which can't be stubbed, so roles are encoded with permissions only
+  fun roles(): List<HMSRole> =
+    (0 until ROLE_COUNT).map { index ->
+      val role = stub<HMSRole>()
+      doReturn("role-$index").`when`(role).name
+      doReturn(index).`when`(role).priority
+      doReturn(null).`when`(role).publishParams
+      doReturn(null).`when`(role).subscribeParams
+      role
+    }
+
+  fun audioTrack(peerIndex: Int): HMSAudioTrack {
+    val track = stub<HMSAudioTrack>()
+    doReturn("audio-$peerIndex").`when`(track).trackId
+    doReturn("regular").`when`(track).source
+    doReturn("").`when`(track).description
+    doReturn(peerIndex % 2 == 0).`when`(track).isMute
+    doReturn(HMSTrackType.AUDIO).`when`(track).type
+    return track
+  }
+
+  fun videoTrack(peerIndex: Int): HMSVideoTrack {
+    val track = stub<HMSVideoTrack>()
+    doReturn("video-$peerIndex").`when`(track).trackId
+    doReturn("regular").`when`(track).source
+    doReturn("").`when`(track).description
+    doReturn(peerIndex % 3 == 0).`when`(track).isMute
+    doReturn(false).`when`(track).isDegraded
+    doReturn(HMSTrackType.VIDEO).`when`(track).type
+    return track
+  }
+
+  fun peer(
+    index: Int,
+    role: HMSRole,
+  ): HMSPeer {
+    val peer = stub<HMSPeer>()
+    doReturn("peer-$index").`when`(peer).peerID
+    doReturn("Peer $index").`when`(peer).name
+    doReturn(false).`when`(peer).isLocal
+    doReturn("user-$index").`when`(peer).customerUserID
+    doReturn("{\"avatar\":\"https://example.com/$index.png\"}").`when`(peer).metadata
+    doReturn(role).`when`(peer).hmsRole
+    doReturn(index % 10 == 0).`when`(peer).isHandRaised
+    doReturn(networkQuality(index)).`when`(peer).networkQuality
+    doReturn(audioTrack(index)).`when`(peer).audioTrack
+    doReturn(videoTrack(index)).`when`(peer).videoTrack
+    doReturn(mutableListOf<HMSTrack>()).`when`(peer).auxiliaryTracks
+    doReturn(firstEnumConstant(HMSPeer::class.java, "getType")).`when`(peer).type
+    return peer
+  }
+
+  fun peers(count: Int): List<HMSPeer> {
+    val roles = roles()
+    return (0 until count).map { peer(it, roles[it % roles.size]) }
+  }
+
+  fun room(peers: List<HMSPeer>): HMSRoom {
+    val room = stub<HMSRoom>()
+    doReturn("room-id").`when`(room).roomId
+    doReturn("session-id").`when`(room).sessionId
+    doReturn("Synthetic Room").`when`(room).name
+    doReturn(null).`when`(room).localPeer
+    doReturn(peers).`when`(room).peerList
+    doReturn(peers.size).`when`(room).peerCount
+    doReturn(peers.size > 100).`when`(room).isLargeRoom
+    doReturn(emptyList<Any>()).`when`(room).transcriptions
+    // Recording & streaming states hold enums which can't be stubbed
+    doReturn(null).`when`(room).browserRecordingState
+    doReturn(null).`when`(room).rtmpHMSRtmpStreamingState
+    doReturn(null).`when`(room).serverRecordingState
+    doReturn(null).`when`(room).hlsStreamingState
+    doReturn(null).`when`(room).hlsRecordingState
+    return room
+  }
+
+  fun remoteVideoStats(): HMSRemoteVideoStats {
+    val type = HMSRemoteVideoStats::class.java
+    val stats = stub<HMSRemoteVideoStats>()
+    doReturn(numberFor(type, "getBitrate", 1_250_000.0)).`when`(stats).bitrate
+    doReturn(numberFor(type, "getBytesReceived", 98_765_432.0)).`when`(stats).bytesReceived
+    doReturn(numberFor(type, "getFrameRate", 29.97)).`when`(stats).frameRate
+    doReturn(numberFor(type, "getJitter", 0.012)).`when`(stats).jitter
+    doReturn(numberFor(type, "getPacketsLost", 12.0)).`when`(stats).packetsLost
+    doReturn(numberFor(type, "getPacketsReceived", 87_654.0)).`when`(stats).packetsReceived
+    doReturn(null).`when`(stats).resolution
+    return stats
+  }
+
+  private fun networkQuality(index: Int): HMSNetworkQuality {
+    val networkQuality = stub<HMSNetworkQuality>()
+    doReturn(index % 6).`when`(networkQuality).downlinkQuality
+    return networkQuality
+  }
+
+  /**
+   * Session store like JSON payload with nested objects & arrays, of about [entries] leaf values
+   */
+  fun jsonObject(entries: Int): JsonObject {
+    val root = JsonObject()
+    for (index in 0 until entries / 4) {
+      val entry = JsonObject()
+      entry.addProperty("name", "Peer $index")
+      entry.addProperty("score", index * 1.5)
+      entry.addProperty("isPinned", index % 2 == 0)
+      val tags = JsonArray()
+      tags.add("tag-$index")
+      entry.add("tags", tags)
+      root.add("entry-$index", entry)
+    }
+    return root
+  }
+}
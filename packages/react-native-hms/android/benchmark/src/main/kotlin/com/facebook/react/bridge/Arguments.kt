@@ -0,0 +1,13 @@
+package com.facebook.react.bridge
+
+/**
+ * JVM stand-in for React Native `Arguments`, which creates native backed maps & arrays requiring the
+ * React Native native libraries. Maps & arrays created here are backed by Java collections instead.
+ */
+object Arguments {
+  @JvmStatic
+  fun createMap(): WritableMap = JavaOnlyMap()
+
+  @JvmStatic
+  fun createArray(): WritableArray = JavaOnlyArray()
+}
@@ -0,0 +1,163 @@
+package com.reactnativehmssdk
+
+import com.facebook.react.bridge.Arguments
+import com.facebook.react.bridge.ReadableMap
+import com.facebook.react.bridge.WritableArray
+import live.hms.video.media.tracks.HMSTrack
+import live.hms.video.sdk.models.HMSPeer
+import live.hms.video.sdk.models.HMSSpeaker
+import kotlin.math.abs
+import kotlin.math.roundToInt
+
+/**
+ * Aggregates audio level updates into a ranked list of the top K active speakers.
+ *
+ * Level of every track is exponentially smoothed across updates, tracks missing from an update decay
+ * towards silence. Current speakers get a `hysteresis` bonus while ranking, so that a new speaker
+ * replaces one only when it is clearly louder. Speakers are emitted only when the ranked set changes
+ * or the level of a ranked speaker moves by at least `levelThreshold` since it was last emitted.
+ */
+class HMSActiveSpeakerAggregator(
+  private val topK: Int,
+  private val smoothing: Double,
+  private val hysteresis: Double,
+  private val levelThreshold: Double,
+  private val minLevel: Double,
+) {
+  companion object {
+    private const val DEFAULT_TOP_K = 4
+    private const val DEFAULT_SMOOTHING = 0.5
+    private const val DEFAULT_HYSTERESIS = 5.0
+    private const val DEFAULT_LEVEL_THRESHOLD = 10.0
+    private const val DEFAULT_MIN_LEVEL = 1.0
+
+    fun from(options: ReadableMap?): HMSActiveSpeakerAggregator? {
+      if (options == null) {
+        return null
+      }
+      return HMSActiveSpeakerAggregator(
+        topK = getInt(options, "topK") ?: DEFAULT_TOP_K,
+        smoothing = (getDouble(options, "smoothing") ?: DEFAULT_SMOOTHING).coerceIn(0.01, 1.0),
+        hysteresis = getDouble(options, "hysteresis") ?: DEFAULT_HYSTERESIS,
+        levelThreshold = getDouble(options, "levelThreshold") ?: DEFAULT_LEVEL_THRESHOLD,
+        minLevel = getDouble(options, "minLevel") ?: DEFAULT_MIN_LEVEL,
+      )
+    }
+
+    private fun getInt(
+      options: ReadableMap,
+      key: String,
+    ): Int? = if (options.hasKey(key) && !options.isNull(key)) options.getInt(key) else null
+
+    private fun getDouble(
+      options: ReadableMap,
+      key: String,
+    ): Double? = if (options.hasKey(key) && !options.isNull(key)) options.getDouble(key) else null
+  }
+
+  private class SpeakerState(
+    var peer: HMSPeer,
+    var track: HMSTrack,
+    var level: Double,
+  )
+
+  private val lock = Any()
+  private val speakerStates = HashMap<String, SpeakerState>()
+  private var rankedTrackIds = listOf<String>()
+  private val emittedLevels = HashMap<String, Double>()
+
+  /**
+   * Applies an audio level update and returns the ranked speakers, if they should be emitted
+   */
+  fun update(speakers: Array<HMSSpeaker>): WritableArray? {
+    synchronized(lock) {
+      val updatedTrackIds = HashSet<String>()
+      for (speaker in speakers) {
+        val peer = speaker.peer ?: continue
+        val track = speaker.hmsTrack ?: continue
+        updatedTrackIds.add(track.trackId)
+        val state = speakerStates[track.trackId]
+        if (state == null) {
+          speakerStates[track.trackId] = SpeakerState(peer, track, smoothing * speaker.level)
+        } else {
+          state.peer = peer
+          state.track = track
+          state.level = smooth(state.level, speaker.level.toDouble())
+        }
+      }
+
+      // tracks missing from the update are silent, their level decays and they are dropped once below half of `minLevel`
+      val iterator = speakerStates.entries.iterator()
+      while (iterator.hasNext()) {
+        val entry = iterator.next()
+        if (!updatedTrackIds.contains(entry.key)) {
+          entry.value.level = smooth(entry.value.level, 0.0)
+          if (entry.value.level < minLevel / 2 && !rankedTrackIds.contains(entry.key)) {
+            iterator.remove()
+          }
+        }
+      }
+
+      val ranked = rank()
+      if (ranked == rankedTrackIds && !hasCrossedThreshold(ranked)) {
+        return null
+      }
+
+      rankedTrackIds = ranked
+      emittedLevels.clear()
+      val decodedSpeakers: WritableArray = Arguments.createArray()
+      for (trackId in ranked) {
+        val state = speakerStates[trackId] ?: continue
+        emittedLevels[trackId] = state.level
+        val speakerMap = Arguments.createMap()
+        speakerMap.putInt("level", state.level.roundToInt())
+        speakerMap.putMap("peer", HMSDecoder.getHmsPeerSubset(state.peer))
+        speakerMap.putMap("track", HMSDecoder.getHmsTrack(state.track))
+        decodedSpeakers.pushMap(speakerMap)
+      }
+      return decodedSpeakers
+    }
+  }
+
+  fun clear() {
+    synchronized(lock) {
+      speakerStates.clear()
+      rankedTrackIds = listOf()
+      emittedLevels.clear()
+    }
+  }
+
+  private fun smooth(
+    previousLevel: Double,
+    level: Double,
+  ): Double = smoothing * level + (1 - smoothing) * previousLevel
+
+  private fun rank(): List<String> {
+    val candidates =
+      speakerStates.entries.mapNotNull { (trackId, state) ->
+        // current speakers are kept until their level falls to half of `minLevel`
+        val isRanked = rankedTrackIds.contains(trackId)
+        val requiredLevel = if (isRanked) minLevel / 2 else minLevel
+        if (state.level >= requiredLevel) {
+          Pair(trackId, state.level + if (isRanked) hysteresis else 0.0)
+        } else {
+          null
+        }
+      }
+    return candidates
+      .sortedByDescending { it.second }
+      .take(topK)
+      .map { it.first }
+  }
+
+  private fun hasCrossedThreshold(ranked: List<String>): Boolean {
+    for (trackId in ranked) {
+      val level = speakerStates[trackId]?.level ?: return true
+      val emittedLevel = emittedLevels[trackId] ?: return true
+      if (abs(level - emittedLevel) >= levelThreshold) {
+        return true
+      }
+    }
+    return false
+  }
+}
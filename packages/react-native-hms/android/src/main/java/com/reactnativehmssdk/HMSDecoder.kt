@@ -17,17 +17,43 @@ import live.hms.video.sdk.models.trackchangerequest.HMSChangeTrackStateRequest
 import live.hms.video.sdk.transcripts.HmsTranscript
 
 object HMSDecoder {
-  private var restrictRoleData = mutableMapOf<String, Boolean>()
+  // Roles are interned by name, version of a role is bumped whenever its definition changes.
+  // Definition of a role is sent only until JS acknowledges that it has cached the current version.
+  private val internedRoles = mutableMapOf<String, Pair<HMSRole, Int>>()
+  private var restrictRoleData = mutableMapOf<String, Int>()
 
   fun setRestrictRoleData(
     roleName: String,
-    value: Boolean,
+    version: Int?,
   ) {
-    this.restrictRoleData[roleName] = value
+    synchronized(internedRoles) {
+      val roleVersion = version ?: internedRoles[roleName]?.second ?: return
+      this.restrictRoleData[roleName] = roleVersion
+    }
   }
 
   fun clearRestrictDataStates() {
-    this.restrictRoleData.clear()
+    synchronized(internedRoles) {
+      this.restrictRoleData.clear()
+      this.internedRoles.clear()
+    }
+  }
+
+  // Returns the interned version of the role and whether its definition should be sent
+  private fun internRole(hmsRole: HMSRole): Pair<Int, Boolean> {
+    synchronized(internedRoles) {
+      val internedRole = internedRoles[hmsRole.name]
+      val version =
+        when {
+          internedRole == null -> 1
+          internedRole.first != hmsRole -> internedRole.second + 1
+          else -> internedRole.second
+        }
+      if (internedRole == null || internedRole.second != version) {
+        internedRoles[hmsRole.name] = Pair(hmsRole, version)
+      }
+      return Pair(version, restrictRoleData[hmsRole.name] != version)
+    }
   }
 
   fun getHmsRoomSubset(
@@ -95,7 +121,10 @@ object HMSDecoder {
     return room
   }
 
-  fun getHmsRoom(hmsRoom: HMSRoom?): WritableMap {
+  fun getHmsRoom(
+    hmsRoom: HMSRoom?,
+    includePeers: Boolean = true,
+  ): WritableMap {
     val room: WritableMap = Arguments.createMap()
     if (hmsRoom != null) {
       room.putString("id", hmsRoom.roomId)
@@ -141,7 +170,10 @@ object HMSDecoder {
         room.putMap("localPeer", this.getHmsLocalPeer(it))
       }
 
-      room.putArray("peers", this.getAllPeers(hmsRoom.peerList))
+      // `peers` key is left out when excluded, so that cached peers of the room aren't overwritten
+      if (includePeers) {
+        room.putArray("peers", this.getAllPeers(hmsRoom.peerList))
+      }
 
       hmsRoom.peerCount.let {
         if (it == null) {
@@ -230,7 +262,14 @@ object HMSDecoder {
     return peer
   }
 
-  fun getHmsPeer(hmsPeer: HMSPeer?): WritableMap {
+  /**
+   * Decodes all properties of a peer. With [roleByName], only name of the role is sent as `roleName`,
+   * for lists of peers where role definitions are sent separately.
+   */
+  fun getHmsPeer(
+    hmsPeer: HMSPeer?,
+    roleByName: Boolean = false,
+  ): WritableMap {
     val peer: WritableMap = Arguments.createMap()
     if (hmsPeer != null) {
       peer.putString("peerID", hmsPeer.peerID)
@@ -245,7 +284,11 @@ object HMSDecoder {
 
       peer.putString("metadata", hmsPeer.metadata)
 
-      peer.putMap("role", this.getHmsRole(hmsPeer.hmsRole))
+      if (roleByName) {
+        peer.putString("roleName", hmsPeer.hmsRole.name)
+      } else {
+        peer.putMap("role", this.getHmsRole(hmsPeer.hmsRole))
+      }
 
       peer.putBoolean("isHandRaised", hmsPeer.isHandRaised)
 
@@ -322,7 +365,9 @@ object HMSDecoder {
     val role: WritableMap = Arguments.createMap()
     if (hmsRole != null) {
       role.putString("name", hmsRole.name)
-      if (this.restrictRoleData[hmsRole.name] != true) {
+      val (version, sendDefinition) = internRole(hmsRole)
+      role.putInt("version", version)
+      if (sendDefinition) {
         role.putMap("permissions", this.getHmsPermissions(hmsRole.permission))
         hmsRole.publishParams?.let {
           role.putMap("publishSettings", this.getHmsPublishSettings(it))
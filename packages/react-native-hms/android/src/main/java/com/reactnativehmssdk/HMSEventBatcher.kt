@@ -0,0 +1,151 @@
+package com.reactnativehmssdk
+
+import android.os.Handler
+import android.os.Looper
+import android.view.Choreographer
+import com.facebook.react.bridge.Arguments
+import com.facebook.react.bridge.ReadableMap
+import com.facebook.react.bridge.WritableArray
+import com.facebook.react.bridge.WritableMap
+
+/**
+ * Buffers high frequency listener events of a [HMSRNSDK] instance and delivers them to JS
+ * as a single `ON_BATCHED_EVENTS` event, either once per frame or once per `flushInterval`.
+ *
+ * Events of all types are kept in a single queue, in the order they were enqueued, so that events
+ * of different types (eg. a peer join & the track update of that peer) reach JS in order.
+ * Events enqueued with a coalesce key are merged into the pending event of the same type with the
+ * same key, so only the latest state (eg. network quality of a peer, stats of a track) crosses the bridge.
+ * A merged event is moved to the position of the latest event, so that it stays in order with events
+ * enqueued in between, which may carry an older `seq` of the same peer or track.
+ */
+class HMSEventBatcher(
+  private val sdkId: String,
+  private val delegate: HMSManager,
+  private val batchedEvents: Set<String>,
+  private val flushInterval: Long,
+) {
+  companion object {
+    const val BATCHED_EVENTS = "ON_BATCHED_EVENTS"
+
+    fun from(
+      options: ReadableMap?,
+      sdkId: String,
+      delegate: HMSManager,
+    ): HMSEventBatcher? {
+      val events = options?.getArray("events") ?: return null
+      val batchedEvents = mutableSetOf<String>()
+      for (index in 0 until events.size()) {
+        events.getString(index)?.let { batchedEvents.add(it) }
+      }
+      if (batchedEvents.isEmpty()) {
+        return null
+      }
+      val flushInterval =
+        if (options.hasKey("flushInterval") && !options.isNull("flushInterval")) {
+          options.getDouble("flushInterval").toLong()
+        } else {
+          0L
+        }
+      return HMSEventBatcher(sdkId, delegate, batchedEvents, flushInterval)
+    }
+  }
+
+  private class PendingEvent(
+    val event: String,
+    val data: WritableMap,
+  )
+
+  private val lock = Any()
+  private val mainHandler = Handler(Looper.getMainLooper())
+
+  // events moved to the tail on merge leave `null` in their previous position
+  private val pendingEvents = mutableListOf<PendingEvent?>()
+
+  // index of the pending event in `pendingEvents`, by event type & coalesce key
+  private val coalescedIndices = mutableMapOf<String, Int>()
+  private var flushScheduled = false
+
+  private val flushRunnable = Runnable { flush() }
+  private val frameCallback = Choreographer.FrameCallback { flush() }
+
+  fun isBatched(event: String): Boolean = batchedEvents.contains(event)
+
+  fun enqueue(
+    event: String,
+    data: WritableMap,
+    coalesceKey: String? = null,
+  ) {
+    synchronized(lock) {
+      val key = coalesceKey?.let { "$event:$it" }
+      val existingIndex = key?.let { coalescedIndices[it] }
+      val existingEvent = existingIndex?.let { pendingEvents[it] }
+      if (key != null && existingIndex != null && existingEvent != null) {
+        // merge into the pending event, so that fields omitted from delta encoded events are retained
+        existingEvent.data.merge(data)
+        pendingEvents[existingIndex] = null
+        coalescedIndices[key] = pendingEvents.size
+        pendingEvents.add(existingEvent)
+      } else {
+        if (key != null) {
+          coalescedIndices[key] = pendingEvents.size
+        }
+        pendingEvents.add(PendingEvent(event, data))
+      }
+      scheduleFlush()
+    }
+  }
+
+  fun flush() {
+    val pending: List<PendingEvent>
+    synchronized(lock) {
+      flushScheduled = false
+      if (pendingEvents.isEmpty()) {
+        return
+      }
+      pending = pendingEvents.filterNotNull()
+      pendingEvents.clear()
+      coalescedIndices.clear()
+    }
+
+    // consecutive events of the same type are sent as one batch, batches are in order of events
+    val batches: WritableArray = Arguments.createArray()
+    var index = 0
+    while (index < pending.size) {
+      val event = pending[index].event
+      val eventsArray: WritableArray = Arguments.createArray()
+      while (index < pending.size && pending[index].event == event) {
+        eventsArray.pushMap(pending[index].data)
+        index++
+      }
+      val batch: WritableMap = Arguments.createMap()
+      batch.putString("event", event)
+      batch.putArray("data", eventsArray)
+      batches.pushMap(batch)
+    }
+
+    val data: WritableMap = Arguments.createMap()
+    data.putString("id", sdkId)
+    data.putArray("batches", batches)
+    delegate.emitEvent(BATCHED_EVENTS, data)
+  }
+
+  // Pending events are delivered before clearing, so that the last updates of a room being left aren't lost
+  fun clear() {
+    mainHandler.removeCallbacks(flushRunnable)
+    mainHandler.post { Choreographer.getInstance().removeFrameCallback(frameCallback) }
+    flush()
+  }
+
+  private fun scheduleFlush() {
+    if (flushScheduled) {
+      return
+    }
+    flushScheduled = true
+    if (flushInterval > 0) {
+      mainHandler.postDelayed(flushRunnable, flushInterval)
+    } else {
+      mainHandler.post { Choreographer.getInstance().postFrameCallback(frameCallback) }
+    }
+  }
+}
@@ -0,0 +1,244 @@
+package com.reactnativehmssdk
+
+import android.content.Context
+import android.graphics.Bitmap
+import android.graphics.Canvas
+import android.graphics.Color
+import android.graphics.Paint
+import android.graphics.Rect
+import android.net.Uri
+import android.os.Build
+import android.os.Handler
+import android.os.HandlerThread
+import android.util.Base64
+import android.view.PixelCopy
+import android.view.SurfaceView
+import android.view.TextureView
+import android.view.View
+import androidx.annotation.RequiresApi
+import com.facebook.react.bridge.ReadableMap
+import java.io.ByteArrayOutputStream
+import java.io.File
+import java.io.FileOutputStream
+import java.io.OutputStream
+import java.util.concurrent.Executors
+import kotlin.math.max
+import kotlin.math.roundToInt
+
+/**
+ * Captures frames of video views off the main thread.
+ *
+ * Pixels of a `SurfaceView` are copied with `PixelCopy` on a capture thread, and pixels of a `TextureView` are
+ * copied on the main thread, into pooled bitmaps. Bitmaps are then scaled down & encoded
+ * on a background executor to PNG, JPEG or WebP. Encoded frame is returned as Base64 string or as `file://` URI
+ * of a file in the cache directory.
+ */
+object HMSFrameCapturer {
+  private const val CAPTURES_DIRECTORY = "hms-captures"
+  private const val MAX_POOLED_BITMAPS = 4
+  private const val MAX_CAPTURE_FILES = 20
+
+  data class Options(
+    val format: Bitmap.CompressFormat,
+    val extension: String,
+    val quality: Int,
+    val maxDimension: Int?,
+    val toFile: Boolean,
+  ) {
+    companion object {
+      val DEFAULT = Options(Bitmap.CompressFormat.PNG, "png", 100, null, false)
+
+      fun from(options: ReadableMap?): Options {
+        if (options == null) {
+          return DEFAULT
+        }
+        val (format, extension) =
+          when (if (options.hasKey("format")) options.getString("format") else null) {
+            "jpeg" -> Pair(Bitmap.CompressFormat.JPEG, "jpg")
+            "webp" -> Pair(getWebpFormat(), "webp")
+            else -> Pair(Bitmap.CompressFormat.PNG, "png")
+          }
+        val quality =
+          if (options.hasKey("quality") && !options.isNull("quality")) {
+            options.getInt("quality").coerceIn(0, 100)
+          } else {
+            DEFAULT.quality
+          }
+        val maxDimension =
+          if (options.hasKey("maxDimension") && !options.isNull("maxDimension")) {
+            options.getInt("maxDimension").takeIf { it > 0 }
+          } else {
+            null
+          }
+        val toFile = options.hasKey("output") && options.getString("output") == "file"
+        return Options(format, extension, quality, maxDimension, toFile)
+      }
+
+      @Suppress("DEPRECATION")
+      private fun getWebpFormat(): Bitmap.CompressFormat =
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.R) {
+          Bitmap.CompressFormat.WEBP_LOSSY
+        } else {
+          Bitmap.CompressFormat.WEBP
+        }
+    }
+  }
+
+  private val captureThread by lazy { HandlerThread("HMSFrameCapture").also { it.start() } }
+  private val captureHandler by lazy { Handler(captureThread.looper) }
+  private val encodeExecutor = Executors.newSingleThreadExecutor()
+  private val scalePaint = Paint(Paint.FILTER_BITMAP_FLAG)
+
+  private val bitmapPool = ArrayDeque<Bitmap>()
+
+  @RequiresApi(Build.VERSION_CODES.N)
+  fun capture(
+    view: View,
+    context: Context,
+    options: Options,
+    onSuccess: (String) -> Unit,
+    onError: (String) -> Unit,
+  ) {
+    if (view.width <= 0 || view.height <= 0) {
+      onError("View is not laid out")
+      return
+    }
+
+    val bitmap = acquireBitmap(view.width, view.height)
+    when (view) {
+      is SurfaceView -> {
+        PixelCopy.request(
+          view,
+          bitmap,
+          { copyResult ->
+            if (copyResult != PixelCopy.SUCCESS) {
+              releaseBitmap(bitmap)
+              onError(copyResult.toString())
+              return@request
+            }
+            encodeInBackground(bitmap, context, options, onSuccess, onError)
+          },
+          captureHandler,
+        )
+      }
+      is TextureView -> {
+        view.getBitmap(bitmap)
+        encodeInBackground(bitmap, context, options, onSuccess, onError)
+      }
+      else -> {
+        releaseBitmap(bitmap)
+        onError("View can't be captured")
+      }
+    }
+  }
+
+  private fun encodeInBackground(
+    bitmap: Bitmap,
+    context: Context,
+    options: Options,
+    onSuccess: (String) -> Unit,
+    onError: (String) -> Unit,
+  ) {
+    encodeExecutor.execute {
+      try {
+        onSuccess(encode(bitmap, context, options))
+      } catch (e: Exception) {
+        onError(e.message ?: e.toString())
+      } finally {
+        releaseBitmap(bitmap)
+      }
+    }
+  }
+
+  private fun encode(
+    bitmap: Bitmap,
+    context: Context,
+    options: Options,
+  ): String {
+    val scaledBitmap = scale(bitmap, options.maxDimension)
+    try {
+      if (options.toFile) {
+        val file = createCaptureFile(context, options.extension)
+        FileOutputStream(file).use { compress(scaledBitmap, options, it) }
+        return Uri.fromFile(file).toString()
+      }
+      val outputStream = ByteArrayOutputStream(scaledBitmap.width * scaledBitmap.height / 4)
+      compress(scaledBitmap, options, outputStream)
+      return Base64.encodeToString(outputStream.toByteArray(), Base64.DEFAULT)
+    } finally {
+      if (scaledBitmap !== bitmap) {
+        releaseBitmap(scaledBitmap)
+      }
+    }
+  }
+
+  private fun compress(
+    bitmap: Bitmap,
+    options: Options,
+    outputStream: OutputStream,
+  ) {
+    if (!bitmap.compress(options.format, options.quality, outputStream)) {
+      throw IllegalStateException("Unable to encode captured frame")
+    }
+  }
+
+  private fun scale(
+    bitmap: Bitmap,
+    maxDimension: Int?,
+  ): Bitmap {
+    val largestDimension = max(bitmap.width, bitmap.height)
+    if (maxDimension == null || largestDimension <= maxDimension) {
+      return bitmap
+    }
+    val ratio = maxDimension.toFloat() / largestDimension
+    val width = (bitmap.width * ratio).roundToInt().coerceAtLeast(1)
+    val height = (bitmap.height * ratio).roundToInt().coerceAtLeast(1)
+    val scaledBitmap = acquireBitmap(width, height)
+    scaledBitmap.eraseColor(Color.TRANSPARENT)
+    Canvas(scaledBitmap).drawBitmap(bitmap, null, Rect(0, 0, width, height), scalePaint)
+    return scaledBitmap
+  }
+
+  // Older captures are deleted, so that frequent captures to file don't fill up the cache directory
+  private fun createCaptureFile(
+    context: Context,
+    extension: String,
+  ): File {
+    val directory = File(context.cacheDir, CAPTURES_DIRECTORY)
+    if (!directory.exists()) {
+      directory.mkdirs()
+    }
+    directory
+      .listFiles()
+      ?.sortedByDescending { it.lastModified() }
+      ?.drop(MAX_CAPTURE_FILES - 1)
+      ?.forEach { it.delete() }
+    return File(directory, "capture-${System.currentTimeMillis()}.$extension")
+  }
+
+  private fun acquireBitmap(
+    width: Int,
+    height: Int,
+  ): Bitmap {
+    synchronized(bitmapPool) {
+      val iterator = bitmapPool.iterator()
+      while (iterator.hasNext()) {
+        val bitmap = iterator.next()
+        if (bitmap.width == width && bitmap.height == height) {
+          iterator.remove()
+          return bitmap
+        }
+      }
+    }
+    return Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888)
+  }
+
+  private fun releaseBitmap(bitmap: Bitmap) {
+    synchronized(bitmapPool) {
+      if (bitmapPool.size >= MAX_POOLED_BITMAPS) {
+        bitmapPool.removeFirst().recycle()
+      }
+      bitmapPool.addLast(bitmap)
+    }
+  }
+}
@@ -1,17 +1,13 @@
 package com.reactnativehmssdk
 
 import android.content.Context
-import android.graphics.Bitmap
 import android.os.Build
-import android.os.Handler
-import android.util.Base64
 import android.util.Log
-import android.view.PixelCopy
+import android.view.View
 import android.webkit.URLUtil
 import androidx.annotation.RequiresApi
 import com.facebook.react.bridge.*
 import com.facebook.react.uimanager.events.RCTEventEmitter
-import hms.webrtc.SurfaceViewRenderer
 import live.hms.video.audio.HMSAudioManager
 import live.hms.video.error.HMSException
 import live.hms.video.events.AgentType
@@ -28,7 +24,6 @@ import live.hms.video.sdk.models.role.HMSRole
 import live.hms.video.services.LogAlarmManager
 import live.hms.video.utils.HMSLogger
 import live.hms.video.utils.HmsUtilities
-import java.io.ByteArrayOutputStream
 import java.util.*
 import kotlin.collections.ArrayList
 import kotlin.coroutines.resume
@@ -105,9 +100,10 @@ object HMSHelper {
   fun getPeerFromPeerId(
     peerId: String?,
     room: HMSRoom?,
+    roomIndex: HMSRoomIndex? = null,
   ): HMSPeer? {
     if (peerId != null && room != null) {
-      return HmsUtilities.getPeer(peerId, room)
+      return roomIndex?.getPeer(peerId, room) ?: HmsUtilities.getPeer(peerId, room)
     }
     return null
   }
@@ -115,12 +111,13 @@ object HMSHelper {
   suspend fun getRemotePeerFromPeerId(
     peerId: String?,
     hmsSDK: HMSSDK?,
+    roomIndex: HMSRoomIndex? = null,
   ): HMSRemotePeer? =
     suspendCoroutine {
       val room = hmsSDK?.getRoom()
 
       if (peerId != null && room != null) {
-        val peerFromRoom = HmsUtilities.getPeer(peerId, room) as? HMSRemotePeer
+        val peerFromRoom = getPeerFromPeerId(peerId, room, roomIndex) as? HMSRemotePeer
         if (peerFromRoom != null) {
           it.resume(peerFromRoom)
         } else {
@@ -135,6 +132,7 @@ object HMSHelper {
 
               override fun onSuccess(result: ArrayList<HMSPeer>) {
                 val peerFromIterator = result[0]
+                roomIndex?.updatePeer(peerFromIterator)
                 it.resume(peerFromIterator as? HMSRemotePeer)
               }
             },
@@ -180,8 +178,12 @@ object HMSHelper {
   fun getRemoteAudioTrackFromTrackId(
     trackId: String?,
     room: HMSRoom?,
+    roomIndex: HMSRoomIndex? = null,
   ): HMSRemoteAudioTrack? {
     if (trackId != null && room != null) {
+      if (roomIndex != null) {
+        return roomIndex.getTrack(trackId, room) as? HMSRemoteAudioTrack
+      }
       return HmsUtilities.getAudioTrack(trackId, room) as? HMSRemoteAudioTrack
     }
     return null
@@ -197,8 +199,12 @@ object HMSHelper {
   fun getRemoteVideoTrackFromTrackId(
     trackId: String?,
     room: HMSRoom?,
+    roomIndex: HMSRoomIndex? = null,
   ): HMSRemoteVideoTrack? {
     if (trackId != null && room != null) {
+      if (roomIndex != null) {
+        return roomIndex.getTrack(trackId, room) as? HMSRemoteVideoTrack
+      }
       return HmsUtilities.getVideoTrack(trackId, room) as? HMSRemoteVideoTrack
     }
     return null
@@ -207,9 +213,10 @@ object HMSHelper {
   fun getTrackFromTrackId(
     trackId: String?,
     room: HMSRoom?,
+    roomIndex: HMSRoomIndex? = null,
   ): HMSTrack? {
     if (trackId != null && room != null) {
-      return HmsUtilities.getTrack(trackId, room)
+      return roomIndex?.getTrack(trackId, room) ?: HmsUtilities.getTrack(trackId, room)
     }
     return null
   }
@@ -621,7 +628,7 @@ object HMSHelper {
   // TODO: replace surfaceView with hmsVideoView
   @RequiresApi(Build.VERSION_CODES.N)
   fun captureSurfaceView(
-    surfaceView: SurfaceViewRenderer,
+    surfaceView: View,
     sdkId: String,
     args: ReadableArray?,
     context: Context,
@@ -633,47 +640,38 @@ object HMSHelper {
     } else {
       output.putInt("requestId", -1)
     }
+    val options =
+      if (args != null && args.size() > 1 && !args.isNull(1)) {
+        HMSFrameCapturer.Options.from(args.getMap(1))
+      } else {
+        HMSFrameCapturer.Options.DEFAULT
+      }
     val reactContext = context as ReactContext
     try {
-      val bitmap: Bitmap =
-        Bitmap.createBitmap(surfaceView.width, surfaceView.height, Bitmap.Config.ARGB_8888)
-      PixelCopy.request(
+      HMSFrameCapturer.capture(
         surfaceView,
-        bitmap,
-        { copyResult ->
-          if (copyResult == PixelCopy.SUCCESS) {
-            Log.d("captureSurfaceView", "bitmap: $bitmap")
-            val byteArrayOutputStream = ByteArrayOutputStream()
-            bitmap.compress(Bitmap.CompressFormat.PNG, 100, byteArrayOutputStream)
-            val byteArray = byteArrayOutputStream.toByteArray()
-            val encoded: String = Base64.encodeToString(byteArray, Base64.DEFAULT)
-            Log.d("captureSurfaceView", "Base64: $encoded")
-            output.putString("result", encoded)
-            reactContext
-              .getJSModule(RCTEventEmitter::class.java)
-              .receiveEvent(id, "captureFrame", output)
-          } else {
-            Log.e("captureSurfaceView", "copyResult: $copyResult")
-            HMSManager.hmsCollection[sdkId]?.emitHMSError(
-              HMSException(
-                103,
-                copyResult.toString(),
-                copyResult.toString(),
-                copyResult.toString(),
-                copyResult.toString(),
-              ),
-            )
-            output.putString("error", copyResult.toString())
-            reactContext
-              .getJSModule(RCTEventEmitter::class.java)
-              .receiveEvent(id, "captureFrame", output)
-          }
+        reactContext,
+        options,
+        { result ->
+          output.putString("result", result)
+          reactContext
+            .getJSModule(RCTEventEmitter::class.java)
+            .receiveEvent(id, "captureFrame", output)
+        },
+        { error ->
+          Log.e("captureSurfaceView", "error: $error")
+          HMSManager.hmsCollection[sdkId]?.emitHMSError(
+            HMSException(103, error, error, error, error),
+          )
+          output.putString("error", error)
+          reactContext
+            .getJSModule(RCTEventEmitter::class.java)
+            .receiveEvent(id, "captureFrame", output)
         },
-        Handler(),
       )
     } catch (e: Exception) {
       Log.e("captureSurfaceView", "error: $e")
-      HMSManager.hmsCollection[sdkId]?.emitHMSError(e as HMSException)
+      (e as? HMSException)?.let { HMSManager.hmsCollection[sdkId]?.emitHMSError(it) }
       output.putString("error", e.message)
       reactContext.getJSModule(RCTEventEmitter::class.java).receiveEvent(id, "captureFrame", output)
     }
@@ -726,8 +724,18 @@ object HMSHelper {
     }
     val limit = data.getInt("limit")
     val role = data.getString("byRoleName")
-    val peerIds = data.getArray("byPeerIds")?.toArrayList() as? ArrayList<String>
+    val peerIds = data.getArray("byPeerIds")
+
+    return getPeerListIteratorOptions(limit, role, peerIds)
+  }
+
+  fun getPeerListIteratorOptions(
+    limit: Int,
+    byRoleName: String?,
+    byPeerIds: ReadableArray?,
+  ): PeerListIteratorOptions {
+    val peerIds = byPeerIds?.toArrayList() as? ArrayList<String>
 
-    return PeerListIteratorOptions(null, role, peerIds, limit)
+    return PeerListIteratorOptions(null, byRoleName, peerIds, limit)
   }
 }
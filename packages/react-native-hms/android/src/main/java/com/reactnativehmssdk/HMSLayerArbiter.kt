@@ -0,0 +1,394 @@
+package com.reactnativehmssdk
+
+import android.os.Handler
+import android.os.Looper
+import android.os.SystemClock
+import com.facebook.react.bridge.Arguments
+import com.facebook.react.bridge.ReadableMap
+import com.facebook.react.bridge.WritableArray
+import com.facebook.react.bridge.WritableMap
+import live.hms.video.media.settings.HMSLayer
+import live.hms.video.media.tracks.HMSRemoteVideoTrack
+import kotlin.math.max
+
+/**
+ * Picks simulcast layers of all remote video tracks rendered in `HMSView`s of an instance jointly,
+ * under a downlink bandwidth budget.
+ *
+ * Every track wants the lowest layer which covers the largest visible view showing it. All tracks start
+ * from the `LOW` layer, then tracks are upgraded one layer at a time, largest views first, while the estimated
+ * bitrate of all layers stays within the budget. Budget is the received bitrate from `onRTCStats` with some
+ * headroom, reduced when packets are lost, and capped by `maxBitrate` of the policy. As received bitrate depends
+ * on the layers picked, layers already picked are kept while no packets are lost, and one more layer is probed
+ * every `PROBE_INTERVAL_MS` beyond the budget, so that tracks can step up again after being lowered.
+ * Views of an enabled arbiter don't select layers on their own. Decisions are emitted with
+ * `ON_SIMULCAST_LAYER_DECISIONS` event whenever they change.
+ *
+ * Views & decisions are handled on the main thread.
+ */
+class HMSLayerArbiter(
+  private val sdkId: String,
+  private val delegate: HMSManager,
+) {
+  companion object {
+    const val DECISIONS_EVENT = "ON_SIMULCAST_LAYER_DECISIONS"
+    private const val EVALUATION_DELAY_MS = 200L
+    private const val DEFAULT_HEADROOM = 0.25
+    private const val DEFAULT_KBPS_PER_PIXEL = 0.0025
+    private const val LOSS_BACKOFF = 0.85
+    private const val LOSS_RATE_THRESHOLD = 0.02
+    private const val ESTIMATE_SMOOTHING = 0.3
+    private const val PROBE_INTERVAL_MS = 5000L
+
+    // loss rate is ignored when video stats haven't been received for this long
+    private const val LOSS_RATE_TIMEOUT_MS = 3000L
+
+    // Layers from lowest to highest
+    private val LAYERS = listOf(HMSLayer.LOW, HMSLayer.MEDIUM, HMSLayer.HIGH)
+
+    // Used when a track doesn't have layer definitions, [width, height]
+    private val DEFAULT_RESOLUTIONS =
+      mapOf(
+        HMSLayer.LOW to Pair(320, 180),
+        HMSLayer.MEDIUM to Pair(640, 360),
+        HMSLayer.HIGH to Pair(1280, 720),
+      )
+  }
+
+  data class Policy(
+    val enabled: Boolean,
+    val maxBitrate: Double?,
+    val headroom: Double,
+    val kbpsPerPixel: Double,
+  ) {
+    companion object {
+      val DISABLED = Policy(false, null, DEFAULT_HEADROOM, DEFAULT_KBPS_PER_PIXEL)
+
+      fun from(data: ReadableMap): Policy =
+        Policy(
+          enabled = data.hasKey("enabled") && !data.isNull("enabled") && data.getBoolean("enabled"),
+          maxBitrate =
+            if (data.hasKey("maxBitrate") && !data.isNull("maxBitrate")) data.getDouble("maxBitrate") else null,
+          headroom =
+            if (data.hasKey("headroom") && !data.isNull("headroom")) {
+              data.getDouble("headroom").coerceAtLeast(0.0)
+            } else {
+              DEFAULT_HEADROOM
+            },
+          kbpsPerPixel =
+            if (data.hasKey("kbpsPerPixel") && !data.isNull("kbpsPerPixel")) {
+              data.getDouble("kbpsPerPixel").coerceAtLeast(0.0)
+            } else {
+              DEFAULT_KBPS_PER_PIXEL
+            },
+        )
+    }
+  }
+
+  private class Demand(
+    val track: HMSRemoteVideoTrack,
+    var width: Int,
+    var height: Int,
+    val costs: Map<HMSLayer, Double>,
+    val resolutions: Map<HMSLayer, Pair<Int, Int>>,
+  ) {
+    var desiredIndex = 0
+    var index = 0
+  }
+
+  private class Decision(
+    val layer: HMSLayer,
+    val desiredLayer: HMSLayer,
+    val width: Int,
+    val height: Int,
+  )
+
+  var policy = Policy.DISABLED
+    private set
+
+  private val handler = Handler(Looper.getMainLooper())
+  private val views = LinkedHashSet<HMSView>()
+
+  @Volatile
+  private var decisions = mapOf<String, Decision>()
+  private var isEvaluationPending = false
+
+  // updated on the stats thread, read on the main thread
+  @Volatile
+  private var downlinkEstimate = 0.0
+
+  @Volatile
+  private var lossRate = 0.0
+
+  @Volatile
+  private var lossRateUpdatedAtMs = 0L
+  private var lastPacketsLost = 0L
+  private var lastPacketsReceived = 0L
+
+  // accessed only on the main thread
+  private var lastProbeAtMs = 0L
+
+  private val evaluationRunnable =
+    Runnable {
+      isEvaluationPending = false
+      evaluate()
+    }
+
+  val isEnabled: Boolean
+    get() = policy.enabled
+
+  fun setPolicy(policy: Policy) {
+    handler.post {
+      val wasEnabled = this.policy.enabled
+      this.policy = policy
+      if (wasEnabled != policy.enabled) {
+        for (view in views) {
+          view.updateLayerArbitration(policy.enabled)
+        }
+      }
+      if (!policy.enabled) {
+        decisions = mapOf()
+      }
+      scheduleEvaluation()
+    }
+  }
+
+  fun register(view: HMSView) {
+    if (views.add(view)) {
+      view.updateLayerArbitration(policy.enabled)
+      scheduleEvaluation()
+    }
+  }
+
+  fun unregister(view: HMSView) {
+    if (views.remove(view)) {
+      scheduleEvaluation()
+    }
+  }
+
+  /**
+   * Updates downlink estimate from video stats of `onRTCStats`, [bitrateReceived] is in kbps
+   */
+  fun updateStats(
+    bitrateReceived: Double,
+    packetsLost: Long,
+    packetsReceived: Long,
+  ) {
+    val lost = packetsLost - lastPacketsLost
+    val received = packetsReceived - lastPacketsReceived
+    lastPacketsLost = packetsLost
+    lastPacketsReceived = packetsReceived
+    // counters go back when tracks are replaced, no loss is assumed for that interval
+    lossRate = if (lost > 0 && received >= 0 && lost + received > 0) lost.toDouble() / (lost + received) else 0.0
+    lossRateUpdatedAtMs = SystemClock.elapsedRealtime()
+
+    downlinkEstimate =
+      if (downlinkEstimate <= 0) {
+        bitrateReceived
+      } else {
+        ESTIMATE_SMOOTHING * bitrateReceived + (1 - ESTIMATE_SMOOTHING) * downlinkEstimate
+      }
+    if (policy.enabled) {
+      handler.post { scheduleEvaluation() }
+    }
+  }
+
+  fun scheduleEvaluation() {
+    if (isEvaluationPending || !policy.enabled) {
+      return
+    }
+    isEvaluationPending = true
+    handler.postDelayed(evaluationRunnable, EVALUATION_DELAY_MS)
+  }
+
+  fun getDecisions(): WritableMap {
+    val data: WritableMap = Arguments.createMap()
+    data.putString("id", sdkId)
+    data.putBoolean("enabled", policy.enabled)
+    data.putDouble("downlinkEstimate", downlinkEstimate)
+    getBudget()?.let { data.putDouble("budget", it) } ?: data.putNull("budget")
+    val tracks: WritableArray = Arguments.createArray()
+    for ((trackId, decision) in decisions) {
+      val track: WritableMap = Arguments.createMap()
+      track.putString("trackId", trackId)
+      track.putString("layer", decision.layer.name)
+      track.putString("desiredLayer", decision.desiredLayer.name)
+      track.putInt("viewWidth", decision.width)
+      track.putInt("viewHeight", decision.height)
+      tracks.pushMap(track)
+    }
+    data.putArray("tracks", tracks)
+    return data
+  }
+
+  fun clear() {
+    handler.post {
+      handler.removeCallbacks(evaluationRunnable)
+      isEvaluationPending = false
+      decisions = mapOf()
+      downlinkEstimate = 0.0
+      lossRate = 0.0
+      lossRateUpdatedAtMs = 0
+      lastPacketsLost = 0
+      lastPacketsReceived = 0
+      lastProbeAtMs = 0
+    }
+  }
+
+  private fun isLossy(): Boolean =
+    lossRate > LOSS_RATE_THRESHOLD && SystemClock.elapsedRealtime() - lossRateUpdatedAtMs < LOSS_RATE_TIMEOUT_MS
+
+  // Budget in kbps, `null` if there is neither an estimate nor a `maxBitrate`
+  private fun getBudget(): Double? {
+    val estimate = downlinkEstimate
+    val estimatedBudget =
+      when {
+        estimate <= 0 -> null
+        isLossy() -> estimate * LOSS_BACKOFF
+        else -> estimate * (1 + policy.headroom)
+      }
+    val maxBitrate = policy.maxBitrate
+    return when {
+      estimatedBudget == null -> maxBitrate
+      maxBitrate == null -> estimatedBudget
+      else -> minOf(estimatedBudget, maxBitrate)
+    }
+  }
+
+  private fun evaluate() {
+    if (!policy.enabled) {
+      return
+    }
+
+    // largest visible view of every track
+    val demands = LinkedHashMap<String, Demand>()
+    for (view in views) {
+      val track = view.videoTrack as? HMSRemoteVideoTrack ?: continue
+      val isVisible = view.isAttachedToWindow && !view.isRenderingPaused
+      val width = if (isVisible) view.width else 0
+      val height = if (isVisible) view.height else 0
+      val demand = demands[track.trackId]
+      if (demand == null) {
+        demands[track.trackId] = createDemand(track, width, height)
+      } else if (width * height > demand.width * demand.height) {
+        demand.width = width
+        demand.height = height
+      }
+    }
+
+    var total = 0.0
+    var pickedTotal = 0.0
+    for ((trackId, demand) in demands) {
+      demand.desiredIndex = getDesiredIndex(demand)
+      total += demand.costs.getValue(LAYERS[0])
+      val pickedLayer = decisions[trackId]?.layer ?: LAYERS[0]
+      pickedTotal += demand.costs.getValue(LAYERS[minOf(LAYERS.indexOf(pickedLayer), demand.desiredIndex)])
+    }
+
+    // upgrade one layer at a time, largest views first, while within the budget
+    val now = SystemClock.elapsedRealtime()
+    val isLossy = isLossy()
+    val maxBitrate = policy.maxBitrate ?: Double.MAX_VALUE
+    if (isLossy) {
+      lastProbeAtMs = now
+    }
+    val estimatedBudget = getBudget() ?: Double.MAX_VALUE
+    val budget = if (isLossy) estimatedBudget else max(estimatedBudget, minOf(pickedTotal, maxBitrate))
+    val candidates = demands.values.sortedByDescending { it.width * it.height }
+    var upgraded = true
+    while (upgraded) {
+      upgraded = false
+      for (demand in candidates) {
+        if (demand.index >= demand.desiredIndex) {
+          continue
+        }
+        val delta = demand.costs.getValue(LAYERS[demand.index + 1]) - demand.costs.getValue(LAYERS[demand.index])
+        if (total + delta <= budget) {
+          total += delta
+          demand.index++
+          upgraded = true
+        }
+      }
+    }
+
+    // probe one layer beyond the budget, as received bitrate can't grow before a higher layer is picked
+    if (!isLossy && now - lastProbeAtMs >= PROBE_INTERVAL_MS) {
+      for (demand in candidates) {
+        if (demand.index >= demand.desiredIndex) {
+          continue
+        }
+        val delta = demand.costs.getValue(LAYERS[demand.index + 1]) - demand.costs.getValue(LAYERS[demand.index])
+        if (total + delta <= maxBitrate) {
+          total += delta
+          demand.index++
+          lastProbeAtMs = now
+          break
+        }
+      }
+    }
+
+    val newDecisions = LinkedHashMap<String, Decision>()
+    var hasChanged = false
+    for ((trackId, demand) in demands) {
+      val layer = LAYERS[demand.index]
+      val previous = decisions[trackId]
+      if (previous?.layer != layer) {
+        setLayer(demand.track, layer)
+      }
+      val decision = Decision(layer, LAYERS[demand.desiredIndex], demand.width, demand.height)
+      if (previous == null || previous.layer != layer || previous.desiredLayer != decision.desiredLayer) {
+        hasChanged = true
+      }
+      newDecisions[trackId] = decision
+    }
+    hasChanged = hasChanged || newDecisions.size != decisions.size
+    decisions = newDecisions
+
+    if (hasChanged) {
+      delegate.emitEvent(DECISIONS_EVENT, getDecisions())
+    }
+  }
+
+  private fun createDemand(
+    track: HMSRemoteVideoTrack,
+    width: Int,
+    height: Int,
+  ): Demand {
+    val resolutions = HashMap(DEFAULT_RESOLUTIONS)
+    try {
+      for (definition in track.getLayerDefinition()) {
+        resolutions[definition.layer] = Pair(definition.resolution.width, definition.resolution.height)
+      }
+    } catch (e: Exception) {
+      // default resolutions are used for tracks without layer definitions
+    }
+    val costs = resolutions.mapValues { (_, resolution) -> resolution.first * resolution.second * policy.kbpsPerPixel }
+    return Demand(track, width, height, costs, resolutions)
+  }
+
+  // lowest layer whose larger side covers the larger side of the view, hidden views want the lowest layer
+  private fun getDesiredIndex(demand: Demand): Int {
+    val viewSize = max(demand.width, demand.height)
+    if (viewSize <= 0) {
+      return 0
+    }
+    for ((index, layer) in LAYERS.withIndex()) {
+      val resolution = demand.resolutions.getValue(layer)
+      if (max(resolution.first, resolution.second) >= viewSize) {
+        return index
+      }
+    }
+    return LAYERS.size - 1
+  }
+
+  private fun setLayer(
+    track: HMSRemoteVideoTrack,
+    layer: HMSLayer,
+  ) {
+    try {
+      track.setLayer(layer)
+    } catch (e: Exception) {
+      // track is no longer available
+    }
+  }
+}
@@ -233,6 +233,16 @@ class HMSManager(
     hms?.changeRoleOfPeer(data, promise)
   }
 
+  @ReactMethod
+  fun changeRoleOfPeers(
+    data: ReadableMap,
+    promise: Promise?,
+  ) {
+    val hms = HMSHelper.getHms(data, hmsCollection)
+
+    hms?.changeRoleOfPeers(data, promise)
+  }
+
   @ReactMethod
   fun changeRoleOfPeersWithRoles(
     data: ReadableMap,
@@ -283,6 +293,16 @@ class HMSManager(
     hms?.removePeer(data, callback)
   }
 
+  @ReactMethod
+  fun removePeers(
+    data: ReadableMap,
+    callback: Promise?,
+  ) {
+    val hms = HMSHelper.getHms(data, hmsCollection)
+
+    hms?.removePeers(data, callback)
+  }
+
   @ReactMethod
   fun isPlaybackAllowed(
     data: ReadableMap,
@@ -300,7 +320,7 @@ class HMSManager(
   ) {
     val hms = HMSHelper.getHms(data, hmsCollection)
 
-    hms?.getRoom(callback)
+    hms?.getRoom(data, callback)
   }
 
   @ReactMethod
@@ -668,6 +688,13 @@ class HMSManager(
     return hms.getPeerProperty(data)
   }
 
+  @ReactMethod(isBlockingSynchronousMethod = true)
+  fun getPeerProperties(data: ReadableMap): WritableMap? {
+    val hms = HMSHelper.getHms(data, hmsCollection) ?: return null
+
+    return hms.getPeerProperties(data)
+  }
+
   @ReactMethod(isBlockingSynchronousMethod = true)
   fun getRoomProperty(data: ReadableMap): WritableMap? {
     val hms = HMSHelper.getHms(data, hmsCollection) ?: return null
@@ -1219,6 +1246,16 @@ class HMSManager(
     hms?.getSessionMetadataForKey(data, promise)
   }
 
+  @ReactMethod
+  fun getSessionMetadataForKeys(
+    data: ReadableMap,
+    promise: Promise?,
+  ) {
+    val hms = HMSHelper.getHms(data, hmsCollection)
+
+    hms?.getSessionMetadataForKeys(data, promise)
+  }
+
   @ReactMethod
   fun addKeyChangeListener(
     data: ReadableMap,
@@ -1276,6 +1313,15 @@ class HMSManager(
     hms?.lowerRemotePeerHand(data, promise)
   }
 
+  @ReactMethod
+  fun lowerRemotePeerHands(
+    data: ReadableMap,
+    promise: Promise?,
+  ) {
+    val hms = HMSHelper.getHms(data, hmsCollection)
+    hms?.lowerRemotePeerHands(data, promise)
+  }
+
   @ReactMethod(isBlockingSynchronousMethod = true)
   fun getPeerListIterator(data: ReadableMap): WritableMap? {
     val hms = HMSHelper.getHms(data, hmsCollection) ?: return null
@@ -1300,6 +1346,54 @@ class HMSManager(
     hms?.peerListIteratorNext(data, promise)
   }
 
+  @ReactMethod
+  fun startPeerListStream(
+    data: ReadableMap,
+    promise: Promise?,
+  ) {
+    val hms = HMSHelper.getHms(data, hmsCollection)
+    hms?.startPeerListStream(data, promise)
+  }
+
+  @ReactMethod
+  fun cancelPeerListStream(data: ReadableMap) {
+    val hms = HMSHelper.getHms(data, hmsCollection)
+    hms?.cancelPeerListStream(data)
+  }
+
+  @ReactMethod
+  fun startThumbnailSampler(
+    data: ReadableMap,
+    promise: Promise?,
+  ) {
+    val hms = HMSHelper.getHms(data, hmsCollection)
+    hms?.startThumbnailSampler(data, promise)
+  }
+
+  @ReactMethod
+  fun stopThumbnailSampler(data: ReadableMap) {
+    val hms = HMSHelper.getHms(data, hmsCollection)
+    hms?.stopThumbnailSampler(data)
+  }
+
+  @ReactMethod
+  fun setSimulcastLayerPolicy(
+    data: ReadableMap,
+    promise: Promise?,
+  ) {
+    val hms = HMSHelper.getHms(data, hmsCollection)
+    hms?.setSimulcastLayerPolicy(data, promise)
+  }
+
+  @ReactMethod
+  fun getSimulcastLayerDecisions(
+    data: ReadableMap,
+    promise: Promise?,
+  ) {
+    val hms = HMSHelper.getHms(data, hmsCollection)
+    hms?.getSimulcastLayerDecisions(promise)
+  }
+
   @ReactMethod
   fun checkNotifications(promise: Promise?) {
     val reactApplicationContext = reactApplicationContext
@@ -1391,6 +1485,36 @@ class HMSManager(
       .emit(event, data)
   }
 
+  // region Synchronous read methods for scalar properties
+  // These take typed arguments & return the property value itself, so neither is marshalled as a map.
+  // Other properties are read through the methods taking `ReadableMap`, which are kept for iOS parity.
+  @ReactMethod(isBlockingSynchronousMethod = true)
+  fun getPeerStringPropertySync(
+    id: String,
+    peerId: String,
+    property: String,
+  ): String? = hmsCollection[id]?.getPeerStringProperty(peerId, property)
+
+  @ReactMethod(isBlockingSynchronousMethod = true)
+  fun getPeerBooleanPropertySync(
+    id: String,
+    peerId: String,
+    property: String,
+  ): Boolean? = hmsCollection[id]?.getPeerBooleanProperty(peerId, property)
+
+  @ReactMethod(isBlockingSynchronousMethod = true)
+  fun getRoomStringPropertySync(
+    id: String,
+    property: String,
+  ): String? = hmsCollection[id]?.getRoomStringProperty(property)
+
+  @ReactMethod(isBlockingSynchronousMethod = true)
+  fun getRoomBooleanPropertySync(
+    id: String,
+    property: String,
+  ): Boolean? = hmsCollection[id]?.getRoomBooleanProperty(property)
+  // endregion
+
   // region Polls
   @ReactMethod
   fun quickStartPoll(
@@ -0,0 +1,129 @@
+package com.reactnativehmssdk
+
+import com.facebook.react.bridge.Arguments
+import com.facebook.react.bridge.ReadableMap
+import com.facebook.react.bridge.WritableMap
+import live.hms.video.sdk.models.HMSMessage
+import live.hms.video.sdk.models.HMSMessageRecipient
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
+
+/**
+ * Delivers messages received by a [HMSRNSDK] instance to JS in batches, as a single `ON_MESSAGE` event
+ * carrying all messages received within `batchInterval`.
+ *
+ * Sender & recipient of a message are encoded once per batch, in the `senders` map by `peerID` & in the
+ * `recipients` map by a key of the recipient. Messages refer to them by `senderId` & `recipientKey`, so a
+ * burst of messages from the same peers to the same roles doesn't encode them for every message.
+ */
+class HMSMessageBatcher(
+  private val sdkId: String,
+  private val batchInterval: Long,
+  private val emit: (WritableMap) -> Unit,
+) {
+  companion object {
+    private const val DEFAULT_BATCH_INTERVAL = 100L
+
+    private val executor: ScheduledExecutorService = Executors.newSingleThreadScheduledExecutor()
+
+    fun from(
+      options: ReadableMap?,
+      sdkId: String,
+      emit: (WritableMap) -> Unit,
+    ): HMSMessageBatcher {
+      val batchInterval =
+        if (options != null && options.hasKey("batchInterval") && !options.isNull("batchInterval")) {
+          options.getDouble("batchInterval").toLong().coerceAtLeast(0L)
+        } else {
+          DEFAULT_BATCH_INTERVAL
+        }
+      return HMSMessageBatcher(sdkId, batchInterval, emit)
+    }
+
+    private fun getRecipientKey(recipient: HMSMessageRecipient?): String {
+      if (recipient == null) {
+        return ""
+      }
+      val roleNames = recipient.recipientRoles.joinToString(",") { it.name }
+      return "${recipient.recipientType.name}|${recipient.recipientPeer?.peerID ?: ""}|$roleNames"
+    }
+  }
+
+  private val lock = Any()
+  private var senders = LinkedHashMap<String, WritableMap>()
+  private var recipients = LinkedHashMap<String, WritableMap>()
+  private var messages = ArrayList<WritableMap>()
+  private var flushScheduled = false
+
+  fun enqueue(message: HMSMessage) {
+    synchronized(lock) {
+      val sender = message.sender
+      if (sender != null && !senders.containsKey(sender.peerID)) {
+        senders[sender.peerID] = HMSDecoder.getHmsPeerSubset(sender)
+      }
+      val recipientKey = getRecipientKey(message.recipient)
+      if (!recipients.containsKey(recipientKey)) {
+        recipients[recipientKey] = HMSDecoder.getHmsMessageRecipient(message.recipient)
+      }
+
+      val data: WritableMap = Arguments.createMap()
+      data.putString("message", message.message)
+      data.putString("messageId", message.messageId)
+      data.putString("type", message.type)
+      data.putString("time", message.serverReceiveTime.toString())
+      sender?.let { data.putString("senderId", it.peerID) }
+      data.putString("recipientKey", recipientKey)
+      messages.add(data)
+
+      if (flushScheduled) {
+        return
+      }
+      flushScheduled = true
+    }
+    executor.schedule({ flush() }, batchInterval, TimeUnit.MILLISECONDS)
+  }
+
+  // Pending messages are delivered before clearing, so that messages received just before leaving aren't lost
+  fun clear() {
+    flush()
+  }
+
+  private fun flush() {
+    val batchSenders: Map<String, WritableMap>
+    val batchRecipients: Map<String, WritableMap>
+    val batchMessages: List<WritableMap>
+    synchronized(lock) {
+      flushScheduled = false
+      if (messages.isEmpty()) {
+        return
+      }
+      batchSenders = senders
+      batchRecipients = recipients
+      batchMessages = messages
+      senders = LinkedHashMap()
+      recipients = LinkedHashMap()
+      messages = ArrayList()
+    }
+
+    val sendersMap: WritableMap = Arguments.createMap()
+    for ((peerId, sender) in batchSenders) {
+      sendersMap.putMap(peerId, sender)
+    }
+    val recipientsMap: WritableMap = Arguments.createMap()
+    for ((recipientKey, recipient) in batchRecipients) {
+      recipientsMap.putMap(recipientKey, recipient)
+    }
+    val messagesArray = Arguments.createArray()
+    for (message in batchMessages) {
+      messagesArray.pushMap(message)
+    }
+
+    val data: WritableMap = Arguments.createMap()
+    data.putString("id", sdkId)
+    data.putMap("senders", sendersMap)
+    data.putMap("recipients", recipientsMap)
+    data.putArray("messages", messagesArray)
+    emit(data)
+  }
+}
@@ -0,0 +1,49 @@
+package com.reactnativehmssdk
+
+import live.hms.video.sdk.models.HMSPeer
+
+/**
+ * Peers returned by all `HMSPeerListPager`s of an SDK instance, by `peerID`.
+ *
+ * Pagers can return peers which aren't in the room, as in large rooms, properties of those peers which weren't
+ * projected are read lazily from here with a single lookup. Latest `MAX_CACHED_PEERS` peers are kept, and peers
+ * which leave the room are evicted.
+ */
+class HMSPagedPeerCache {
+  companion object {
+    private const val MAX_CACHED_PEERS = 1000
+  }
+
+  private val lock = Any()
+
+  // eldest peers are dropped when there are more than `MAX_CACHED_PEERS`
+  private val peers =
+    object : LinkedHashMap<String, HMSPeer>() {
+      override fun removeEldestEntry(eldest: MutableMap.MutableEntry<String, HMSPeer>): Boolean = size > MAX_CACHED_PEERS
+    }
+
+  fun getPeer(peerId: String): HMSPeer? =
+    synchronized(lock) {
+      peers[peerId]
+    }
+
+  fun put(result: List<HMSPeer>) {
+    synchronized(lock) {
+      for (peer in result) {
+        peers[peer.peerID] = peer
+      }
+    }
+  }
+
+  fun evict(peerId: String) {
+    synchronized(lock) {
+      peers.remove(peerId)
+    }
+  }
+
+  fun clear() {
+    synchronized(lock) {
+      peers.clear()
+    }
+  }
+}
@@ -0,0 +1,211 @@
+package com.reactnativehmssdk
+
+import com.facebook.react.bridge.Arguments
+import com.facebook.react.bridge.Promise
+import com.facebook.react.bridge.ReadableMap
+import com.facebook.react.bridge.WritableArray
+import com.facebook.react.bridge.WritableMap
+import live.hms.video.error.HMSException
+import live.hms.video.sdk.listeners.PeerListResultListener
+import live.hms.video.sdk.models.*
+
+/**
+ * Pages of a `PeerListIterator`, encoded for JS.
+ *
+ * With `fields`, peers carry only `peerID` & the projected fields. A projected `role` is sent as `roleName`,
+ * definition of a role is sent once per iterator in the `roles` of the first page having a peer with that role.
+ * With `prefetch`, the next page is fetched & encoded as soon as a page is returned, so that it is ready by the
+ * time JS asks for it. A page requested while it is being fetched is resolved once the fetch completes.
+ * Returned peers are put in the shared `HMSPagedPeerCache` of the SDK instance, so that properties which weren't
+ * projected can be read lazily for peers which aren't in the room, as in large rooms.
+ */
+class HMSPeerListPager(
+  private val iterator: PeerListIterator,
+  private val fields: Set<String>?,
+  private val prefetch: Boolean,
+  private val peerCache: HMSPagedPeerCache,
+) {
+  companion object {
+    // Fields which can be projected, `peerID` is always sent
+    val FIELDS =
+      setOf(
+        "name",
+        "isLocal",
+        "customerUserID",
+        "joinedAt",
+        "metadata",
+        "role",
+        "isHandRaised",
+        "networkQuality",
+        "tracks",
+        "type",
+      )
+
+    fun from(
+      iterator: PeerListIterator,
+      data: ReadableMap?,
+      peerCache: HMSPagedPeerCache,
+    ): HMSPeerListPager {
+      val fields =
+        if (data != null && data.hasKey("fields") && !data.isNull("fields")) {
+          data.getArray("fields")?.toArrayList()?.map { it.toString() }?.filter { FIELDS.contains(it) }?.toSet()
+        } else {
+          null
+        }
+      val prefetch = data != null && data.hasKey("prefetch") && !data.isNull("prefetch") && data.getBoolean("prefetch")
+      return HMSPeerListPager(iterator, fields, prefetch, peerCache)
+    }
+  }
+
+  private class Page(
+    val data: WritableMap?,
+    val error: HMSException?,
+  )
+
+  private val lock = Any()
+  private val sentRoles = HashSet<String>()
+  private var prefetchedPage: Page? = null
+  private var waitingPromise: Promise? = null
+  private var isFetching = false
+
+  fun hasNext(): Boolean =
+    synchronized(lock) {
+      prefetchedPage != null || isFetching || iterator.hasNext()
+    }
+
+  fun next(promise: Promise?) {
+    val page =
+      synchronized(lock) {
+        val page = prefetchedPage
+        prefetchedPage = null
+        if (page == null) {
+          if (waitingPromise != null) {
+            promise?.reject("101", "PeerListIterator is already fetching the next page")
+            return
+          }
+          waitingPromise = promise
+          if (isFetching) {
+            // resolved by the fetch in progress
+            return
+          }
+          isFetching = true
+        }
+        page
+      }
+
+    if (page == null) {
+      fetch()
+      return
+    }
+    settle(promise, page)
+    if (prefetch) {
+      prefetchNext()
+    }
+  }
+
+  private fun prefetchNext() {
+    synchronized(lock) {
+      if (isFetching || prefetchedPage != null || !iterator.hasNext()) {
+        return
+      }
+      isFetching = true
+    }
+    fetch()
+  }
+
+  private fun fetch() {
+    iterator.next(
+      object : PeerListResultListener {
+        override fun onError(error: HMSException) {
+          onPage(Page(null, error))
+        }
+
+        override fun onSuccess(result: ArrayList<HMSPeer>) {
+          onPage(Page(encodePage(result), null))
+        }
+      },
+    )
+  }
+
+  private fun onPage(page: Page) {
+    val promise =
+      synchronized(lock) {
+        isFetching = false
+        val promise = waitingPromise
+        waitingPromise = null
+        if (promise == null) {
+          prefetchedPage = page
+        }
+        promise
+      } ?: return
+
+    settle(promise, page)
+    if (prefetch && page.error == null) {
+      prefetchNext()
+    }
+  }
+
+  private fun settle(
+    promise: Promise?,
+    page: Page,
+  ) {
+    if (page.error != null) {
+      promise?.reject(page.error.code.toString(), page.error.message)
+    } else {
+      promise?.resolve(page.data)
+    }
+  }
+
+  private fun encodePage(result: ArrayList<HMSPeer>): WritableMap {
+    peerCache.put(result)
+
+    val data: WritableMap = Arguments.createMap()
+    data.putInt("totalCount", iterator.totalCount)
+
+    val peers: WritableArray = Arguments.createArray()
+    val fields = fields
+    if (fields == null) {
+      for (peer in result) {
+        peers.pushMap(HMSDecoder.getHmsPeer(peer))
+      }
+    } else {
+      val roles: WritableMap = Arguments.createMap()
+      for (peer in result) {
+        if (fields.contains("role") && synchronized(lock) { sentRoles.add(peer.hmsRole.name) }) {
+          roles.putMap(peer.hmsRole.name, HMSDecoder.getHmsRole(peer.hmsRole))
+        }
+        peers.pushMap(encodePeer(peer, fields))
+      }
+      data.putMap("roles", roles)
+    }
+    data.putArray("peers", peers)
+    return data
+  }
+
+  private fun encodePeer(
+    hmsPeer: HMSPeer,
+    fields: Set<String>,
+  ): WritableMap {
+    val peer: WritableMap = Arguments.createMap()
+    peer.putString("peerID", hmsPeer.peerID)
+    for (field in fields) {
+      when (field) {
+        "name" -> peer.putString("name", hmsPeer.name)
+        "isLocal" -> peer.putBoolean("isLocal", hmsPeer.isLocal)
+        "customerUserID" -> hmsPeer.customerUserID?.let { peer.putString("customerUserID", it) }
+        "joinedAt" -> peer.putString("joinedAt", hmsPeer.joinedAt.toString())
+        "metadata" -> peer.putString("metadata", hmsPeer.metadata)
+        "role" -> peer.putString("roleName", hmsPeer.hmsRole.name)
+        "isHandRaised" -> peer.putBoolean("isHandRaised", hmsPeer.isHandRaised)
+        "networkQuality" -> hmsPeer.networkQuality?.let { peer.putMap("networkQuality", HMSDecoder.getHmsNetworkQuality(it)) }
+        "tracks" -> {
+          hmsPeer.audioTrack?.let { peer.putMap("audioTrack", HMSDecoder.getHmsAudioTrack(it)) }
+          hmsPeer.videoTrack?.let { peer.putMap("videoTrack", HMSDecoder.getHmsVideoTrack(it)) }
+          peer.putArray("auxiliaryTracks", HMSDecoder.getAllTracks(hmsPeer.auxiliaryTracks))
+        }
+        "type" -> peer.putString("type", hmsPeer.type.name)
+      }
+    }
+    return peer
+  }
+}
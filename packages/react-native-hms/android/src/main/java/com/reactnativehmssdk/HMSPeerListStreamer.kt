@@ -0,0 +1,172 @@
+package com.reactnativehmssdk
+
+import com.facebook.react.bridge.Arguments
+import com.facebook.react.bridge.WritableArray
+import com.facebook.react.bridge.WritableMap
+import live.hms.video.sdk.models.HMSPeer
+import java.util.UUID
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
+
+/**
+ * Streams the peer list of a room to JS in fixed size pages with `ON_PEER_LIST_PAGE` event.
+ *
+ * Pages are decoded & emitted on a background thread. Peers carry only the name of their role as `roleName`,
+ * definition of a role is sent once per stream in the `roles` of the first page having a peer with that role.
+ * Every page carries a `cursor` from which the stream can be resumed, `cursor` is `null` on the last page.
+ * A stream paused after `maxPages` pages is dropped if it isn't resumed within [PAUSED_STREAM_TTL] ms.
+ */
+class HMSPeerListStreamer(
+  private val sdkId: String,
+  private val delegate: HMSManager,
+) {
+  companion object {
+    const val PAGE_EVENT = "ON_PEER_LIST_PAGE"
+    const val DEFAULT_PAGE_SIZE = 50
+    const val PAUSED_STREAM_TTL = 60_000L
+
+    // Single background thread shared by streams of all instances
+    private val executor: ScheduledExecutorService = Executors.newSingleThreadScheduledExecutor()
+  }
+
+  private class Stream(
+    val peers: List<HMSPeer>,
+  ) {
+    val sentRoles = HashSet<String>()
+
+    @Volatile
+    var isCancelled = false
+
+    // incremented every time the stream is resumed, a paused stream is dropped only if it wasn't resumed since
+    @Volatile
+    var resumeCount = 0
+  }
+
+  private val streams = ConcurrentHashMap<String, Stream>()
+
+  /**
+   * Starts a new stream from [peers] with [streamId], or resumes the stream of [cursor] with [streamId].
+   * [peers] is read on the background thread, so it must not be changed after this call.
+   * Emits at most [maxPages] pages and returns the id & total peer count of the stream, or `null` if
+   * the stream of [cursor] is no longer available.
+   */
+  fun start(
+    peers: List<HMSPeer>,
+    streamId: String?,
+    cursor: String?,
+    pageSize: Int,
+    maxPages: Int?,
+  ): WritableMap? {
+    val stream: Stream
+    val cursorOffset: Int
+    if (cursor != null) {
+      val (cursorStreamId, offset) = parseCursor(cursor) ?: return null
+      stream = streams.remove(cursorStreamId) ?: return null
+      stream.resumeCount++
+      cursorOffset = offset
+    } else {
+      stream = Stream(peers)
+      cursorOffset = 0
+    }
+
+    val id = streamId ?: UUID.randomUUID().toString()
+    streams[id] = stream
+
+    val size = pageSize.coerceAtLeast(1)
+    val offset = cursorOffset.coerceIn(0, stream.peers.size)
+
+    executor.execute {
+      emitPages(id, stream, offset, size, maxPages)
+    }
+
+    val result: WritableMap = Arguments.createMap()
+    result.putString("streamId", id)
+    result.putInt("totalCount", stream.peers.size)
+    return result
+  }
+
+  fun cancel(streamId: String) {
+    streams.remove(streamId)?.isCancelled = true
+  }
+
+  fun clear() {
+    for (stream in streams.values) {
+      stream.isCancelled = true
+    }
+    streams.clear()
+  }
+
+  private fun emitPages(
+    streamId: String,
+    stream: Stream,
+    startOffset: Int,
+    pageSize: Int,
+    maxPages: Int?,
+  ) {
+    var offset = startOffset
+    var emittedPages = 0
+    var isLastPage: Boolean
+    do {
+      if (stream.isCancelled) {
+        return
+      }
+      val end = minOf(offset + pageSize, stream.peers.size)
+
+      val peers: WritableArray = Arguments.createArray()
+      val roles: WritableMap = Arguments.createMap()
+      for (index in offset until end) {
+        val peer = stream.peers[index]
+        if (stream.sentRoles.add(peer.hmsRole.name)) {
+          roles.putMap(peer.hmsRole.name, HMSDecoder.getHmsRole(peer.hmsRole))
+        }
+        peers.pushMap(HMSDecoder.getHmsPeer(peer, roleByName = true))
+      }
+
+      isLastPage = end >= stream.peers.size
+      val data: WritableMap = Arguments.createMap()
+      data.putString("id", sdkId)
+      data.putString("streamId", streamId)
+      data.putInt("offset", offset)
+      data.putInt("totalCount", stream.peers.size)
+      data.putArray("peers", peers)
+      data.putMap("roles", roles)
+      if (isLastPage) {
+        data.putNull("cursor")
+        streams.remove(streamId)
+      } else {
+        data.putString("cursor", "$streamId:$end")
+      }
+      delegate.emitEvent(PAGE_EVENT, data)
+
+      offset = end
+      emittedPages++
+    } while (!isLastPage && (maxPages == null || emittedPages < maxPages))
+
+    if (!isLastPage) {
+      schedulePausedStreamExpiry(streamId, stream)
+    }
+  }
+
+  private fun schedulePausedStreamExpiry(
+    streamId: String,
+    stream: Stream,
+  ) {
+    val resumeCount = stream.resumeCount
+    executor.schedule({
+      if (stream.resumeCount == resumeCount) {
+        streams.remove(streamId, stream)
+      }
+    }, PAUSED_STREAM_TTL, TimeUnit.MILLISECONDS)
+  }
+
+  private fun parseCursor(cursor: String): Pair<String, Int>? {
+    val separatorIndex = cursor.lastIndexOf(':')
+    if (separatorIndex < 0) {
+      return null
+    }
+    val offset = cursor.substring(separatorIndex + 1).toIntOrNull() ?: return null
+    return Pair(cursor.substring(0, separatorIndex), offset)
+  }
+}
@@ -0,0 +1,100 @@
+package com.reactnativehmssdk
+
+import live.hms.video.sdk.models.HMSPeer
+
+/**
+ * Keeps the version at which each peer of a room was last updated or removed, keyed by `peerID`.
+ * Store is updated incrementally from peer & track updates, so that peer properties can be read in bulk
+ * only for the peers changed since a version. Peers themselves are looked up from [HMSRoomIndex].
+ *
+ * Versions are tracked only once [startTracking] is called on the first bulk read, until the store is cleared,
+ * so that rooms which never read peer properties in bulk don't pay for it on every peer & track update.
+ */
+class HMSPeerSnapshotStore {
+  private val lock = Any()
+  private val peerVersions = HashMap<String, Long>()
+  private val removedPeerVersions = HashMap<String, Long>()
+
+  @Volatile
+  var version: Long = 0
+    private set
+
+  @Volatile
+  var isTracking = false
+    private set
+
+  /**
+   * Starts tracking versions with the peers of [peerList] at a new version, if versions aren't tracked already
+   */
+  fun startTracking(peerList: List<HMSPeer>) {
+    if (isTracking) {
+      return
+    }
+    synchronized(lock) {
+      if (isTracking) {
+        return
+      }
+      // updates made while seeding wait for the lock, and are applied at later versions
+      isTracking = true
+      version += 1
+      for (peer in peerList) {
+        peerVersions[peer.peerID] = version
+      }
+    }
+  }
+
+  fun update(peer: HMSPeer) {
+    if (!isTracking) {
+      return
+    }
+    synchronized(lock) {
+      version += 1
+      peerVersions[peer.peerID] = version
+      removedPeerVersions.remove(peer.peerID)
+    }
+  }
+
+  fun update(peerList: List<HMSPeer>) {
+    if (!isTracking) {
+      return
+    }
+    synchronized(lock) {
+      version += 1
+      for (peer in peerList) {
+        peerVersions[peer.peerID] = version
+        removedPeerVersions.remove(peer.peerID)
+      }
+    }
+  }
+
+  fun remove(peerId: String) {
+    if (!isTracking) {
+      return
+    }
+    synchronized(lock) {
+      version += 1
+      peerVersions.remove(peerId)
+      removedPeerVersions[peerId] = version
+    }
+  }
+
+  /**
+   * Returns whether the peer was updated or removed after the [sinceVersion]
+   */
+  fun isChangedSince(
+    peerId: String,
+    sinceVersion: Long,
+  ): Boolean =
+    synchronized(lock) {
+      val peerVersion = peerVersions[peerId] ?: removedPeerVersions[peerId] ?: return true
+      peerVersion > sinceVersion
+    }
+
+  fun clear() {
+    synchronized(lock) {
+      isTracking = false
+      peerVersions.clear()
+      removedPeerVersions.clear()
+    }
+  }
+}
@@ -13,7 +13,6 @@ import live.hms.video.error.HMSException
 import live.hms.video.media.settings.HMSLayer
 import live.hms.video.media.tracks.*
 import live.hms.video.sdk.*
-import live.hms.video.sdk.listeners.PeerListResultListener
 import live.hms.video.sdk.models.*
 import live.hms.video.sdk.models.enums.AudioMixingMode
 import live.hms.video.sdk.models.enums.HMSPeerUpdate
@@ -53,8 +52,22 @@ class HMSRNSDK(
   var eventsEnableStatus = mutableMapOf<String, Boolean>()
   private var sessionStore: HmsSessionStore? = null
   private val keyChangeObservers = mutableMapOf<String, HMSKeyChangeListener?>()
-  private val peerListIterators = mutableMapOf<String, PeerListIterator>()
+  private val peerListIterators = mutableMapOf<String, HMSPeerListPager>()
+  private val pagedPeerCache = HMSPagedPeerCache()
   private var roomMutedLocally = false
+  private var eventBatcher: HMSEventBatcher? = null
+  private var statsPacker: HMSStatsPacker? = null
+  private var deltaEncoder: HMSUpdateDeltaEncoder? = null
+  private var activeSpeakerAggregator: HMSActiveSpeakerAggregator? = null
+  private var messageBatcher: HMSMessageBatcher? = null
+  private val sessionStoreDispatcher: HMSSessionStoreDispatcher
+  private val sessionStoreMirror = HMSSessionStoreMirror()
+  private val peerListStreamer = HMSPeerListStreamer(sdkId, HmsDelegate)
+  private val peerSnapshotStore = HMSPeerSnapshotStore()
+  private val remotePeerResolver = HMSRemotePeerResolver()
+  private val thumbnailSampler = HMSThumbnailSampler(sdkId, HmsDelegate, reactApplicationContext)
+  val layerArbiter = HMSLayerArbiter(sdkId, HmsDelegate)
+  val roomIndex = HMSRoomIndex()
 
   var interactivityCenter: HMSRNInteractivityCenter? = null
 
@@ -94,6 +107,36 @@ class HMSRNSDK(
       }
     }
 
+    if (HMSHelper.areAllRequiredKeysAvailable(data, arrayOf(Pair("eventBatching", "Map")))) {
+      eventBatcher = HMSEventBatcher.from(data?.getMap("eventBatching"), sdkId, HmsDelegate)
+    }
+
+    if (HMSHelper.areAllRequiredKeysAvailable(data, arrayOf(Pair("statsTransport", "Map")))) {
+      statsPacker = HMSStatsPacker.from(data?.getMap("statsTransport"), sdkId, HmsDelegate)
+    }
+
+    if (data?.hasKey("deltaUpdates") == true && data?.getBoolean("deltaUpdates") == true) {
+      deltaEncoder = HMSUpdateDeltaEncoder()
+    }
+
+    if (HMSHelper.areAllRequiredKeysAvailable(data, arrayOf(Pair("activeSpeakers", "Map")))) {
+      activeSpeakerAggregator = HMSActiveSpeakerAggregator.from(data?.getMap("activeSpeakers"))
+    }
+
+    if (HMSHelper.areAllRequiredKeysAvailable(data, arrayOf(Pair("messageBatching", "Map")))) {
+      messageBatcher =
+        HMSMessageBatcher.from(data?.getMap("messageBatching"), sdkId) {
+          emitListenerEvent("ON_MESSAGE", it)
+        }
+    }
+
+    sessionStoreDispatcher =
+      if (HMSHelper.areAllRequiredKeysAvailable(data, arrayOf(Pair("sessionStoreUpdates", "Map")))) {
+        HMSSessionStoreDispatcher.from(data?.getMap("sessionStoreUpdates"), sdkId, HmsDelegate)
+      } else {
+        HMSSessionStoreDispatcher.from(null, sdkId, HmsDelegate)
+      }
+
     this.hmsSDK = builder.build()
 
     hmsSDK?.let {
@@ -152,10 +195,40 @@ class HMSRNSDK(
     sessionStore = null
     keyChangeObservers.clear()
     peerListIterators.clear()
+    pagedPeerCache.clear()
     roomMutedLocally = false
+    // flushed messages may be batched as events, so messages are flushed before the events
+    messageBatcher?.clear()
+    eventBatcher?.clear()
+    statsPacker?.clear()
+    deltaEncoder?.clear()
+    activeSpeakerAggregator?.clear()
+    sessionStoreDispatcher.clear()
+    sessionStoreMirror.clear()
+    peerListStreamer.clear()
+    thumbnailSampler.clear()
+    layerArbiter.clear()
+    HMSViewVisibilityTracker.clear(id)
+    peerSnapshotStore.clear()
+    remotePeerResolver.clear()
+    roomIndex.invalidate()
     HMSDecoder.clearRestrictDataStates()
   }
 
+  // Emits listener events directly or through the event batcher if batching is enabled for the event
+  private fun emitListenerEvent(
+    event: String,
+    data: WritableMap,
+    coalesceKey: String? = null,
+  ) {
+    val batcher = eventBatcher
+    if (batcher != null && batcher.isBatched(event)) {
+      batcher.enqueue(event, data, coalesceKey)
+    } else {
+      delegate.emitEvent(event, data)
+    }
+  }
+
   fun emitHMSError(error: HMSException) {
     if (eventsEnableStatus["ON_ERROR"] != true) {
       return
@@ -378,6 +451,10 @@ class HMSRNSDK(
             }
 
             override fun onJoin(room: HMSRoom) {
+              if (peerSnapshotStore.isTracking) {
+                peerSnapshotStore.update(room.peerList.toList())
+              }
+              roomIndex.invalidate()
               if (eventsEnableStatus["ON_JOIN"] != true) {
                 return
               }
@@ -394,6 +471,15 @@ class HMSRNSDK(
               type: HMSPeerUpdate,
               peer: HMSPeer,
             ) {
+              if (type === HMSPeerUpdate.PEER_LEFT) {
+                peerSnapshotStore.remove(peer.peerID)
+                roomIndex.removePeer(peer.peerID)
+                remotePeerResolver.evict(peer.peerID)
+                pagedPeerCache.evict(peer.peerID)
+              } else {
+                peerSnapshotStore.update(peer)
+                roomIndex.updatePeer(peer)
+              }
               if (eventsEnableStatus["3"] != true) {
                 return
               }
@@ -407,8 +493,12 @@ class HMSRNSDK(
               ) {
                 return
               }
-              val hmsPeer = HMSDecoder.getHmsPeerSubsetForPeerUpdateEvent(peer, type)
-              delegate.emitEvent("3", hmsPeer)
+              val hmsPeer =
+                deltaEncoder?.encodePeerUpdate(peer, type)
+                  ?: HMSDecoder.getHmsPeerSubsetForPeerUpdateEvent(peer, type)
+              val coalesceKey =
+                if (type === HMSPeerUpdate.NETWORK_QUALITY_UPDATED) peer.peerID else null
+              emitListenerEvent("3", hmsPeer, coalesceKey)
             }
 
             override fun onRoomUpdate(
@@ -440,7 +530,7 @@ class HMSRNSDK(
               data.putString("type", updateType)
               data.putMap("room", roomData)
               data.putString("id", id)
-              delegate.emitEvent("ON_ROOM_UPDATE", data)
+              emitListenerEvent("ON_ROOM_UPDATE", data)
             }
 
             override fun onTrackUpdate(
@@ -448,6 +538,13 @@ class HMSRNSDK(
               track: HMSTrack,
               peer: HMSPeer,
             ) {
+              roomIndex.updateTrack(type, track, peer)
+
+              if (type == HMSTrackUpdate.TRACK_REMOVED) {
+                thumbnailSampler.stopTrack(track.trackId)
+                statsPacker?.releaseTrack(track.trackId)
+              }
+
               if (
                 roomMutedLocally &&
                 type == HMSTrackUpdate.TRACK_ADDED &&
@@ -455,15 +552,25 @@ class HMSRNSDK(
                 !peer.isLocal
               ) {
                 val room = hmsSDK?.getRoom()
-                val remoteAudioTrack = HMSHelper.getRemoteAudioTrackFromTrackId(track.trackId, room)
+                val remoteAudioTrack = HMSHelper.getRemoteAudioTrackFromTrackId(track.trackId, room, roomIndex)
                 remoteAudioTrack?.let {
                   it.isPlaybackAllowed = !roomMutedLocally
                 }
               }
 
+              peerSnapshotStore.update(peer)
+
               if (eventsEnableStatus["ON_TRACK_UPDATE"] != true) {
                 return
               }
+              val encoder = deltaEncoder
+              if (encoder != null) {
+                val data = encoder.encodeTrackUpdate(track, peer, type)
+                data.putString("id", id)
+                emitListenerEvent("ON_TRACK_UPDATE", data)
+                return
+              }
+
               val updateType = type.name
               val hmsPeer = HMSDecoder.getHmsPeerSubset(peer)
               val hmsTrack = HMSDecoder.getHmsTrack(track)
@@ -474,13 +581,18 @@ class HMSRNSDK(
               data.putMap("track", hmsTrack)
               data.putString("type", updateType)
               data.putString("id", id)
-              delegate.emitEvent("ON_TRACK_UPDATE", data)
+              emitListenerEvent("ON_TRACK_UPDATE", data)
             }
 
             override fun onMessageReceived(message: HMSMessage) {
               if (eventsEnableStatus["ON_MESSAGE"] != true) {
                 return
               }
+              val batcher = messageBatcher
+              if (batcher != null) {
+                batcher.enqueue(message)
+                return
+              }
               val data: WritableMap = Arguments.createMap()
 
               data.putMap("sender", HMSDecoder.getHmsPeerSubset(message.sender))
@@ -491,11 +603,12 @@ class HMSRNSDK(
               data.putString("id", id)
               data.putMap("recipient", HMSDecoder.getHmsMessageRecipient(message.recipient))
 
-              delegate.emitEvent("ON_MESSAGE", data)
+              emitListenerEvent("ON_MESSAGE", data)
             }
 
             override fun onReconnected() {
               reconnectingStage = false
+              roomIndex.invalidate() // room state may have changed while reconnecting
               if (eventsEnableStatus["RECONNECTED"] != true) {
                 return
               }
@@ -540,6 +653,16 @@ class HMSRNSDK(
               addedPeers: ArrayList<HMSPeer>?,
               removedPeers: ArrayList<HMSPeer>?,
             ) {
+              addedPeers?.let { peers ->
+                peerSnapshotStore.update(peers)
+                peers.forEach { roomIndex.updatePeer(it) }
+              }
+              removedPeers?.forEach {
+                peerSnapshotStore.remove(it.peerID)
+                roomIndex.removePeer(it.peerID)
+                remotePeerResolver.evict(it.peerID)
+                pagedPeerCache.evict(it.peerID)
+              }
               if (eventsEnableStatus["ON_PEER_LIST_UPDATED"] != true) {
                 return
               }
@@ -562,7 +685,7 @@ class HMSRNSDK(
               data.putString("id", id)
               data.putArray("addedPeers", addedPeersArray)
               data.putArray("removedPeers", removedPeersArray)
-              delegate.emitEvent("ON_PEER_LIST_UPDATED", data)
+              emitListenerEvent("ON_PEER_LIST_UPDATED", data)
             }
 
             override fun onTranscripts(transcripts: HmsTranscripts) {
@@ -573,7 +696,7 @@ class HMSRNSDK(
               val transcriptsArray = HMSDecoder.getHmsTranscripts(transcripts.transcripts)
               data.putArray("transcripts", transcriptsArray)
               data.putString("id", id)
-              delegate.emitEvent("ON_TRANSCRIPTS", data)
+              emitListenerEvent("ON_TRANSCRIPTS", data)
             }
 
             override fun onPermissionsRequested(permissions: List<String>) {
@@ -595,6 +718,17 @@ class HMSRNSDK(
               if (eventsEnableStatus["ON_SPEAKER"] != true) {
                 return
               }
+              val aggregator = activeSpeakerAggregator
+              if (aggregator != null) {
+                val rankedSpeakers = aggregator.update(speakers) ?: return
+                val data: WritableMap = Arguments.createMap()
+                data.putString("event", "ON_SPEAKER")
+                data.putArray("speakers", rankedSpeakers)
+                data.putString("id", id)
+                emitListenerEvent("ON_SPEAKER", data, "ON_SPEAKER")
+                return
+              }
+
               val data: WritableMap = Arguments.createMap()
               data.putString("event", "ON_SPEAKER")
 
@@ -610,7 +744,7 @@ class HMSRNSDK(
               }
               data.putArray("speakers", peers)
               data.putString("id", id)
-              delegate.emitEvent("ON_SPEAKER", data)
+              emitListenerEvent("ON_SPEAKER", data, "ON_SPEAKER")
             }
           },
         )
@@ -634,7 +768,7 @@ class HMSRNSDK(
               data.putMap("track", track)
               data.putMap("peer", peer)
               data.putString("id", id)
-              delegate.emitEvent("ON_LOCAL_AUDIO_STATS", data)
+              emitListenerEvent("ON_LOCAL_AUDIO_STATS", data, hmsTrack.trackId)
             }
 
             override fun onLocalVideoStats(
@@ -657,10 +791,14 @@ class HMSRNSDK(
               data.putMap("track", track)
               data.putMap("peer", peer)
               data.putString("id", id)
-              delegate.emitEvent("ON_LOCAL_VIDEO_STATS", data)
+              emitListenerEvent("ON_LOCAL_VIDEO_STATS", data, hmsTrack.trackId)
             }
 
             override fun onRTCStats(rtcStats: HMSRTCStatsReport) {
+              rtcStats.video?.let {
+                layerArbiter.updateStats(it.bitrateReceived, it.packetsLost.toLong(), it.packetsReceived.toLong())
+              }
+
               if (eventsEnableStatus["ON_RTC_STATS"] != true) {
                 return
               }
@@ -682,7 +820,7 @@ class HMSRNSDK(
               data.putArray("audio", audio)
               data.putArray("combined", combined)
               data.putString("id", id)
-              delegate.emitEvent("ON_RTC_STATS", data)
+              emitListenerEvent("ON_RTC_STATS", data, "ON_RTC_STATS")
             }
 
             override fun onRemoteAudioStats(
@@ -693,6 +831,10 @@ class HMSRNSDK(
               if (eventsEnableStatus["ON_REMOTE_AUDIO_STATS"] != true || hmsPeer == null || hmsTrack == null) {
                 return
               }
+              statsPacker?.let {
+                it.addRemoteAudioStats(audioStats, hmsTrack as HMSRemoteAudioTrack, hmsPeer)
+                return
+              }
               val remoteAudioStats =
                 HMSDecoder.getRemoteAudioStats(
                   audioStats,
@@ -705,7 +847,7 @@ class HMSRNSDK(
               data.putMap("track", track)
               data.putMap("peer", peer)
               data.putString("id", id)
-              delegate.emitEvent("ON_REMOTE_AUDIO_STATS", data)
+              emitListenerEvent("ON_REMOTE_AUDIO_STATS", data, hmsTrack.trackId)
             }
 
             override fun onRemoteVideoStats(
@@ -716,6 +858,10 @@ class HMSRNSDK(
               if (eventsEnableStatus["ON_REMOTE_VIDEO_STATS"] != true || hmsPeer == null || hmsTrack == null) {
                 return
               }
+              statsPacker?.let {
+                it.addRemoteVideoStats(videoStats, hmsTrack as HMSRemoteVideoTrack, hmsPeer)
+                return
+              }
               val remoteVideoStats =
                 HMSDecoder.getRemoteVideoStats(
                   videoStats,
@@ -728,7 +874,7 @@ class HMSRNSDK(
               data.putMap("track", track)
               data.putMap("peer", peer)
               data.putString("id", id)
-              delegate.emitEvent("ON_REMOTE_VIDEO_STATS", data)
+              emitListenerEvent("ON_REMOTE_VIDEO_STATS", data, hmsTrack.trackId)
             }
           },
         )
@@ -907,7 +1053,7 @@ class HMSRNSDK(
       )
     if (requiredKeys === null) {
       val peerId = data.getString("peerId")
-      val peer = HMSHelper.getPeerFromPeerId(peerId, hmsSDK?.getRoom())
+      val peer = HMSHelper.getPeerFromPeerId(peerId, hmsSDK?.getRoom(), roomIndex)
       if (peer != null) {
         hmsSDK?.sendDirectMessage(
           data.getString("message") as String,
@@ -948,7 +1094,7 @@ class HMSRNSDK(
       val force = data.getBoolean("force")
 
       if (peerId !== null && role !== null) {
-        val hmsPeer = HMSHelper.getPeerFromPeerId(peerId, hmsSDK?.getRoom())
+        val hmsPeer = HMSHelper.getPeerFromPeerId(peerId, hmsSDK?.getRoom(), roomIndex)
         if (hmsPeer == null) {
           callback?.reject("4000", "PEER_NOT_FOUND")
           return
@@ -995,7 +1141,7 @@ class HMSRNSDK(
       val force = data.getBoolean("force")
 
       if (peerId !== null && role !== null) {
-        val hmsPeer = HMSHelper.getPeerFromPeerId(peerId, hmsSDK?.getRoom())
+        val hmsPeer = HMSHelper.getPeerFromPeerId(peerId, hmsSDK?.getRoom(), roomIndex)
         if (hmsPeer == null) {
           promise?.reject("4000", "PEER_NOT_FOUND")
           return
@@ -1027,6 +1173,34 @@ class HMSRNSDK(
     }
   }
 
+  fun changeRoleOfPeers(
+    data: ReadableMap,
+    promise: Promise?,
+  ) {
+    val requiredKeys =
+      HMSHelper.getUnavailableRequiredKey(
+        data,
+        arrayOf(Pair("peerIds", "Array"), Pair("role", "String"), Pair("force", "Boolean")),
+      )
+    if (requiredKeys === null) {
+      val role = data.getString("role")
+      val force = data.getBoolean("force")
+
+      val hmsRole = HMSHelper.getRoleFromRoleName(role, hmsSDK?.getRoles())
+      if (hmsRole == null) {
+        promise?.reject("4000", "ROLE_NOT_FOUND")
+        return
+      }
+
+      runOnRemotePeers(data, promise) { peer, listener ->
+        hmsSDK?.changeRoleOfPeer(peer, hmsRole, force, listener)
+      }
+    } else {
+      val errorMessage = "changeRoleOfPeers: $requiredKeys"
+      rejectCallback(promise, errorMessage)
+    }
+  }
+
   fun changeRoleOfPeersWithRoles(
     data: ReadableMap,
     promise: Promise?,
@@ -1082,7 +1256,7 @@ class HMSRNSDK(
     if (requiredKeys === null) {
       val trackId = data.getString("trackId")
       val mute = data.getBoolean("mute")
-      val track = HMSHelper.getTrackFromTrackId(trackId, hmsSDK?.getRoom())
+      val track = HMSHelper.getTrackFromTrackId(trackId, hmsSDK?.getRoom(), roomIndex)
       if (track != null) {
         hmsSDK?.changeTrackState(
           track,
@@ -1162,12 +1336,10 @@ class HMSRNSDK(
   ) {
     val requiredKeys = HMSHelper.getUnavailableRequiredKey(data, arrayOf(Pair("trackId", "String")))
     if (requiredKeys === null) {
-      val trackId = data.getString("trackId")
-      val track = HMSHelper.getTrackFromTrackId(trackId, hmsSDK?.getRoom())
-      if (track == null) {
+      val mute = isMute(data.getString("trackId")!!)
+      if (mute == null) {
         callback?.reject("101", "TRACK_NOT_FOUND")
       } else {
-        val mute = track.isMute
         callback?.resolve(mute)
       }
     } else {
@@ -1176,6 +1348,8 @@ class HMSRNSDK(
     }
   }
 
+  fun isMute(trackId: String): Boolean? = HMSHelper.getTrackFromTrackId(trackId, hmsSDK?.getRoom(), roomIndex)?.isMute
+
   fun removePeer(
     data: ReadableMap,
     callback: Promise?,
@@ -1189,7 +1363,7 @@ class HMSRNSDK(
       HMSCoroutineScope.launch {
         val peerId = data.getString("peerId")
 
-        val peer = HMSHelper.getRemotePeerFromPeerId(peerId, hmsSDK)
+        val peer = HMSHelper.getRemotePeerFromPeerId(peerId, hmsSDK, roomIndex)
 
         if (peer != null) {
           hmsSDK?.removePeerRequest(
@@ -1215,6 +1389,56 @@ class HMSRNSDK(
     }
   }
 
+  fun removePeers(
+    data: ReadableMap,
+    callback: Promise?,
+  ) {
+    val requiredKeys =
+      HMSHelper.getUnavailableRequiredKey(
+        data,
+        arrayOf(Pair("peerIds", "Array"), Pair("reason", "String")),
+      )
+    if (requiredKeys === null) {
+      val reason = data.getString("reason") as String
+
+      runOnRemotePeers(data, callback) { peer, listener ->
+        hmsSDK?.removePeerRequest(peer, reason, listener)
+      }
+    } else {
+      val errorMessage = "removePeers: $requiredKeys"
+      rejectCallback(callback, errorMessage)
+    }
+  }
+
+  // Resolves all peers of `peerIds` together & runs [action] on them with bounded parallelism,
+  // resolves with the result of every peer
+  private fun runOnRemotePeers(
+    data: ReadableMap,
+    promise: Promise?,
+    action: (HMSRemotePeer, HMSActionResultListener) -> Unit,
+  ) {
+    val sdk = hmsSDK
+    if (sdk?.getRoom() == null) {
+      promise?.reject("6004", "Room is not available")
+      return
+    }
+    val peerIds = data.getArray("peerIds")!!.toArrayList().map { it.toString() }
+    val maxConcurrency =
+      if (data.hasKey("maxConcurrency") && !data.isNull("maxConcurrency")) {
+        data.getInt("maxConcurrency")
+      } else {
+        HMSRemotePeerResolver.DEFAULT_CONCURRENCY
+      }
+
+    HMSCoroutineScope.launch {
+      try {
+        promise?.resolve(remotePeerResolver.runOnPeers(peerIds, sdk, roomIndex, maxConcurrency, action))
+      } catch (e: HMSException) {
+        promise?.reject(e.code.toString(), e.message)
+      }
+    }
+  }
+
   fun endRoom(
     data: ReadableMap,
     callback: Promise?,
@@ -1382,8 +1606,8 @@ class HMSRNSDK(
     if (requiredKeys === null) {
       val trackId = data.getString("trackId")
       val playbackAllowed = data.getBoolean("playbackAllowed")
-      val remoteAudioTrack = HMSHelper.getRemoteAudioTrackFromTrackId(trackId, hmsSDK?.getRoom())
-      val remoteVideoTrack = HMSHelper.getRemoteVideoTrackFromTrackId(trackId, hmsSDK?.getRoom())
+      val remoteAudioTrack = HMSHelper.getRemoteAudioTrackFromTrackId(trackId, hmsSDK?.getRoom(), roomIndex)
+      val remoteVideoTrack = HMSHelper.getRemoteVideoTrackFromTrackId(trackId, hmsSDK?.getRoom(), roomIndex)
       if (remoteAudioTrack != null) {
         remoteAudioTrack.isPlaybackAllowed = playbackAllowed
         callback?.resolve(true)
@@ -1406,8 +1630,8 @@ class HMSRNSDK(
     val requiredKeys = HMSHelper.getUnavailableRequiredKey(data, arrayOf(Pair("trackId", "String")))
     if (requiredKeys === null) {
       val trackId = data.getString("trackId")
-      val remoteAudioTrack = HMSHelper.getRemoteAudioTrackFromTrackId(trackId, hmsSDK?.getRoom())
-      val remoteVideoTrack = HMSHelper.getRemoteVideoTrackFromTrackId(trackId, hmsSDK?.getRoom())
+      val remoteAudioTrack = HMSHelper.getRemoteAudioTrackFromTrackId(trackId, hmsSDK?.getRoom(), roomIndex)
+      val remoteVideoTrack = HMSHelper.getRemoteVideoTrackFromTrackId(trackId, hmsSDK?.getRoom(), roomIndex)
       when {
         remoteAudioTrack != null -> {
           val isPlaybackAllowed = remoteAudioTrack.isPlaybackAllowed
@@ -1427,8 +1651,12 @@ class HMSRNSDK(
     }
   }
 
-  fun getRoom(callback: Promise?) {
-    val roomData = HMSDecoder.getHmsRoom(hmsSDK?.getRoom())
+  fun getRoom(
+    data: ReadableMap,
+    callback: Promise?,
+  ) {
+    val excludePeers = data.hasKey("excludePeers") && !data.isNull("excludePeers") && data.getBoolean("excludePeers")
+    val roomData = HMSDecoder.getHmsRoom(hmsSDK?.getRoom(), includePeers = !excludePeers)
     callback?.resolve(roomData)
   }
 
@@ -1461,29 +1689,15 @@ class HMSRNSDK(
       val trackId = data.getString("trackId")
       val volume = data.getDouble("volume")
 
-      val remotePeers = hmsSDK?.getRemotePeers()
-
-      if (remotePeers != null) {
-        for (peer in remotePeers) {
-          val audioTrackId = peer.audioTrack?.trackId
-
-          if (audioTrackId == trackId) {
-            peer.audioTrack?.setVolume(volume)
-            callback?.resolve(null)
-            return
-          }
+      val room = hmsSDK?.getRoom()
 
-          for (auxTrack in peer.auxiliaryTracks) {
-            if (auxTrack.trackId == trackId && auxTrack.type == HMSTrackType.AUDIO) {
-              val trackExtracted = auxTrack as? HMSRemoteAudioTrack
+      if (room != null) {
+        val remoteAudioTrack = HMSHelper.getRemoteAudioTrackFromTrackId(trackId, room, roomIndex)
 
-              if (trackExtracted != null) {
-                trackExtracted.setVolume(volume)
-                callback?.resolve(null)
-                return
-              }
-            }
-          }
+        if (remoteAudioTrack != null) {
+          remoteAudioTrack.setVolume(volume)
+          callback?.resolve(null)
+          return
         }
         callback?.reject("101", "TRACK_NOT_FOUND")
       } else {
@@ -1501,12 +1715,8 @@ class HMSRNSDK(
   ) {
     val requiredKeys = HMSHelper.getUnavailableRequiredKey(data, arrayOf(Pair("trackId", "String")))
     if (requiredKeys === null) {
-      val trackId = data.getString("trackId")
-
-      val localPeer = hmsSDK?.getLocalPeer()
-
-      if (localPeer?.audioTrack?.trackId == trackId) {
-        val volume = localPeer?.audioTrack?.volume
+      val volume = getVolume(data.getString("trackId")!!)
+      if (volume != null) {
         callback?.resolve(volume)
         return
       }
@@ -1517,6 +1727,15 @@ class HMSRNSDK(
     }
   }
 
+  fun getVolume(trackId: String): Double? {
+    val localAudioTrack = hmsSDK?.getLocalPeer()?.audioTrack
+
+    if (localAudioTrack?.trackId == trackId) {
+      return localAudioTrack?.volume
+    }
+    return null
+  }
+
   fun changeMetadata(
     data: ReadableMap,
     callback: Promise?,
@@ -1873,65 +2092,165 @@ class HMSRNSDK(
       return null
     }
 
-    val peerId = data.getString("peerId")!!
-    val property = data.getString("property")!!
+    return getPeerProperty(data.getString("peerId")!!, data.getString("property")!!)
+  }
 
-    val hmsRoom = nativeHmsSDK.getRoom()
+  fun getPeerProperty(
+    peerId: String,
+    property: String,
+  ): WritableMap? {
+    val nativeHmsSDK = hmsSDK ?: return null
 
-    val peer = HMSHelper.getPeerFromPeerId(peerId, hmsRoom)
+    val peer = getPeerForPropertyRead(peerId, nativeHmsSDK.getRoom())
 
     if (peer !== null) {
       val result: WritableMap = Arguments.createMap()
 
-      when (property) {
-        "name" -> {
-          result.putString("name", peer.name)
-        }
-        "isLocal" -> {
-          result.putBoolean("isLocal", peer.isLocal)
-        }
-        "type" -> {
-          result.putString("type", peer.type.name)
-        }
-        "networkQuality" -> {
-          if (peer.networkQuality !== null) {
-            result.putMap("networkQuality", HMSDecoder.getHmsNetworkQuality(peer.networkQuality))
-          }
-        }
-        "metadata" -> {
-          result.putString("metadata", peer.metadata)
-        }
-        "role" -> {
-          result.putMap("role", HMSDecoder.getHmsRole(peer.hmsRole))
-        }
-        "isHandRaised" -> {
-          result.putBoolean("isHandRaised", peer.isHandRaised)
-        }
-        "customerUserID" -> {
-          if (peer.customerUserID !== null) {
-            result.putString("customerUserID", peer.customerUserID)
-          }
+      putPeerProperty(result, peer, property)
+
+      return result
+    }
+
+    return null
+  }
+
+  fun getPeerProperties(data: ReadableMap): WritableMap? {
+    val requiredKeys =
+      HMSHelper.getUnavailableRequiredKey(data, arrayOf(Pair("peerIds", "Array"), Pair("properties", "Array")))
+
+    val nativeHmsSDK = hmsSDK
+
+    if (requiredKeys !== null || nativeHmsSDK === null) {
+      return null
+    }
+
+    val peerIds = data.getArray("peerIds")!!.toArrayList().filterIsInstance<String>()
+    val properties = data.getArray("properties")!!.toArrayList().filterIsInstance<String>()
+    val sinceVersion =
+      if (data.hasKey("sinceVersion") && !data.isNull("sinceVersion")) data.getDouble("sinceVersion").toLong() else null
+
+    val hmsRoom = nativeHmsSDK.getRoom()
+    hmsRoom?.let { peerSnapshotStore.startTracking(it.peerList.toList()) }
+
+    // Reading version before peers, so that any update made while reading is sent again in next call
+    val version = peerSnapshotStore.version
+    val result: WritableMap = Arguments.createMap()
+    result.putDouble("version", version.toDouble())
+
+    if (sinceVersion != null && sinceVersion >= version) {
+      return result
+    }
+
+    val peers: WritableMap = Arguments.createMap()
+
+    for (peerId in peerIds) {
+      if (sinceVersion != null && !peerSnapshotStore.isChangedSince(peerId, sinceVersion)) {
+        continue
+      }
+
+      val peer = getPeerForPropertyRead(peerId, hmsRoom)
+
+      if (peer === null) {
+        peers.putNull(peerId)
+        continue
+      }
+
+      val peerData: WritableMap = Arguments.createMap()
+      for (property in properties) {
+        putPeerProperty(peerData, peer, property)
+      }
+      peers.putMap(peerId, peerData)
+    }
+
+    result.putMap("peers", peers)
+    return result
+  }
+
+  fun getPeerStringProperty(
+    peerId: String,
+    property: String,
+  ): String? {
+    val peer = getPeerForPropertyRead(peerId, hmsSDK?.getRoom()) ?: return null
+
+    return when (property) {
+      "name" -> peer.name
+      "type" -> peer.type.name
+      "metadata" -> peer.metadata
+      "customerUserID" -> peer.customerUserID
+      else -> null
+    }
+  }
+
+  fun getPeerBooleanProperty(
+    peerId: String,
+    property: String,
+  ): Boolean? {
+    val peer = getPeerForPropertyRead(peerId, hmsSDK?.getRoom()) ?: return null
+
+    return when (property) {
+      "isLocal" -> peer.isLocal
+      "isHandRaised" -> peer.isHandRaised
+      else -> null
+    }
+  }
+
+  // Peers returned by peer list iterators may not be in the room, their properties are read from the paged peer cache
+  private fun getPeerForPropertyRead(
+    peerId: String,
+    hmsRoom: HMSRoom?,
+  ): HMSPeer? =
+    HMSHelper.getPeerFromPeerId(peerId, hmsRoom, roomIndex)
+      ?: pagedPeerCache.getPeer(peerId)
+
+  private fun putPeerProperty(
+    result: WritableMap,
+    peer: HMSPeer,
+    property: String,
+  ) {
+    when (property) {
+      "name" -> {
+        result.putString("name", peer.name)
+      }
+      "isLocal" -> {
+        result.putBoolean("isLocal", peer.isLocal)
+      }
+      "type" -> {
+        result.putString("type", peer.type.name)
+      }
+      "networkQuality" -> {
+        if (peer.networkQuality !== null) {
+          result.putMap("networkQuality", HMSDecoder.getHmsNetworkQuality(peer.networkQuality))
         }
-        "audioTrack" -> {
-          if (peer.audioTrack !== null) {
-            result.putMap("audioTrack", HMSDecoder.getHmsAudioTrack(peer.audioTrack))
-          }
+      }
+      "metadata" -> {
+        result.putString("metadata", peer.metadata)
+      }
+      "role" -> {
+        result.putMap("role", HMSDecoder.getHmsRole(peer.hmsRole))
+      }
+      "isHandRaised" -> {
+        result.putBoolean("isHandRaised", peer.isHandRaised)
+      }
+      "customerUserID" -> {
+        if (peer.customerUserID !== null) {
+          result.putString("customerUserID", peer.customerUserID)
         }
-        "videoTrack" -> {
-          if (peer.videoTrack !== null) {
-            result.putMap("videoTrack", HMSDecoder.getHmsVideoTrack(peer.videoTrack))
-          }
+      }
+      "audioTrack" -> {
+        if (peer.audioTrack !== null) {
+          result.putMap("audioTrack", HMSDecoder.getHmsAudioTrack(peer.audioTrack))
         }
-        "auxiliaryTracks" -> {
-          result.putArray("auxiliaryTracks", HMSDecoder.getAllTracks(peer.auxiliaryTracks))
+      }
+      "videoTrack" -> {
+        if (peer.videoTrack !== null) {
+          result.putMap("videoTrack", HMSDecoder.getHmsVideoTrack(peer.videoTrack))
         }
-        else -> null
       }
-
-      return result
+      "auxiliaryTracks" -> {
+        result.putArray("auxiliaryTracks", HMSDecoder.getAllTracks(peer.auxiliaryTracks))
+      }
+      else -> null
     }
-
-    return null
   }
 
   fun getRoomProperty(data: ReadableMap): WritableMap? {
@@ -1944,9 +2263,11 @@ class HMSRNSDK(
       return null
     }
 
-    val property = data.getString("property")!!
+    return getRoomProperty(data.getString("property")!!)
+  }
 
-    val hmsRoom = nativeHmsSDK.getRoom()
+  fun getRoomProperty(property: String): WritableMap? {
+    val hmsRoom = hmsSDK?.getRoom()
 
     if (hmsRoom !== null) {
       val data: WritableMap = Arguments.createMap()
@@ -2005,6 +2326,25 @@ class HMSRNSDK(
     return null
   }
 
+  fun getRoomStringProperty(property: String): String? {
+    val hmsRoom = hmsSDK?.getRoom() ?: return null
+
+    return when (property) {
+      "sessionId" -> hmsRoom.sessionId
+      "name" -> hmsRoom.name
+      else -> null
+    }
+  }
+
+  fun getRoomBooleanProperty(property: String): Boolean? {
+    val hmsRoom = hmsSDK?.getRoom() ?: return null
+
+    return when (property) {
+      "isLargeRoom" -> hmsRoom.isLargeRoom
+      else -> null
+    }
+  }
+
   fun enableEvent(
     data: ReadableMap,
     promise: Promise?,
@@ -2052,7 +2392,8 @@ class HMSRNSDK(
     if (requiredKeys === null) {
       val roleName = data.getString("roleName")
       if (roleName != null) {
-        HMSDecoder.setRestrictRoleData(roleName, true)
+        val version = if (data.hasKey("version") && !data.isNull("version")) data.getInt("version") else null
+        HMSDecoder.setRestrictRoleData(roleName, version)
         promise?.resolve(getPromiseResolveData())
       }
     } else {
@@ -2068,7 +2409,7 @@ class HMSRNSDK(
     val requiredKeys = HMSHelper.getUnavailableRequiredKey(data, arrayOf(Pair("trackId", "String")))
     if (requiredKeys === null) {
       val trackId = data.getString("trackId")
-      val remoteVideoTrack = HMSHelper.getRemoteVideoTrackFromTrackId(trackId, hmsSDK?.getRoom())
+      val remoteVideoTrack = HMSHelper.getRemoteVideoTrackFromTrackId(trackId, hmsSDK?.getRoom(), roomIndex)
       if (remoteVideoTrack === null) {
         promise.reject("101", "TRACK_NOT_FOUND")
       } else {
@@ -2087,7 +2428,7 @@ class HMSRNSDK(
     val requiredKeys = HMSHelper.getUnavailableRequiredKey(data, arrayOf(Pair("trackId", "String")))
     if (requiredKeys === null) {
       val trackId = data.getString("trackId")
-      val remoteAudioTrack = HMSHelper.getRemoteAudioTrackFromTrackId(trackId, hmsSDK?.getRoom())
+      val remoteAudioTrack = HMSHelper.getRemoteAudioTrackFromTrackId(trackId, hmsSDK?.getRoom(), roomIndex)
       if (remoteAudioTrack === null) {
         promise.reject("101", "TRACK_NOT_FOUND")
       } else {
@@ -2105,13 +2446,11 @@ class HMSRNSDK(
   ) {
     val requiredKeys = HMSHelper.getUnavailableRequiredKey(data, arrayOf(Pair("trackId", "String")))
     if (requiredKeys === null) {
-      val trackId = data.getString("trackId")
-      val remoteVideoTrack = HMSHelper.getRemoteVideoTrackFromTrackId(trackId, hmsSDK?.getRoom())
-      if (remoteVideoTrack === null) {
+      val layer = getVideoTrackLayer(data.getString("trackId")!!)
+      if (layer === null) {
         promise.reject("101", "TRACK_NOT_FOUND")
       } else {
-        val layer = remoteVideoTrack.getLayer()
-        promise.resolve(layer.name)
+        promise.resolve(layer)
       }
     } else {
       val errorMessage = "getVideoTrackLayer: $requiredKeys"
@@ -2119,6 +2458,9 @@ class HMSRNSDK(
     }
   }
 
+  fun getVideoTrackLayer(trackId: String): String? =
+    HMSHelper.getRemoteVideoTrackFromTrackId(trackId, hmsSDK?.getRoom(), roomIndex)?.getLayer()?.name
+
   fun getVideoTrackLayerDefinition(
     data: ReadableMap,
     promise: Promise,
@@ -2126,7 +2468,7 @@ class HMSRNSDK(
     val requiredKeys = HMSHelper.getUnavailableRequiredKey(data, arrayOf(Pair("trackId", "String")))
     if (requiredKeys === null) {
       val trackId = data.getString("trackId")
-      val remoteVideoTrack = HMSHelper.getRemoteVideoTrackFromTrackId(trackId, hmsSDK?.getRoom())
+      val remoteVideoTrack = HMSHelper.getRemoteVideoTrackFromTrackId(trackId, hmsSDK?.getRoom(), roomIndex)
       if (remoteVideoTrack === null) {
         promise.reject("101", "TRACK_NOT_FOUND")
       } else {
@@ -2156,7 +2498,7 @@ class HMSRNSDK(
         return
       }
 
-      val remoteVideoTrack = HMSHelper.getRemoteVideoTrackFromTrackId(trackId, hmsSDK?.getRoom())
+      val remoteVideoTrack = HMSHelper.getRemoteVideoTrackFromTrackId(trackId, hmsSDK?.getRoom(), roomIndex)
 
       if (remoteVideoTrack === null) {
         promise?.reject("101", "TRACK_NOT_FOUND")
@@ -2322,6 +2664,13 @@ class HMSRNSDK(
           return
         }
 
+        // subscribed keys are kept up to date by their key change listeners
+        val entry = sessionStoreMirror.get(key)
+        if (entry != null) {
+          promise?.resolve(HMSSessionStoreDispatcher.getValue(entry.value))
+          return
+        }
+
         it.get(
           key,
           object : HMSSessionMetadataListener {
@@ -2330,23 +2679,8 @@ class HMSRNSDK(
             }
 
             override fun onSuccess(sessionMetadata: JsonElement?) {
-              sessionMetadata.let { sm ->
-                if (sm == null) {
-                  promise?.resolve(null)
-                } else {
-                  if (sm.isJsonPrimitive) {
-                    promise?.resolve(sm)
-                  } else if (sm.isJsonNull) {
-                    promise?.resolve(null)
-                  } else if (sm.isJsonArray) {
-                    promise?.resolve(HMSDecoder.getReadableArrayFromJsonArray(sm.asJsonArray))
-                  } else if (sm.isJsonObject) {
-                    promise?.resolve(HMSDecoder.getReadableMapFromJsonObject(sm.asJsonObject))
-                  } else {
-                    promise?.resolve(sm.toString())
-                  }
-                }
-              }
+              val fetchedEntry = sessionStoreMirror.recordFetch(key, sessionMetadata)
+              promise?.resolve(HMSSessionStoreDispatcher.getValue(fetchedEntry.value))
             }
           },
         )
@@ -2357,6 +2691,94 @@ class HMSRNSDK(
     }
   }
 
+  fun getSessionMetadataForKeys(
+    data: ReadableMap,
+    promise: Promise?,
+  ) {
+    val requiredKeys = HMSHelper.getUnavailableRequiredKey(data, arrayOf(Pair("keys", "Array")))
+    if (requiredKeys === null) {
+      val keys = data.getArray("keys")!!.toArrayList().map { it.toString() }
+
+      sessionStore.let {
+        if (it === null) {
+          val errorMessage = "getSessionMetadataForKeys: HmsSessionStore instance is not available!"
+          rejectCallback(promise, errorMessage)
+          return
+        }
+
+        val entries = arrayOfNulls<HMSSessionStoreMirror.Entry>(keys.size)
+        val missingIndices = mutableListOf<Int>()
+        for ((index, key) in keys.withIndex()) {
+          entries[index] = sessionStoreMirror.get(key)
+          if (entries[index] == null) {
+            missingIndices.add(index)
+          }
+        }
+
+        val resolveEntries = {
+          val array = Arguments.createArray()
+          for ((index, key) in keys.withIndex()) {
+            val map = Arguments.createMap()
+            map.putString("key", key)
+            HMSSessionStoreDispatcher.putValue(map, "value", entries[index]?.value)
+            map.putDouble("version", entries[index]?.version?.toDouble() ?: 0.0)
+            array.pushMap(map)
+          }
+          promise?.resolve(array)
+        }
+
+        if (missingIndices.isEmpty()) {
+          resolveEntries()
+          return
+        }
+
+        // keys which aren't mirrored are fetched together, the promise settles once all of them are fetched
+        val lock = Any()
+        var remaining = missingIndices.size
+        var isSettled = false
+        for (index in missingIndices) {
+          val key = keys[index]
+          it.get(
+            key,
+            object : HMSSessionMetadataListener {
+              override fun onError(error: HMSException) {
+                val shouldReject =
+                  synchronized(lock) {
+                    val wasSettled = isSettled
+                    isSettled = true
+                    !wasSettled
+                  }
+                if (shouldReject) {
+                  promise?.reject(error.code.toString(), "getSessionMetadataForKeys: '$key' ${error.message}")
+                }
+              }
+
+              override fun onSuccess(sessionMetadata: JsonElement?) {
+                val shouldResolve =
+                  synchronized(lock) {
+                    entries[index] = sessionStoreMirror.recordFetch(key, sessionMetadata)
+                    remaining--
+                    if (remaining == 0 && !isSettled) {
+                      isSettled = true
+                      true
+                    } else {
+                      false
+                    }
+                  }
+                if (shouldResolve) {
+                  resolveEntries()
+                }
+              }
+            },
+          )
+        }
+      }
+    } else {
+      val errorMessage = "getSessionMetadataForKeys: $requiredKeys"
+      rejectCallback(promise, errorMessage)
+    }
+  }
+
   fun addKeyChangeListener(
     data: ReadableMap,
     promise: Promise?,
@@ -2379,36 +2801,8 @@ class HMSRNSDK(
               key: String,
               value: JsonElement?,
             ) {
-              val map = Arguments.createMap()
-              map.putString("id", id)
-              map.putString("key", key)
-
-              value.let { sm ->
-                if (sm == null) {
-                  map.putNull("value")
-                } else {
-                  if (sm.isJsonPrimitive) {
-                    val primitive = sm.asJsonPrimitive
-                    if (primitive.isBoolean) {
-                      map.putBoolean("value", primitive.asBoolean)
-                    } else if (primitive.isNumber) {
-                      map.putDouble("value", primitive.asDouble)
-                    } else {
-                      map.putString("value", sm.asString)
-                    }
-                  } else if (sm.isJsonNull) {
-                    map.putNull("value")
-                  } else if (sm.isJsonArray) {
-                    map.putArray("value", HMSDecoder.getReadableArrayFromJsonArray(sm.asJsonArray))
-                  } else if (sm.isJsonObject) {
-                    map.putMap("value", HMSDecoder.getReadableMapFromJsonObject(sm.asJsonObject))
-                  } else {
-                    map.putString("value", sm.toString())
-                  }
-                }
-              }
-
-              delegate.emitEvent("ON_SESSION_STORE_CHANGED", map)
+              // decoded & emitted on the dispatcher's thread, with the latest value of the key
+              sessionStoreDispatcher.dispatch(key, sessionStoreMirror.recordChange(key, value))
             }
           }
 
@@ -2420,6 +2814,7 @@ class HMSRNSDK(
 
             override fun onSuccess() {
               keyChangeObservers[uniqueId] = keyChangeListener
+              sessionStoreMirror.subscribe(uniqueId, keys)
               promise?.resolve(true)
             }
           }
@@ -2458,6 +2853,7 @@ class HMSRNSDK(
           } else {
             localSessionStore.removeKeyChangeListener(it)
             keyChangeObservers.remove(uniqueId)
+            sessionStoreMirror.unsubscribe(uniqueId)
             promise?.resolve(true)
           }
         }
@@ -2544,7 +2940,7 @@ class HMSRNSDK(
     val peerId = data.getString("peerId")
     peerId?.let { peerID ->
       hmsSDK?.getRoom()?.let { room ->
-        val peer = HMSHelper.getPeerFromPeerId(peerID, room)
+        val peer = HMSHelper.getPeerFromPeerId(peerID, room, roomIndex)
         peer?.let { peer ->
           hmsSDK?.lowerRemotePeerHand(
             forPeer = peer,
@@ -2563,6 +2959,21 @@ class HMSRNSDK(
     }
   }
 
+  fun lowerRemotePeerHands(
+    data: ReadableMap,
+    promise: Promise?,
+  ) {
+    val requiredKeys = HMSHelper.getUnavailableRequiredKey(data, arrayOf(Pair("peerIds", "Array")))
+    if (requiredKeys === null) {
+      runOnRemotePeers(data, promise) { peer, listener ->
+        hmsSDK?.lowerRemotePeerHand(forPeer = peer, listener)
+      }
+    } else {
+      val errorMessage = "lowerRemotePeerHands: $requiredKeys"
+      rejectCallback(promise, errorMessage)
+    }
+  }
+
   fun getPeerListIterator(data: ReadableMap): WritableMap? {
     val uniqueId = data.getString("uniqueId")
     if (uniqueId == null) {
@@ -2570,12 +2981,18 @@ class HMSRNSDK(
       return null
     }
 
-    val options = HMSHelper.getPeerListIteratorOptions(data)
+    return getPeerListIterator(uniqueId, HMSHelper.getPeerListIteratorOptions(data), data)
+  }
 
+  fun getPeerListIterator(
+    uniqueId: String,
+    options: PeerListIteratorOptions?,
+    pagerOptions: ReadableMap?,
+  ): WritableMap? {
     hmsSDK?.let {
       val iterator = it.getPeerListIterator(options)
 
-      peerListIterators[uniqueId] = iterator
+      peerListIterators[uniqueId] = HMSPeerListPager.from(iterator, pagerOptions, pagedPeerCache)
       val map = Arguments.createMap()
       map.putBoolean("success", true)
       map.putString("uniqueId", uniqueId)
@@ -2611,29 +3028,86 @@ class HMSRNSDK(
       return
     }
 
-    peerListIterator.next(
-      object : PeerListResultListener {
-        override fun onError(error: HMSException) {
-          promise?.reject(error.code.toString(), error.message)
-        }
+    peerListIterator.next(promise)
+  }
 
-        override fun onSuccess(result: ArrayList<HMSPeer>) {
-          val resultData: WritableMap = Arguments.createMap()
+  fun startPeerListStream(
+    data: ReadableMap,
+    promise: Promise?,
+  ) {
+    val room = hmsSDK?.getRoom()
+    if (room == null) {
+      promise?.reject("6004", "Room is not available")
+      return
+    }
 
-          resultData.putInt("totalCount", peerListIterator.totalCount)
+    val cursor = if (data.hasKey("cursor") && !data.isNull("cursor")) data.getString("cursor") else null
+    val pageSize =
+      if (data.hasKey("pageSize") && !data.isNull("pageSize")) {
+        data.getInt("pageSize")
+      } else {
+        HMSPeerListStreamer.DEFAULT_PAGE_SIZE
+      }
+    val maxPages = if (data.hasKey("maxPages") && !data.isNull("maxPages")) data.getInt("maxPages") else null
 
-          val array: WritableArray = Arguments.createArray()
-          for (peer in result) {
-            val hmsPeer = HMSDecoder.getHmsPeer(peer)
-            array.pushMap(hmsPeer)
-          }
+    val streamId = data.getString("streamId")
 
-          resultData.putArray("peers", array)
+    // Stream pages a snapshot of the peer list on a background thread, so a copy of the live list is passed
+    val result = peerListStreamer.start(room.peerList.toList(), streamId, cursor, pageSize, maxPages)
+    if (result == null) {
+      promise?.reject("6004", "Peer list stream of cursor is not available")
+      return
+    }
+    promise?.resolve(result)
+  }
 
-          promise?.resolve(resultData)
-        }
-      },
-    )
+  fun cancelPeerListStream(data: ReadableMap) {
+    val streamId = data.getString("streamId") ?: return
+    peerListStreamer.cancel(streamId)
+  }
+
+  fun startThumbnailSampler(
+    data: ReadableMap,
+    promise: Promise?,
+  ) {
+    val requiredKeys = HMSHelper.getUnavailableRequiredKey(data, arrayOf(Pair("trackId", "String"), Pair("samplerId", "String")))
+    if (requiredKeys === null) {
+      val trackId = data.getString("trackId")
+      val videoTrack = HMSHelper.getTrackFromTrackId(trackId, hmsSDK?.getRoom(), roomIndex) as? HMSVideoTrack
+      if (videoTrack === null) {
+        promise?.reject("101", "TRACK_NOT_FOUND")
+        return
+      }
+      val options = HMSThumbnailSampler.Options.from(if (data.hasKey("options") && !data.isNull("options")) data.getMap("options") else null)
+      thumbnailSampler.start(data.getString("samplerId")!!, videoTrack, options)
+      promise?.resolve(true)
+    } else {
+      val errorMessage = "startThumbnailSampler: $requiredKeys"
+      rejectCallback(promise, errorMessage)
+    }
+  }
+
+  fun stopThumbnailSampler(data: ReadableMap) {
+    val samplerId = data.getString("samplerId") ?: return
+    thumbnailSampler.stop(samplerId)
+  }
+
+  fun setSimulcastLayerPolicy(
+    data: ReadableMap,
+    promise: Promise?,
+  ) {
+    val requiredKeys = HMSHelper.getUnavailableRequiredKey(data, arrayOf(Pair("policy", "Map")))
+    if (requiredKeys === null) {
+      layerArbiter.setPolicy(HMSLayerArbiter.Policy.from(data.getMap("policy")!!))
+      promise?.resolve(true)
+    } else {
+      val errorMessage = "setSimulcastLayerPolicy: $requiredKeys"
+      rejectCallback(promise, errorMessage)
+    }
+  }
+
+  fun getSimulcastLayerDecisions(promise: Promise?) {
+    promise?.resolve(layerArbiter.getDecisions())
   }
 
   // region Webrtc Transcription
@@ -0,0 +1,184 @@
+package com.reactnativehmssdk
+
+import android.os.SystemClock
+import com.facebook.react.bridge.Arguments
+import com.facebook.react.bridge.WritableArray
+import com.facebook.react.bridge.WritableMap
+import kotlinx.coroutines.async
+import kotlinx.coroutines.awaitAll
+import kotlinx.coroutines.coroutineScope
+import kotlinx.coroutines.sync.Semaphore
+import kotlinx.coroutines.sync.withPermit
+import live.hms.video.error.HMSException
+import live.hms.video.sdk.HMSActionResultListener
+import live.hms.video.sdk.HMSSDK
+import live.hms.video.sdk.listeners.PeerListResultListener
+import live.hms.video.sdk.models.*
+import kotlin.coroutines.resume
+import kotlin.coroutines.resumeWithException
+import kotlin.coroutines.suspendCoroutine
+
+/**
+ * Resolves `peerID`s of many remote peers at once, and runs bulk actions on them.
+ *
+ * Peers are looked up in the room first. Peers missing from the room, as in large rooms where only a subset
+ * of peers is synced, are fetched with a single `byPeerIds` peer list iterator query, in pages of at most
+ * `MAX_PAGE_SIZE` peers. Fetched peers are cached only here for `CACHE_TTL_MS`, so that consecutive bulk actions on the
+ * same peers don't query them again. Peers which leave the room are evicted. Actions on resolved peers are
+ * run concurrently, at most `maxConcurrency` at a time.
+ */
+class HMSRemotePeerResolver {
+  companion object {
+    const val DEFAULT_CONCURRENCY = 8
+    private const val CACHE_TTL_MS = 5_000L
+    private const val MAX_PAGE_SIZE = 100
+  }
+
+  private class CachedPeer(
+    val peer: HMSRemotePeer,
+    val resolvedAt: Long,
+  )
+
+  private val lock = Any()
+  private val cachedPeers = HashMap<String, CachedPeer>()
+
+  /**
+   * Returns the remote peers of [peerIds] which could be resolved, keyed by `peerID`
+   */
+  suspend fun resolve(
+    peerIds: List<String>,
+    hmsSDK: HMSSDK?,
+    roomIndex: HMSRoomIndex?,
+  ): Map<String, HMSRemotePeer> {
+    val room = hmsSDK?.getRoom() ?: return mapOf()
+    val uniquePeerIds = peerIds.distinct()
+    val resolvedPeers = LinkedHashMap<String, HMSRemotePeer>()
+    val missingPeerIds = ArrayList<String>()
+    val now = SystemClock.elapsedRealtime()
+
+    synchronized(lock) {
+      for (peerId in uniquePeerIds) {
+        val peerFromRoom = HMSHelper.getPeerFromPeerId(peerId, room, roomIndex) as? HMSRemotePeer
+        val cachedPeer = cachedPeers[peerId]?.takeIf { now - it.resolvedAt < CACHE_TTL_MS }
+        when {
+          peerFromRoom != null -> resolvedPeers[peerId] = peerFromRoom
+          cachedPeer != null -> resolvedPeers[peerId] = cachedPeer.peer
+          else -> missingPeerIds.add(peerId)
+        }
+      }
+    }
+
+    if (missingPeerIds.isEmpty()) {
+      return resolvedPeers
+    }
+
+    val iterator =
+      hmsSDK.getPeerListIterator(
+        PeerListIteratorOptions(limit = minOf(missingPeerIds.size, MAX_PAGE_SIZE), byPeerIds = missingPeerIds),
+      )
+    do {
+      val peers = next(iterator)
+      val resolvedAt = SystemClock.elapsedRealtime()
+      synchronized(lock) {
+        for (peer in peers) {
+          // fetched peers aren't added to the room index, they are kept only until they expire from the cache
+          val remotePeer = peer as? HMSRemotePeer ?: continue
+          cachedPeers[remotePeer.peerID] = CachedPeer(remotePeer, resolvedAt)
+          resolvedPeers[remotePeer.peerID] = remotePeer
+        }
+      }
+    } while (peers.isNotEmpty() && resolvedPeers.size < uniquePeerIds.size && iterator.hasNext())
+
+    return resolvedPeers
+  }
+
+  /**
+   * Resolves [peerIds] & runs [action] on every resolved peer. Returns `{ peerId, success, code?, message? }`
+   * result of every peer, in the order of [peerIds]
+   */
+  suspend fun runOnPeers(
+    peerIds: List<String>,
+    hmsSDK: HMSSDK?,
+    roomIndex: HMSRoomIndex?,
+    maxConcurrency: Int,
+    action: (HMSRemotePeer, HMSActionResultListener) -> Unit,
+  ): WritableArray {
+    val peers = resolve(peerIds, hmsSDK, roomIndex)
+    val semaphore = Semaphore(maxConcurrency.coerceAtLeast(1))
+    val notFoundError = "PEER_NOT_FOUND"
+    val errors =
+      coroutineScope {
+        peerIds.map { peerId ->
+          async {
+            val peer = peers[peerId]
+            if (peer == null) {
+              HMSException(101, notFoundError, notFoundError, notFoundError, notFoundError, null, false)
+            } else {
+              semaphore.withPermit { runAction(peer, action) }
+            }
+          }
+        }.awaitAll()
+      }
+
+    val results: WritableArray = Arguments.createArray()
+    for ((index, peerId) in peerIds.withIndex()) {
+      val result: WritableMap = Arguments.createMap()
+      result.putString("peerId", peerId)
+      val error = errors[index]
+      result.putBoolean("success", error == null)
+      if (error != null) {
+        result.putString("code", error.code.toString())
+        result.putString("message", error.message)
+      }
+      results.pushMap(result)
+    }
+    return results
+  }
+
+  fun evict(peerId: String) {
+    synchronized(lock) {
+      cachedPeers.remove(peerId)
+    }
+  }
+
+  fun clear() {
+    synchronized(lock) {
+      cachedPeers.clear()
+    }
+  }
+
+  // Returns the error of the action, `null` if it succeeded
+  private suspend fun runAction(
+    peer: HMSRemotePeer,
+    action: (HMSRemotePeer, HMSActionResultListener) -> Unit,
+  ): HMSException? =
+    suspendCoroutine {
+      action(
+        peer,
+        object : HMSActionResultListener {
+          override fun onSuccess() {
+            it.resume(null)
+          }
+
+          override fun onError(error: HMSException) {
+            it.resume(error)
+          }
+        },
+      )
+    }
+
+  private suspend fun next(iterator: PeerListIterator): List<HMSPeer> =
+    suspendCoroutine {
+      iterator.next(
+        object : PeerListResultListener {
+          override fun onError(error: HMSException) {
+            it.resumeWithException(error)
+          }
+
+          override fun onSuccess(result: ArrayList<HMSPeer>) {
+            it.resume(result)
+          }
+        },
+      )
+    }
+}
@@ -0,0 +1,84 @@
+package com.reactnativehmssdk
+
+import android.view.LayoutInflater
+import android.view.View
+import android.view.ViewGroup
+import com.facebook.react.bridge.ReactContext
+import hms.webrtc.RendererCommon
+import live.hms.videoview.HMSVideoView
+import live.hms.videoview.VideoViewStateChangeListener
+
+/**
+ * Pool of inflated video renderers of `HMSView`s.
+ *
+ * A dropped `HMSView` returns its renderer to the pool, and a new `HMSView` re-binds its track to a pooled
+ * renderer instead of inflating a new `HMSVideoView`. Only inflation & construction of the view are saved,
+ * `HMSVideoView` is a `SurfaceView` which loses its surface when it leaves the window, so a new surface is
+ * still created when a pooled renderer is attached again. Renderers are reused only within the React context
+ * which created them, renderers of destroyed contexts are discarded. At most `MAX_POOLED_RENDERERS` are kept,
+ * other released renderers are reset & dropped.
+ *
+ * All methods are called on the main thread.
+ */
+class HMSRendererPool {
+  companion object {
+    private const val MAX_POOLED_RENDERERS = 12
+  }
+
+  class Renderer(
+    val container: View,
+    val videoView: HMSVideoView,
+  ) {
+    // view currently bound to this renderer, which receives its resolution changes
+    var owner: HMSView? = null
+  }
+
+  private val renderers = ArrayDeque<Renderer>()
+
+  fun acquire(
+    context: ReactContext,
+    parent: ViewGroup,
+  ): Renderer {
+    renderers.removeAll { (it.container.context as? ReactContext)?.hasActiveReactInstance() != true }
+
+    val index = renderers.indexOfFirst { it.container.context === context }
+    if (index >= 0) {
+      return renderers.removeAt(index)
+    }
+
+    val container = LayoutInflater.from(context).inflate(R.layout.hms_view, parent, false)
+    val videoView: HMSVideoView = container.findViewById(R.id.hmsVideoView)
+    videoView.setEnableHardwareScaler(false)
+
+    val renderer = Renderer(container, videoView)
+    videoView.addVideoViewStateChangeListener(
+      object : VideoViewStateChangeListener {
+        override fun onResolutionChange(
+          newWidth: Int,
+          newHeight: Int,
+        ) {
+          super.onResolutionChange(newWidth, newHeight)
+          renderer.owner?.onRendererResolutionChange(newWidth, newHeight)
+        }
+      },
+    )
+    return renderer
+  }
+
+  fun release(renderer: Renderer) {
+    renderer.owner = null
+    (renderer.container.parent as? ViewGroup)?.removeView(renderer.container)
+    // track is unbound from every released renderer, whether it is pooled or dropped
+    renderer.videoView.removeTrack()
+    if (renderers.size >= MAX_POOLED_RENDERERS) {
+      return
+    }
+
+    // reset to the state of a newly inflated renderer, props of the next view are applied again on binding
+    renderer.videoView.setMirror(false)
+    renderer.videoView.setZOrderMediaOverlay(false)
+    renderer.videoView.setScalingType(RendererCommon.ScalingType.SCALE_ASPECT_FILL)
+    renderer.videoView.disableAutoSimulcastLayerSelect(false)
+    renderers.addLast(renderer)
+  }
+}
@@ -0,0 +1,116 @@
+package com.reactnativehmssdk
+
+import live.hms.video.media.tracks.HMSTrack
+import live.hms.video.sdk.models.HMSPeer
+import live.hms.video.sdk.models.HMSRoom
+import live.hms.video.sdk.models.enums.HMSTrackUpdate
+import live.hms.video.utils.HmsUtilities
+
+/**
+ * Index of peers and tracks of a room, keyed by `peerID` and `trackId`.
+ *
+ * Index is built from the room on first lookup, kept up to date from peer & track updates and
+ * invalidated on leave and reconnection. Lookups which miss the index fall back to `HmsUtilities`.
+ */
+class HMSRoomIndex {
+  private val lock = Any()
+  private val peers = HashMap<String, HMSPeer>()
+  private val tracks = HashMap<String, HMSTrack>()
+  private val trackPeerIds = HashMap<String, String>()
+  private var isBuilt = false
+
+  fun updatePeer(peer: HMSPeer) {
+    synchronized(lock) {
+      indexPeer(peer)
+    }
+  }
+
+  fun removePeer(peerId: String) {
+    synchronized(lock) {
+      peers.remove(peerId)
+      val iterator = trackPeerIds.entries.iterator()
+      while (iterator.hasNext()) {
+        val entry = iterator.next()
+        if (entry.value == peerId) {
+          tracks.remove(entry.key)
+          iterator.remove()
+        }
+      }
+    }
+  }
+
+  fun updateTrack(
+    type: HMSTrackUpdate,
+    track: HMSTrack,
+    peer: HMSPeer,
+  ) {
+    synchronized(lock) {
+      peers[peer.peerID] = peer
+      if (type == HMSTrackUpdate.TRACK_REMOVED) {
+        tracks.remove(track.trackId)
+        trackPeerIds.remove(track.trackId)
+      } else {
+        tracks[track.trackId] = track
+        trackPeerIds[track.trackId] = peer.peerID
+      }
+    }
+  }
+
+  fun getPeer(
+    peerId: String,
+    room: HMSRoom?,
+  ): HMSPeer? {
+    synchronized(lock) {
+      ensureBuilt(room)
+      peers[peerId]?.let { return it }
+    }
+    return room?.let { HmsUtilities.getPeer(peerId, it) }?.also { updatePeer(it) }
+  }
+
+  fun getTrack(
+    trackId: String,
+    room: HMSRoom?,
+  ): HMSTrack? {
+    synchronized(lock) {
+      ensureBuilt(room)
+      tracks[trackId]?.let { return it }
+    }
+    return room?.let { HmsUtilities.getTrack(trackId, it) }
+  }
+
+  fun invalidate() {
+    synchronized(lock) {
+      peers.clear()
+      tracks.clear()
+      trackPeerIds.clear()
+      isBuilt = false
+    }
+  }
+
+  private fun ensureBuilt(room: HMSRoom?) {
+    if (isBuilt || room == null) {
+      return
+    }
+    for (peer in room.peerList) {
+      indexPeer(peer)
+    }
+    isBuilt = true
+  }
+
+  private fun indexPeer(peer: HMSPeer) {
+    peers[peer.peerID] = peer
+    peer.audioTrack?.let { indexTrack(it, peer) }
+    peer.videoTrack?.let { indexTrack(it, peer) }
+    for (track in peer.auxiliaryTracks) {
+      indexTrack(track, peer)
+    }
+  }
+
+  private fun indexTrack(
+    track: HMSTrack,
+    peer: HMSPeer,
+  ) {
+    tracks[track.trackId] = track
+    trackPeerIds[track.trackId] = peer.peerID
+  }
+}
@@ -13,12 +13,18 @@ import com.facebook.react.uimanager.annotations.ReactProp
 
 class HMSSDKViewManager : SimpleViewManager<HMSView>() {
   private var reactContext: ThemedReactContext? = null
+  private val rendererPool = HMSRendererPool()
 
   override fun getName(): String = REACT_CLASS
 
   public override fun createViewInstance(reactContext: ThemedReactContext): HMSView {
     this.reactContext = reactContext
-    return HMSView(reactContext)
+    return HMSView(reactContext, rendererPool)
+  }
+
+  override fun onDropViewInstance(view: HMSView) {
+    super.onDropViewInstance(view)
+    view.releaseRenderer()
   }
 
   override fun getExportedCustomBubblingEventTypeConstants(): Map<String, Any>? =
@@ -99,6 +105,30 @@ class HMSSDKViewManager : SimpleViewManager<HMSView>() {
     data?.let { view.updateAutoSimulcast(it) }
   }
 
+  @ReactProp(name = "pauseWhenHidden")
+  fun setPauseWhenHidden(
+    view: HMSView,
+    data: Boolean,
+  ) {
+    view.updatePauseWhenHidden(data)
+  }
+
+  @ReactProp(name = "minVisibleSize")
+  fun setMinVisibleSize(
+    view: HMSView,
+    data: Double,
+  ) {
+    view.updateMinVisibleSize(data)
+  }
+
+  @ReactProp(name = "renderMode")
+  fun setRenderMode(
+    view: HMSView,
+    data: String?,
+  ) {
+    view.updateRenderMode(data)
+  }
+
   private fun getHms(): MutableMap<String, HMSRNSDK>? = reactContext?.getNativeModule(HMSManager::class.java)?.getHmsInstance()
 
   companion object {
@@ -0,0 +1,135 @@
+package com.reactnativehmssdk
+
+import com.facebook.react.bridge.Arguments
+import com.facebook.react.bridge.ReadableMap
+import com.facebook.react.bridge.WritableArray
+import com.facebook.react.bridge.WritableMap
+import com.google.gson.JsonElement
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
+
+/**
+ * Delivers session store key changes of a [HMSRNSDK] instance to JS as `ON_SESSION_STORE_CHANGED` events.
+ *
+ * Key change callbacks only record the latest mirrored entry of the key, values are decoded and emitted with
+ * their version on a background thread once per `coalesceInterval`. A key changed multiple times within the
+ * interval, or delivered to multiple key change listeners, is emitted once with its latest value. With `rawJson`,
+ * values are sent as JSON strings in `rawValue` to be parsed on JS side when read, instead of being decoded.
+ */
+class HMSSessionStoreDispatcher(
+  private val sdkId: String,
+  private val delegate: HMSManager,
+  private val coalesceInterval: Long,
+  private val rawJson: Boolean,
+) {
+  companion object {
+    const val CHANGED_EVENT = "ON_SESSION_STORE_CHANGED"
+
+    private val executor: ScheduledExecutorService = Executors.newSingleThreadScheduledExecutor()
+
+    fun from(
+      options: ReadableMap?,
+      sdkId: String,
+      delegate: HMSManager,
+    ): HMSSessionStoreDispatcher {
+      val coalesceInterval =
+        if (options != null && options.hasKey("coalesceInterval") && !options.isNull("coalesceInterval")) {
+          options.getDouble("coalesceInterval").toLong().coerceAtLeast(0L)
+        } else {
+          0L
+        }
+      val rawJson =
+        options != null && options.hasKey("rawJson") && !options.isNull("rawJson") && options.getBoolean("rawJson")
+      return HMSSessionStoreDispatcher(sdkId, delegate, coalesceInterval, rawJson)
+    }
+
+    /**
+     * Returns a session store [value] decoded into a type which can be resolved to JS
+     */
+    fun getValue(value: JsonElement?): Any? {
+      if (value == null || value.isJsonNull) {
+        return null
+      }
+      if (value.isJsonPrimitive) {
+        val primitive = value.asJsonPrimitive
+        return when {
+          primitive.isBoolean -> primitive.asBoolean
+          primitive.isNumber -> primitive.asDouble
+          else -> value.asString
+        }
+      }
+      return when {
+        value.isJsonArray -> HMSDecoder.getReadableArrayFromJsonArray(value.asJsonArray)
+        value.isJsonObject -> HMSDecoder.getReadableMapFromJsonObject(value.asJsonObject)
+        else -> value.toString()
+      }
+    }
+
+    /**
+     * Puts a session store [value] in [map] under [key], decoded with [getValue]
+     */
+    fun putValue(
+      map: WritableMap,
+      key: String,
+      value: JsonElement?,
+    ) {
+      when (val decodedValue = getValue(value)) {
+        null -> map.putNull(key)
+        is Boolean -> map.putBoolean(key, decodedValue)
+        is Double -> map.putDouble(key, decodedValue)
+        is WritableArray -> map.putArray(key, decodedValue)
+        is WritableMap -> map.putMap(key, decodedValue)
+        else -> map.putString(key, decodedValue.toString())
+      }
+    }
+  }
+
+  private val lock = Any()
+
+  // latest entry of every changed key, in the order keys were last changed
+  private val pendingValues = LinkedHashMap<String, HMSSessionStoreMirror.Entry>()
+  private var flushScheduled = false
+
+  fun dispatch(
+    key: String,
+    entry: HMSSessionStoreMirror.Entry,
+  ) {
+    synchronized(lock) {
+      pendingValues.remove(key)
+      pendingValues[key] = entry
+      if (flushScheduled) {
+        return
+      }
+      flushScheduled = true
+    }
+    executor.schedule({ flush() }, coalesceInterval, TimeUnit.MILLISECONDS)
+  }
+
+  fun clear() {
+    synchronized(lock) {
+      pendingValues.clear()
+    }
+  }
+
+  private fun flush() {
+    val values =
+      synchronized(lock) {
+        flushScheduled = false
+        LinkedHashMap(pendingValues).also { pendingValues.clear() }
+      }
+
+    for ((key, entry) in values) {
+      val map = Arguments.createMap()
+      map.putString("id", sdkId)
+      map.putString("key", key)
+      map.putDouble("version", entry.version.toDouble())
+      if (rawJson) {
+        map.putString("rawValue", entry.value?.toString() ?: "null")
+      } else {
+        putValue(map, "value", entry.value)
+      }
+      delegate.emitEvent(CHANGED_EVENT, map)
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package com.reactnativehmssdk
+
+import com.google.gson.JsonElement
+
+/**
+ * Local mirror of session store values seen by a [HMSRNSDK] instance.
+ *
+ * Values delivered to key change listeners and values of successful gets are given a version, which increases
+ * with every recorded change. Only values of keys with an active key change listener are kept, as they are kept
+ * up to date by the listener and served from the mirror instead of being fetched again. Values fetched by a get
+ * never replace a value of a subscribed key, as the listener may already have delivered a newer one.
+ */
+class HMSSessionStoreMirror {
+  class Entry(
+    val value: JsonElement?,
+    val version: Long,
+  )
+
+  private val lock = Any()
+  private val entries = HashMap<String, Entry>()
+  private val subscriptions = HashMap<String, List<String>>()
+  private val subscriberCounts = HashMap<String, Int>()
+  private var version = 0L
+
+  /**
+   * Records a value delivered by a key change listener, returns its entry
+   */
+  fun recordChange(
+    key: String,
+    value: JsonElement?,
+  ): Entry =
+    synchronized(lock) {
+      Entry(value, ++version).also { entries[key] = it }
+    }
+
+  /**
+   * Records a value fetched by a get, returns the entry which is current after recording it.
+   * Value of a key without listeners is not kept, as nothing would keep it up to date.
+   */
+  fun recordFetch(
+    key: String,
+    value: JsonElement?,
+  ): Entry =
+    synchronized(lock) {
+      if (!subscriberCounts.containsKey(key)) {
+        return@synchronized Entry(value, ++version)
+      }
+      entries[key] ?: Entry(value, ++version).also { entries[key] = it }
+    }
+
+  /**
+   * Returns the mirrored entry of [key] if it is kept up to date by a key change listener
+   */
+  fun get(key: String): Entry? =
+    synchronized(lock) {
+      if (subscriberCounts.containsKey(key)) entries[key] else null
+    }
+
+  fun subscribe(
+    uniqueId: String,
+    keys: List<String>,
+  ) {
+    synchronized(lock) {
+      subscriptions.put(uniqueId, keys)?.let { removeSubscribers(it) }
+      for (key in keys.distinct()) {
+        subscriberCounts[key] = (subscriberCounts[key] ?: 0) + 1
+      }
+    }
+  }
+
+  fun unsubscribe(uniqueId: String) {
+    synchronized(lock) {
+      subscriptions.remove(uniqueId)?.let { removeSubscribers(it) }
+    }
+  }
+
+  fun clear() {
+    synchronized(lock) {
+      entries.clear()
+      subscriptions.clear()
+      subscriberCounts.clear()
+    }
+  }
+
+  // Values of keys without listeners would go stale, they are dropped with the last listener
+  private fun removeSubscribers(keys: List<String>) {
+    for (key in keys.distinct()) {
+      val count = (subscriberCounts[key] ?: 0) - 1
+      if (count > 0) {
+        subscriberCounts[key] = count
+      } else {
+        subscriberCounts.remove(key)
+        entries.remove(key)
+      }
+    }
+  }
+}
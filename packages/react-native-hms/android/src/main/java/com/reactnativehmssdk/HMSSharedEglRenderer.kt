@@ -0,0 +1,364 @@
+package com.reactnativehmssdk
+
+import android.graphics.Matrix
+import android.graphics.SurfaceTexture
+import android.opengl.EGL14
+import android.opengl.EGLConfig
+import android.opengl.EGLContext
+import android.opengl.EGLDisplay
+import android.opengl.EGLSurface
+import android.opengl.GLES20
+import android.os.Handler
+import android.os.HandlerThread
+import android.util.Log
+import hms.webrtc.EglBase14
+import hms.webrtc.GlRectDrawer
+import hms.webrtc.RendererCommon
+import hms.webrtc.VideoFrame
+import hms.webrtc.VideoFrameDrawer
+import live.hms.video.utils.SharedEglContext
+
+/**
+ * Renders video frames of all `HMSTextureVideoView`s on a single render thread, from a single EGL context.
+ *
+ * Every view gets an EGL window surface on its `SurfaceTexture`, and the shared context is made current
+ * with the surface of a view while drawing its frame. Only the latest frame of a view is kept, frames which
+ * arrive while the previous one is waiting to be drawn replace it. The context shares textures with the EGL context
+ * of the SDK, so that texture frames of decoders are drawn directly, they are converted to I420 only if it can't be
+ * shared. The render thread & context are created with the first surface, and released with the last one.
+ * Surfaces are attached & destroyed on the render thread, callers never wait for it.
+ */
+object HMSSharedEglRenderer {
+  private const val TAG = "HMSSharedEglRenderer"
+
+  /**
+   * Render state of a view, surface & EGL fields are accessed only on the render thread
+   */
+  class Target {
+    internal var surfaceTexture: SurfaceTexture? = null
+    internal var eglSurface: EGLSurface = EGL14.EGL_NO_SURFACE
+    internal var surfaceWidth = 0
+    internal var surfaceHeight = 0
+    internal var pendingFrame: VideoFrame? = null
+    internal var isRenderScheduled = false
+
+    // handler of the render thread while attached, guarded by the target
+    internal var handler: Handler? = null
+
+    @Volatile
+    var mirror = false
+
+    @Volatile
+    var scalingType = RendererCommon.ScalingType.SCALE_ASPECT_FILL
+  }
+
+  // render thread is started with the first attached target and quit after the last one is detached
+  private val lock = Any()
+  private var renderThread: HandlerThread? = null
+  private var renderHandler: Handler? = null
+  private var attachedCount = 0
+
+  // accessed only on the render thread
+  private var eglDisplay: EGLDisplay = EGL14.EGL_NO_DISPLAY
+  private var eglContext: EGLContext = EGL14.EGL_NO_CONTEXT
+  private var eglConfig: EGLConfig? = null
+  private var isSdkContextShared = false
+  private var pbufferSurface: EGLSurface = EGL14.EGL_NO_SURFACE
+  private var drawer: GlRectDrawer? = null
+  private var frameDrawer: VideoFrameDrawer? = null
+  private val targets = HashSet<Target>()
+  private val drawMatrix = Matrix()
+
+  private fun acquireHandler(): Handler =
+    synchronized(lock) {
+      attachedCount++
+      renderHandler ?: run {
+        val previousThread = renderThread
+        val thread = HandlerThread("HMSSharedEglRender").also { it.start() }
+        val handler = Handler(thread.looper)
+        // EGL state is released by the previous thread, it must be done before this one uses it
+        if (previousThread != null && previousThread.isAlive) {
+          handler.post { previousThread.join() }
+        }
+        renderThread = thread
+        renderHandler = handler
+        handler
+      }
+    }
+
+  private fun releaseHandler() {
+    synchronized(lock) {
+      attachedCount--
+      if (attachedCount == 0) {
+        // already posted work, including the release of the context, is run before the thread quits
+        renderThread?.quitSafely()
+        renderHandler = null
+      }
+    }
+  }
+
+  fun attach(
+    target: Target,
+    surfaceTexture: SurfaceTexture,
+    width: Int,
+    height: Int,
+  ) {
+    val handler = acquireHandler()
+    synchronized(target) {
+      target.handler = handler
+    }
+    handler.post {
+      try {
+        if (targets.isEmpty()) {
+          createContext()
+        }
+        targets.add(target)
+        target.surfaceTexture = surfaceTexture
+        target.surfaceWidth = width
+        target.surfaceHeight = height
+        target.eglSurface =
+          EGL14.eglCreateWindowSurface(eglDisplay, eglConfig, surfaceTexture, intArrayOf(EGL14.EGL_NONE), 0)
+        makeCurrent(target.eglSurface)
+        // views are drawn one after another, swaps must not wait for vsync of every surface
+        EGL14.eglSwapInterval(eglDisplay, 0)
+        makeCurrent(pbufferSurface)
+      } catch (e: Exception) {
+        Log.e(TAG, "Unable to attach surface: $e")
+      }
+    }
+  }
+
+  fun resize(
+    target: Target,
+    width: Int,
+    height: Int,
+  ) {
+    synchronized(target) { target.handler }?.post {
+      target.surfaceWidth = width
+      target.surfaceHeight = height
+    }
+  }
+
+  /**
+   * Destroys the surface of [target] on the render thread, then releases [surfaceTexture]. Returns at once.
+   */
+  fun detach(
+    target: Target,
+    surfaceTexture: SurfaceTexture,
+  ) {
+    val handler =
+      synchronized(target) {
+        target.pendingFrame?.release()
+        target.pendingFrame = null
+        target.handler.also { target.handler = null }
+      }
+    if (handler == null) {
+      surfaceTexture.release()
+      return
+    }
+
+    handler.post {
+      try {
+        if (targets.remove(target)) {
+          if (target.eglSurface != EGL14.EGL_NO_SURFACE) {
+            makeCurrent(pbufferSurface)
+            EGL14.eglDestroySurface(eglDisplay, target.eglSurface)
+          }
+          target.eglSurface = EGL14.EGL_NO_SURFACE
+          target.surfaceTexture = null
+          if (targets.isEmpty()) {
+            releaseContext()
+          }
+        }
+      } catch (e: Exception) {
+        Log.e(TAG, "Unable to detach surface: $e")
+      } finally {
+        surfaceTexture.release()
+      }
+    }
+    releaseHandler()
+  }
+
+  /**
+   * Queues [frame] to be drawn on [target], replacing its pending frame if any. Called on the thread delivering frames.
+   */
+  fun renderFrame(
+    target: Target,
+    frame: VideoFrame,
+  ) {
+    synchronized(target) {
+      // frames arriving before the surface is attached or after it is detached are dropped
+      val handler = target.handler ?: return
+      target.pendingFrame?.release()
+      frame.retain()
+      target.pendingFrame = frame
+      if (target.isRenderScheduled) {
+        return
+      }
+      target.isRenderScheduled = true
+      handler.post { render(target) }
+    }
+  }
+
+  fun clearFrame(target: Target) {
+    synchronized(target) {
+      target.pendingFrame?.release()
+      target.pendingFrame = null
+    }
+  }
+
+  private fun render(target: Target) {
+    val frame =
+      synchronized(target) {
+        target.isRenderScheduled = false
+        target.pendingFrame.also { target.pendingFrame = null }
+      } ?: return
+
+    try {
+      if (target.eglSurface == EGL14.EGL_NO_SURFACE || target.surfaceWidth <= 0 || target.surfaceHeight <= 0) {
+        return
+      }
+      makeCurrent(target.eglSurface)
+
+      GLES20.glViewport(0, 0, target.surfaceWidth, target.surfaceHeight)
+      GLES20.glClearColor(0f, 0f, 0f, 1f)
+      GLES20.glClear(GLES20.GL_COLOR_BUFFER_BIT)
+
+      val frameAspectRatio = frame.rotatedWidth / frame.rotatedHeight.toFloat()
+      val displaySize =
+        RendererCommon.getDisplaySize(target.scalingType, frameAspectRatio, target.surfaceWidth, target.surfaceHeight)
+      val drawnAspectRatio = displaySize.x / displaySize.y.toFloat()
+
+      // crop the frame to the aspect ratio of the drawn area, same as `EglRenderer`
+      val scaleX: Float
+      val scaleY: Float
+      if (frameAspectRatio > drawnAspectRatio) {
+        scaleX = drawnAspectRatio / frameAspectRatio
+        scaleY = 1f
+      } else {
+        scaleX = 1f
+        scaleY = frameAspectRatio / drawnAspectRatio
+      }
+      drawMatrix.reset()
+      drawMatrix.preTranslate(0.5f, 0.5f)
+      drawMatrix.preScale(if (target.mirror) -1f else 1f, 1f)
+      drawMatrix.preScale(scaleX, scaleY)
+      drawMatrix.preTranslate(-0.5f, -0.5f)
+
+      drawFrame(
+        frame,
+        (target.surfaceWidth - displaySize.x) / 2,
+        (target.surfaceHeight - displaySize.y) / 2,
+        displaySize.x,
+        displaySize.y,
+      )
+      EGL14.eglSwapBuffers(eglDisplay, target.eglSurface)
+    } catch (e: Exception) {
+      Log.e(TAG, "Unable to render frame: $e")
+    } finally {
+      frame.release()
+    }
+  }
+
+  private fun drawFrame(
+    frame: VideoFrame,
+    x: Int,
+    y: Int,
+    width: Int,
+    height: Int,
+  ) {
+    val frameDrawer = frameDrawer ?: return
+    val drawer = drawer ?: return
+    if (frame.buffer is VideoFrame.TextureBuffer && !isSdkContextShared) {
+      // textures belong to the decoder's EGL context, which isn't shared with this one
+      val i420Buffer = frame.buffer.toI420() ?: return
+      val i420Frame = VideoFrame(i420Buffer, frame.rotation, frame.timestampNs)
+      try {
+        frameDrawer.drawFrame(i420Frame, drawer, drawMatrix, x, y, width, height)
+      } finally {
+        i420Frame.release()
+      }
+    } else {
+      frameDrawer.drawFrame(frame, drawer, drawMatrix, x, y, width, height)
+    }
+  }
+
+  private fun createContext() {
+    eglDisplay = EGL14.eglGetDisplay(EGL14.EGL_DEFAULT_DISPLAY)
+    val version = IntArray(2)
+    if (!EGL14.eglInitialize(eglDisplay, version, 0, version, 1)) {
+      throw IllegalStateException("Unable to initialize EGL display")
+    }
+
+    val configAttributes =
+      intArrayOf(
+        EGL14.EGL_RED_SIZE,
+        8,
+        EGL14.EGL_GREEN_SIZE,
+        8,
+        EGL14.EGL_BLUE_SIZE,
+        8,
+        EGL14.EGL_RENDERABLE_TYPE,
+        EGL14.EGL_OPENGL_ES2_BIT,
+        EGL14.EGL_SURFACE_TYPE,
+        EGL14.EGL_WINDOW_BIT or EGL14.EGL_PBUFFER_BIT,
+        EGL14.EGL_NONE,
+      )
+    val configs = arrayOfNulls<EGLConfig>(1)
+    val configCount = IntArray(1)
+    if (!EGL14.eglChooseConfig(eglDisplay, configAttributes, 0, configs, 0, 1, configCount, 0) || configCount[0] == 0) {
+      throw IllegalStateException("Unable to choose EGL config")
+    }
+    eglConfig = configs[0]
+
+    // decoders of the SDK create their textures in the share group of its EGL context
+    val sdkContext = (SharedEglContext.context as? EglBase14.Context)?.rawContext ?: EGL14.EGL_NO_CONTEXT
+    val contextAttributes = intArrayOf(EGL14.EGL_CONTEXT_CLIENT_VERSION, 2, EGL14.EGL_NONE)
+    eglContext = EGL14.eglCreateContext(eglDisplay, eglConfig, sdkContext, contextAttributes, 0)
+    isSdkContextShared = sdkContext != EGL14.EGL_NO_CONTEXT && eglContext != EGL14.EGL_NO_CONTEXT
+    if (eglContext == EGL14.EGL_NO_CONTEXT && sdkContext != EGL14.EGL_NO_CONTEXT) {
+      Log.w(TAG, "Unable to share EGL context of the SDK, texture frames are converted to I420")
+      eglContext = EGL14.eglCreateContext(eglDisplay, eglConfig, EGL14.EGL_NO_CONTEXT, contextAttributes, 0)
+    }
+    if (eglContext == EGL14.EGL_NO_CONTEXT) {
+      throw IllegalStateException("Unable to create EGL context: ${EGL14.eglGetError()}")
+    }
+    // context is kept current on a 1x1 pbuffer while no view is being drawn
+    pbufferSurface =
+      EGL14.eglCreatePbufferSurface(
+        eglDisplay,
+        eglConfig,
+        intArrayOf(EGL14.EGL_WIDTH, 1, EGL14.EGL_HEIGHT, 1, EGL14.EGL_NONE),
+        0,
+      )
+    makeCurrent(pbufferSurface)
+
+    drawer = GlRectDrawer()
+    frameDrawer = VideoFrameDrawer()
+  }
+
+  private fun releaseContext() {
+    if (eglContext == EGL14.EGL_NO_CONTEXT) {
+      return
+    }
+    makeCurrent(pbufferSurface)
+    drawer?.release()
+    frameDrawer?.release()
+    drawer = null
+    frameDrawer = null
+    EGL14.eglMakeCurrent(eglDisplay, EGL14.EGL_NO_SURFACE, EGL14.EGL_NO_SURFACE, EGL14.EGL_NO_CONTEXT)
+    EGL14.eglDestroySurface(eglDisplay, pbufferSurface)
+    EGL14.eglDestroyContext(eglDisplay, eglContext)
+    EGL14.eglReleaseThread()
+    pbufferSurface = EGL14.EGL_NO_SURFACE
+    eglContext = EGL14.EGL_NO_CONTEXT
+    eglConfig = null
+    isSdkContextShared = false
+  }
+
+  private fun makeCurrent(surface: EGLSurface) {
+    if (!EGL14.eglMakeCurrent(eglDisplay, surface, surface, eglContext)) {
+      throw IllegalStateException("Unable to make EGL context current: ${EGL14.eglGetError()}")
+    }
+  }
+}
@@ -0,0 +1,251 @@
+package com.reactnativehmssdk
+
+import android.os.Handler
+import android.os.Looper
+import android.util.Base64
+import com.facebook.react.bridge.Arguments
+import com.facebook.react.bridge.ReadableMap
+import com.facebook.react.bridge.WritableArray
+import com.facebook.react.bridge.WritableMap
+import live.hms.video.connection.stats.HMSRemoteAudioStats
+import live.hms.video.connection.stats.HMSRemoteVideoStats
+import live.hms.video.media.tracks.HMSRemoteAudioTrack
+import live.hms.video.media.tracks.HMSRemoteVideoTrack
+import live.hms.video.sdk.models.HMSPeer
+import java.nio.ByteBuffer
+import java.nio.ByteOrder
+
+/**
+ * Packs remote track stats of one stats observer tick into a single flat buffer of doubles.
+ *
+ * Layout (schema version 1):
+ * `[schemaVersion, recordCount, ...records]`, where each record is `[handle, kind, fieldCount, ...fields]`
+ * - kind [KIND_REMOTE_AUDIO]: `[bitrate, bytesReceived, jitter, packetsLost, packetsReceived]`
+ * - kind [KIND_REMOTE_VIDEO]: `[bitrate, bytesReceived, frameRate, jitter, packetsLost, packetsReceived, width, height]`
+ *
+ * Unavailable values are sent as `-1`. Tracks are referenced by small integer handles, the mapping of
+ * a handle to its track & peer is sent with `ON_STATS_TRACK_HANDLES` event when the handle is created, and
+ * again when name of the peer or mute state of the track changes. Handles of removed tracks are released
+ * in `released` of the same event.
+ */
+class HMSStatsPacker(
+  private val sdkId: String,
+  private val delegate: HMSManager,
+  private val base64Encoding: Boolean,
+) {
+  companion object {
+    const val SCHEMA_VERSION = 1
+    const val KIND_REMOTE_AUDIO = 0
+    const val KIND_REMOTE_VIDEO = 1
+
+    const val TRACK_HANDLES_EVENT = "ON_STATS_TRACK_HANDLES"
+    const val PACKED_STATS_EVENT = "ON_PACKED_STATS"
+
+    // Stats of all tracks for a tick are delivered within this window
+    private const val TICK_WINDOW_MS = 100L
+
+    fun from(
+      options: ReadableMap?,
+      sdkId: String,
+      delegate: HMSManager,
+    ): HMSStatsPacker? {
+      if (options == null) {
+        return null
+      }
+      val base64Encoding =
+        options.hasKey("encoding") && options.getString("encoding") == "base64"
+      return HMSStatsPacker(sdkId, delegate, base64Encoding)
+    }
+  }
+
+  private val lock = Any()
+  private val mainHandler = Handler(Looper.getMainLooper())
+  private class TrackHandle(
+    val handle: Int,
+    var signature: String,
+  )
+
+  private val trackHandles = mutableMapOf<String, TrackHandle>()
+  private var nextHandle = 1
+  private var pendingHandles: WritableArray? = null
+  private var releasedHandles: WritableArray? = null
+  private val records = mutableListOf<DoubleArray>()
+  private var flushScheduled = false
+
+  private val flushRunnable = Runnable { flush() }
+
+  fun addRemoteAudioStats(
+    stats: HMSRemoteAudioStats,
+    track: HMSRemoteAudioTrack,
+    peer: HMSPeer,
+  ) {
+    val fields =
+      doubleArrayOf(
+        stats.bitrate ?: -1.0,
+        stats.bytesReceived?.toDouble() ?: -1.0,
+        stats.jitter ?: -1.0,
+        stats.packetsLost?.toDouble() ?: -1.0,
+        stats.packetsReceived?.toDouble() ?: -1.0,
+      )
+    synchronized(lock) {
+      val handle =
+        getHandle(track.trackId, KIND_REMOTE_AUDIO, peer, track.isMute) { HMSDecoder.getHmsRemoteAudioTrack(track) }
+      addRecord(handle, KIND_REMOTE_AUDIO, fields)
+    }
+  }
+
+  fun addRemoteVideoStats(
+    stats: HMSRemoteVideoStats,
+    track: HMSRemoteVideoTrack,
+    peer: HMSPeer,
+  ) {
+    val fields =
+      doubleArrayOf(
+        stats.bitrate ?: -1.0,
+        stats.bytesReceived?.toDouble() ?: -1.0,
+        stats.frameRate ?: -1.0,
+        stats.jitter ?: -1.0,
+        stats.packetsLost?.toDouble() ?: -1.0,
+        stats.packetsReceived?.toDouble() ?: -1.0,
+        stats.resolution?.width?.toDouble() ?: -1.0,
+        stats.resolution?.height?.toDouble() ?: -1.0,
+      )
+    synchronized(lock) {
+      val handle =
+        getHandle(track.trackId, KIND_REMOTE_VIDEO, peer, track.isMute) { HMSDecoder.getHmsRemoteVideoTrack(track) }
+      addRecord(handle, KIND_REMOTE_VIDEO, fields)
+    }
+  }
+
+  /**
+   * Releases the handle of a removed track, so that JS drops its mapping
+   */
+  fun releaseTrack(trackId: String) {
+    synchronized(lock) {
+      val trackHandle = trackHandles.remove(trackId) ?: return
+      val released = releasedHandles ?: Arguments.createArray().also { releasedHandles = it }
+      released.pushInt(trackHandle.handle)
+      scheduleFlush()
+    }
+  }
+
+  fun clear() {
+    synchronized(lock) {
+      trackHandles.clear()
+      nextHandle = 1
+      pendingHandles = null
+      releasedHandles = null
+      records.clear()
+      flushScheduled = false
+    }
+    mainHandler.removeCallbacks(flushRunnable)
+  }
+
+  private fun getHandle(
+    trackId: String,
+    kind: Int,
+    peer: HMSPeer,
+    isMute: Boolean,
+    getTrack: () -> WritableMap,
+  ): Int {
+    // mapping is sent again when fields of the encoded peer or track change
+    val signature = "${peer.name}|$isMute"
+    val trackHandle = trackHandles[trackId]
+    if (trackHandle != null && trackHandle.signature == signature) {
+      return trackHandle.handle
+    }
+
+    val handle = trackHandle?.handle ?: nextHandle++
+    if (trackHandle != null) {
+      trackHandle.signature = signature
+    } else {
+      trackHandles[trackId] = TrackHandle(handle, signature)
+    }
+
+    val handleData: WritableMap = Arguments.createMap()
+    handleData.putInt("handle", handle)
+    handleData.putInt("kind", kind)
+    handleData.putString("trackId", trackId)
+    handleData.putMap("track", getTrack())
+    handleData.putString("peerId", peer.peerID)
+    handleData.putMap("peer", HMSDecoder.getHmsPeerSubset(peer))
+    val handles = pendingHandles ?: Arguments.createArray().also { pendingHandles = it }
+    handles.pushMap(handleData)
+    return handle
+  }
+
+  private fun addRecord(
+    handle: Int,
+    kind: Int,
+    fields: DoubleArray,
+  ) {
+    val record = DoubleArray(3 + fields.size)
+    record[0] = handle.toDouble()
+    record[1] = kind.toDouble()
+    record[2] = fields.size.toDouble()
+    fields.copyInto(record, 3)
+    records.add(record)
+    scheduleFlush()
+  }
+
+  private fun scheduleFlush() {
+    if (!flushScheduled) {
+      flushScheduled = true
+      mainHandler.postDelayed(flushRunnable, TICK_WINDOW_MS)
+    }
+  }
+
+  private fun flush() {
+    val handles: WritableArray?
+    val released: WritableArray?
+    val tickRecords: List<DoubleArray>
+    synchronized(lock) {
+      flushScheduled = false
+      handles = pendingHandles
+      pendingHandles = null
+      released = releasedHandles
+      releasedHandles = null
+      tickRecords = records.toList()
+      records.clear()
+    }
+
+    if (handles != null || released != null) {
+      val handlesData: WritableMap = Arguments.createMap()
+      handlesData.putString("id", sdkId)
+      handlesData.putArray("handles", handles ?: Arguments.createArray())
+      handlesData.putArray("released", released ?: Arguments.createArray())
+      delegate.emitEvent(TRACK_HANDLES_EVENT, handlesData)
+    }
+
+    if (tickRecords.isEmpty()) {
+      return
+    }
+
+    val size = 2 + tickRecords.sumOf { it.size }
+    val buffer = DoubleArray(size)
+    buffer[0] = SCHEMA_VERSION.toDouble()
+    buffer[1] = tickRecords.size.toDouble()
+    var offset = 2
+    for (record in tickRecords) {
+      record.copyInto(buffer, offset)
+      offset += record.size
+    }
+
+    val data: WritableMap = Arguments.createMap()
+    data.putString("id", sdkId)
+    if (base64Encoding) {
+      val bytes = ByteBuffer.allocate(size * 8).order(ByteOrder.LITTLE_ENDIAN)
+      bytes.asDoubleBuffer().put(buffer)
+      data.putString("encoding", "base64")
+      data.putString("stats", Base64.encodeToString(bytes.array(), Base64.NO_WRAP))
+    } else {
+      val stats: WritableArray = Arguments.createArray()
+      for (value in buffer) {
+        stats.pushDouble(value)
+      }
+      data.putString("encoding", "array")
+      data.putArray("stats", stats)
+    }
+    delegate.emitEvent(PACKED_STATS_EVENT, data)
+  }
+}
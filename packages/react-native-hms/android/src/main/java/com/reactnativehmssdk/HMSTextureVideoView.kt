@@ -0,0 +1,91 @@
+package com.reactnativehmssdk
+
+import android.annotation.SuppressLint
+import android.content.Context
+import android.graphics.SurfaceTexture
+import android.view.TextureView
+import hms.webrtc.RendererCommon
+import hms.webrtc.VideoFrame
+import hms.webrtc.VideoSink
+import live.hms.video.media.tracks.HMSVideoTrack
+
+/**
+ * Video view drawn into a `TextureView` by `HMSSharedEglRenderer`, used by `HMSView` in `TEXTURE` render mode.
+ *
+ * Unlike `HMSVideoView`, it doesn't create an EGL context, render thread & surface of its own, and composes
+ * like a regular view, so that dense grids don't need a `SurfaceView` per tile. It doesn't select simulcast
+ * layers on its own.
+ */
+@SuppressLint("ViewConstructor")
+class HMSTextureVideoView(
+  context: Context,
+  private val onResolutionChange: (Int, Int) -> Unit,
+) : TextureView(context),
+  TextureView.SurfaceTextureListener,
+  VideoSink {
+  private val target = HMSSharedEglRenderer.Target()
+  private var videoTrack: HMSVideoTrack? = null
+
+  // accessed only on the thread delivering frames
+  private var frameWidth = 0
+  private var frameHeight = 0
+
+  init {
+    surfaceTextureListener = this
+  }
+
+  fun addTrack(track: HMSVideoTrack) {
+    removeTrack()
+    videoTrack = track
+    track.addSink(this)
+  }
+
+  fun removeTrack() {
+    videoTrack?.removeSink(this)
+    videoTrack = null
+    HMSSharedEglRenderer.clearFrame(target)
+  }
+
+  fun setMirror(mirror: Boolean) {
+    target.mirror = mirror
+  }
+
+  fun setScalingType(scalingType: RendererCommon.ScalingType) {
+    target.scalingType = scalingType
+  }
+
+  override fun onFrame(frame: VideoFrame) {
+    if (frame.rotatedWidth != frameWidth || frame.rotatedHeight != frameHeight) {
+      frameWidth = frame.rotatedWidth
+      frameHeight = frame.rotatedHeight
+      val width = frameWidth
+      val height = frameHeight
+      post { onResolutionChange(width, height) }
+    }
+    HMSSharedEglRenderer.renderFrame(target, frame)
+  }
+
+  override fun onSurfaceTextureAvailable(
+    surface: SurfaceTexture,
+    width: Int,
+    height: Int,
+  ) {
+    HMSSharedEglRenderer.attach(target, surface, width, height)
+  }
+
+  override fun onSurfaceTextureSizeChanged(
+    surface: SurfaceTexture,
+    width: Int,
+    height: Int,
+  ) {
+    HMSSharedEglRenderer.resize(target, width, height)
+  }
+
+  // SurfaceTexture is released by the renderer once its EGL surface is destroyed
+  override fun onSurfaceTextureDestroyed(surface: SurfaceTexture): Boolean {
+    HMSSharedEglRenderer.detach(target, surface)
+    return false
+  }
+
+  override fun onSurfaceTextureUpdated(surface: SurfaceTexture) {}
+}
@@ -0,0 +1,322 @@
+package com.reactnativehmssdk
+
+import android.content.Context
+import android.graphics.Bitmap
+import android.graphics.Matrix
+import android.net.Uri
+import android.os.SystemClock
+import android.util.Base64
+import com.facebook.react.bridge.Arguments
+import com.facebook.react.bridge.ReadableMap
+import com.facebook.react.bridge.WritableMap
+import hms.webrtc.VideoFrame
+import hms.webrtc.VideoSink
+import live.hms.video.media.tracks.HMSVideoTrack
+import java.io.ByteArrayOutputStream
+import java.io.File
+import java.io.FileOutputStream
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+import kotlin.math.max
+import kotlin.math.roundToInt
+
+/**
+ * Periodically samples frames of video tracks into small JPEG thumbnails, without mounting a video view.
+ *
+ * A sampler attaches a sink to the track and picks at most one frame per sampling interval. Frames are
+ * scaled down by WebRTC, converted & encoded on a background thread, and a frame is skipped while the previous
+ * one of the sampler is still being encoded. Thumbnails are emitted with `ON_THUMBNAIL` event either as
+ * `file://` URI of a file in the cache directory, which keeps only the latest thumbnails, or as Base64 string.
+ * When samplers are stopped on native side, as their track is removed or the room is left, `ON_THUMBNAIL_SAMPLER_STOPPED`
+ * event is emitted for each of them.
+ */
+class HMSThumbnailSampler(
+  private val sdkId: String,
+  private val delegate: HMSManager,
+  private val context: Context,
+) {
+  companion object {
+    const val THUMBNAIL_EVENT = "ON_THUMBNAIL"
+    const val SAMPLER_STOPPED_EVENT = "ON_THUMBNAIL_SAMPLER_STOPPED"
+    private const val CACHE_DIRECTORY = "hms-thumbnails"
+    private const val MAX_THUMBNAIL_FILES = 64
+
+    // replaced thumbnail file is kept for a while, as an image may still be loading it
+    private const val REPLACED_FILE_TTL = 5000L
+    private const val DEFAULT_MAX_DIMENSION = 160
+    private const val DEFAULT_FPS = 1.0
+    private const val DEFAULT_QUALITY = 70
+
+    // Single background thread shared by samplers of all instances
+    private val executor: ScheduledExecutorService = Executors.newSingleThreadScheduledExecutor()
+  }
+
+  data class Options(
+    val maxDimension: Int,
+    val intervalMs: Long,
+    val quality: Int,
+    val toFile: Boolean,
+  ) {
+    companion object {
+      fun from(options: ReadableMap?): Options {
+        val maxDimension =
+          if (options?.hasKey("maxDimension") == true && !options.isNull("maxDimension")) {
+            options.getInt("maxDimension").coerceAtLeast(2)
+          } else {
+            DEFAULT_MAX_DIMENSION
+          }
+        val fps =
+          if (options?.hasKey("fps") == true && !options.isNull("fps")) {
+            options.getDouble("fps").coerceIn(0.01, 30.0)
+          } else {
+            DEFAULT_FPS
+          }
+        val quality =
+          if (options?.hasKey("quality") == true && !options.isNull("quality")) {
+            options.getInt("quality").coerceIn(0, 100)
+          } else {
+            DEFAULT_QUALITY
+          }
+        val toFile = options?.hasKey("output") != true || options.getString("output") != "base64"
+        return Options(maxDimension, (1000 / fps).toLong(), quality, toFile)
+      }
+    }
+  }
+
+  private inner class Sampler(
+    val samplerId: String,
+    val track: HMSVideoTrack,
+    val options: Options,
+  ) : VideoSink {
+    @Volatile
+    var isStopped = false
+
+    private val isSampling = AtomicBoolean(false)
+
+    // accessed only on the thread delivering frames
+    private var lastSampleTimeMs = 0L
+
+    // accessed only on the background thread
+    private var pixels = IntArray(0)
+
+    override fun onFrame(frame: VideoFrame) {
+      if (isStopped) {
+        return
+      }
+      val now = SystemClock.elapsedRealtime()
+      if (now - lastSampleTimeMs < options.intervalMs || !isSampling.compareAndSet(false, true)) {
+        return
+      }
+      lastSampleTimeMs = now
+
+      frame.retain()
+      executor.execute {
+        try {
+          if (!isStopped) {
+            sample(frame)
+          }
+        } catch (e: Exception) {
+          // a failed sample is skipped, next one is picked in the next interval
+        } finally {
+          frame.release()
+          isSampling.set(false)
+        }
+      }
+    }
+
+    private fun sample(frame: VideoFrame) {
+      val buffer = frame.buffer
+      val ratio = minOf(1f, options.maxDimension.toFloat() / max(buffer.width, buffer.height))
+      // I420 planes need even dimensions
+      val width = ((buffer.width * ratio).roundToInt() and 1.inv()).coerceAtLeast(2)
+      val height = ((buffer.height * ratio).roundToInt() and 1.inv()).coerceAtLeast(2)
+
+      val scaledBuffer = buffer.cropAndScale(0, 0, buffer.width, buffer.height, width, height)
+      val i420Buffer = scaledBuffer.toI420()
+      scaledBuffer.release()
+      if (i420Buffer == null) {
+        return
+      }
+
+      val bitmap: Bitmap
+      try {
+        if (pixels.size != width * height) {
+          pixels = IntArray(width * height)
+        }
+        convertToArgb(i420Buffer, pixels)
+        bitmap = Bitmap.createBitmap(pixels, width, height, Bitmap.Config.ARGB_8888)
+      } finally {
+        i420Buffer.release()
+      }
+
+      val thumbnail = rotate(bitmap, frame.rotation)
+      try {
+        emitThumbnail(this, thumbnail)
+      } finally {
+        thumbnail.recycle()
+        if (thumbnail !== bitmap) {
+          bitmap.recycle()
+        }
+      }
+    }
+  }
+
+  private val samplers = ConcurrentHashMap<String, Sampler>()
+
+  // latest thumbnail file of every sampler, eldest files are deleted when there are more than `MAX_THUMBNAIL_FILES`
+  private val thumbnailFiles =
+    object : LinkedHashMap<String, File>() {
+      override fun removeEldestEntry(eldest: MutableMap.MutableEntry<String, File>): Boolean {
+        if (size > MAX_THUMBNAIL_FILES) {
+          eldest.value.delete()
+          return true
+        }
+        return false
+      }
+    }
+
+  fun start(
+    samplerId: String,
+    track: HMSVideoTrack,
+    options: Options,
+  ) {
+    stop(samplerId)
+    val sampler = Sampler(samplerId, track, options)
+    samplers[samplerId] = sampler
+    track.addSink(sampler)
+  }
+
+  fun stop(samplerId: String) {
+    samplers.remove(samplerId)?.let { detach(it) }
+  }
+
+  fun stopTrack(trackId: String) {
+    for (sampler in samplers.values) {
+      if (sampler.track.trackId == trackId && samplers.remove(sampler.samplerId, sampler)) {
+        detach(sampler)
+        emitStopped(sampler)
+      }
+    }
+  }
+
+  fun clear() {
+    for (sampler in samplers.values) {
+      detach(sampler)
+      emitStopped(sampler)
+    }
+    samplers.clear()
+    executor.execute {
+      synchronized(thumbnailFiles) {
+        thumbnailFiles.clear()
+      }
+      File(context.cacheDir, CACHE_DIRECTORY).listFiles()?.forEach { it.delete() }
+    }
+  }
+
+  private fun detach(sampler: Sampler) {
+    sampler.isStopped = true
+    try {
+      sampler.track.removeSink(sampler)
+    } catch (e: Exception) {
+      // track may already be disposed after it was removed from the room
+    }
+  }
+
+  private fun emitStopped(sampler: Sampler) {
+    val data: WritableMap = Arguments.createMap()
+    data.putString("id", sdkId)
+    data.putString("samplerId", sampler.samplerId)
+    data.putString("trackId", sampler.track.trackId)
+    delegate.emitEvent(SAMPLER_STOPPED_EVENT, data)
+  }
+
+  private fun emitThumbnail(
+    sampler: Sampler,
+    thumbnail: Bitmap,
+  ) {
+    val data: WritableMap = Arguments.createMap()
+    data.putString("id", sdkId)
+    data.putString("samplerId", sampler.samplerId)
+    data.putString("trackId", sampler.track.trackId)
+    data.putInt("width", thumbnail.width)
+    data.putInt("height", thumbnail.height)
+    data.putDouble("timestamp", System.currentTimeMillis().toDouble())
+
+    if (sampler.options.toFile) {
+      val file = writeThumbnailFile(sampler.samplerId, thumbnail, sampler.options.quality)
+      data.putString("uri", Uri.fromFile(file).toString())
+    } else {
+      val outputStream = ByteArrayOutputStream()
+      thumbnail.compress(Bitmap.CompressFormat.JPEG, sampler.options.quality, outputStream)
+      data.putString("data", Base64.encodeToString(outputStream.toByteArray(), Base64.NO_WRAP))
+    }
+
+    if (!sampler.isStopped) {
+      delegate.emitEvent(THUMBNAIL_EVENT, data)
+    }
+  }
+
+  // Every thumbnail is written to a new file, so that images showing an older URI are not served stale content from cache
+  private fun writeThumbnailFile(
+    samplerId: String,
+    thumbnail: Bitmap,
+    quality: Int,
+  ): File {
+    val directory = File(context.cacheDir, CACHE_DIRECTORY)
+    if (!directory.exists()) {
+      directory.mkdirs()
+    }
+    val file = File(directory, "$samplerId-${System.currentTimeMillis()}.jpg")
+    FileOutputStream(file).use { thumbnail.compress(Bitmap.CompressFormat.JPEG, quality, it) }
+    val replacedFile =
+      synchronized(thumbnailFiles) {
+        val replaced = thumbnailFiles.remove(samplerId)
+        thumbnailFiles[samplerId] = file
+        replaced
+      }
+    replacedFile?.let { executor.schedule({ it.delete() }, REPLACED_FILE_TTL, TimeUnit.MILLISECONDS) }
+    return file
+  }
+
+  private fun rotate(
+    bitmap: Bitmap,
+    rotation: Int,
+  ): Bitmap {
+    if (rotation % 360 == 0) {
+      return bitmap
+    }
+    val matrix = Matrix()
+    matrix.postRotate(rotation.toFloat())
+    return Bitmap.createBitmap(bitmap, 0, 0, bitmap.width, bitmap.height, matrix, true)
+  }
+
+  // BT.601 limited range conversion in fixed point
+  private fun convertToArgb(
+    buffer: VideoFrame.I420Buffer,
+    pixels: IntArray,
+  ) {
+    val width = buffer.width
+    val height = buffer.height
+    val dataY = buffer.dataY
+    val dataU = buffer.dataU
+    val dataV = buffer.dataV
+    for (row in 0 until height) {
+      val offsetY = row * buffer.strideY
+      val offsetU = (row shr 1) * buffer.strideU
+      val offsetV = (row shr 1) * buffer.strideV
+      for (column in 0 until width) {
+        val y = 1192 * max((dataY.get(offsetY + column).toInt() and 0xff) - 16, 0)
+        val u = (dataU.get(offsetU + (column shr 1)).toInt() and 0xff) - 128
+        val v = (dataV.get(offsetV + (column shr 1)).toInt() and 0xff) - 128
+        val r = (y + 1634 * v).coerceIn(0, 262143)
+        val g = (y - 833 * v - 400 * u).coerceIn(0, 262143)
+        val b = (y + 2066 * u).coerceIn(0, 262143)
+        pixels[row * width + column] =
+          -0x1000000 or ((r shl 6) and 0xff0000) or ((g shr 2) and 0xff00) or ((b shr 10) and 0xff)
+      }
+    }
+  }
+}
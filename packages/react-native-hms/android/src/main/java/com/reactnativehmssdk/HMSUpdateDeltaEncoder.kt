@@ -0,0 +1,134 @@
+package com.reactnativehmssdk
+
+import com.facebook.react.bridge.Arguments
+import com.facebook.react.bridge.WritableMap
+import live.hms.video.media.tracks.HMSTrack
+import live.hms.video.sdk.models.HMSPeer
+import live.hms.video.sdk.models.enums.HMSPeerUpdate
+import live.hms.video.sdk.models.enums.HMSTrackUpdate
+
+/**
+ * Encodes peer & track update events as deltas against the state last sent to JS.
+ *
+ * Every event carries a monotonically increasing `seq`, the identity of the peer or track, the field
+ * changed by the update and only those of the other fields which differ from the last sent state.
+ * `source` & `type` of a track are always sent, as JS needs them to place the track on its peer.
+ */
+class HMSUpdateDeltaEncoder {
+  private data class PeerState(
+    var name: String?,
+  )
+
+  private data class TrackState(
+    val peerId: String,
+    var description: String?,
+    var isMute: Boolean,
+  )
+
+  private val lock = Any()
+  private val peerStates = HashMap<String, PeerState>()
+  private val trackStates = HashMap<String, TrackState>()
+  private var seq: Long = 0
+
+  fun encodePeerUpdate(
+    hmsPeer: HMSPeer,
+    peerUpdateType: HMSPeerUpdate,
+  ): WritableMap {
+    val peer: WritableMap = Arguments.createMap()
+    peer.putString(peerUpdateType.ordinal.toString(), hmsPeer.peerID)
+
+    synchronized(lock) {
+      peer.putDouble("seq", (++seq).toDouble())
+
+      if (peerUpdateType == HMSPeerUpdate.PEER_LEFT) {
+        removePeerState(hmsPeer.peerID)
+        return peer
+      }
+
+      val state = peerStates[hmsPeer.peerID]
+      if (state == null || state.name != hmsPeer.name) {
+        peer.putString("name", hmsPeer.name)
+        peerStates[hmsPeer.peerID] = PeerState(hmsPeer.name)
+      }
+    }
+
+    when (peerUpdateType) {
+      HMSPeerUpdate.METADATA_CHANGED -> {
+        peer.putString("metadata", hmsPeer.metadata)
+      }
+      HMSPeerUpdate.ROLE_CHANGED -> {
+        peer.putMap("role", HMSDecoder.getHmsRole(hmsPeer.hmsRole))
+      }
+      HMSPeerUpdate.NETWORK_QUALITY_UPDATED -> {
+        hmsPeer.networkQuality?.let {
+          peer.putMap("networkQuality", HMSDecoder.getHmsNetworkQuality(it))
+        }
+      }
+      HMSPeerUpdate.HAND_RAISED_CHANGED -> {
+        peer.putBoolean("isHandRaised", hmsPeer.isHandRaised)
+      }
+      else -> {}
+    }
+    return peer
+  }
+
+  fun encodeTrackUpdate(
+    track: HMSTrack,
+    hmsPeer: HMSPeer,
+    trackUpdateType: HMSTrackUpdate,
+  ): WritableMap {
+    val peer: WritableMap = Arguments.createMap()
+    peer.putString("peerID", hmsPeer.peerID)
+
+    val hmsTrack: WritableMap = Arguments.createMap()
+    hmsTrack.putString("trackId", track.trackId)
+    hmsTrack.putString("source", track.source)
+    hmsTrack.putString("type", track.type.name)
+
+    val data: WritableMap = Arguments.createMap()
+
+    synchronized(lock) {
+      data.putDouble("seq", (++seq).toDouble())
+
+      val peerState = peerStates[hmsPeer.peerID]
+      if (peerState == null || peerState.name != hmsPeer.name) {
+        peer.putString("name", hmsPeer.name)
+        peerStates[hmsPeer.peerID] = PeerState(hmsPeer.name)
+      }
+
+      val trackState = trackStates[track.trackId]
+      if (trackState == null || trackState.description != track.description) {
+        hmsTrack.putString("trackDescription", track.description)
+      }
+      if (trackState == null || trackState.isMute != track.isMute) {
+        hmsTrack.putBoolean("isMute", track.isMute)
+      }
+
+      if (trackUpdateType == HMSTrackUpdate.TRACK_REMOVED) {
+        trackStates.remove(track.trackId)
+      } else if (trackState == null) {
+        trackStates[track.trackId] = TrackState(hmsPeer.peerID, track.description, track.isMute)
+      } else {
+        trackState.description = track.description
+        trackState.isMute = track.isMute
+      }
+    }
+
+    data.putMap("peer", peer)
+    data.putMap("track", hmsTrack)
+    data.putString("type", trackUpdateType.name)
+    return data
+  }
+
+  fun clear() {
+    synchronized(lock) {
+      peerStates.clear()
+      trackStates.clear()
+    }
+  }
+
+  private fun removePeerState(peerId: String) {
+    peerStates.remove(peerId)
+    trackStates.entries.removeAll { it.value.peerId == peerId }
+  }
+}
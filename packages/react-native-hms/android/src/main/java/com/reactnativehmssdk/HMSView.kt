@@ -1,10 +1,8 @@
 package com.reactnativehmssdk
 
 import android.annotation.SuppressLint
-import android.content.Context
 import android.os.Build
 import android.util.Log
-import android.view.LayoutInflater
 import android.widget.FrameLayout
 import androidx.annotation.RequiresApi
 import com.facebook.react.bridge.Arguments
@@ -14,53 +12,139 @@ import com.facebook.react.bridge.WritableMap
 import com.facebook.react.uimanager.events.RCTEventEmitter
 import hms.webrtc.RendererCommon
 import live.hms.video.media.tracks.HMSVideoTrack
-import live.hms.video.utils.HmsUtilities
 import live.hms.videoview.HMSVideoView
-import live.hms.videoview.VideoViewStateChangeListener
 
 @SuppressLint("ViewConstructor")
 class HMSView(
   context: ReactContext,
+  private val rendererPool: HMSRendererPool,
 ) : FrameLayout(context) {
+  private var renderer: HMSRendererPool.Renderer? = null
   private var hmsVideoView: HMSVideoView? = null
-  private var videoTrack: HMSVideoTrack? = null
-  private var sdkId: String = "12345"
+  private var textureVideoView: HMSTextureVideoView? = null
+  private var mirror = false
+  private var scalingType = RendererCommon.ScalingType.SCALE_ASPECT_FILL
+  private var zOrderMediaOverlay = false
+  var videoTrack: HMSVideoTrack? = null
+    private set
+  var sdkId: String = "12345"
+    private set
   private var disableAutoSimulcastLayerSelect = false
   private var jsCanApplyStyles = false
+  var isRenderingPaused = false
+    private set
+  var isLayerArbitrated = false
+    private set
+  private var layerArbiter: HMSLayerArbiter? = null
+  var pauseWhenHidden = false
+    private set
+  var minVisibleSizePx = 0
+    private set
 
   init {
-    val inflater = getContext().getSystemService(Context.LAYOUT_INFLATER_SERVICE) as LayoutInflater
-    val view = inflater.inflate(R.layout.hms_view, this)
+    bindPooledRenderer()
+  }
+
+  private fun bindPooledRenderer() {
+    val pooledRenderer = rendererPool.acquire(context as ReactContext, this)
+    pooledRenderer.owner = this
+    addView(pooledRenderer.container)
+    renderer = pooledRenderer
 
-    hmsVideoView = view.findViewById(R.id.hmsVideoView)
-    hmsVideoView?.setEnableHardwareScaler(false)
+    hmsVideoView = pooledRenderer.videoView
+    hmsVideoView?.setMirror(mirror)
+    hmsVideoView?.setScalingType(scalingType)
+    applyAutoSimulcastLayerSelect()
+    if (zOrderMediaOverlay) {
+      hmsVideoView?.setZOrderMediaOverlay(true)
+    }
+  }
 
-    hmsVideoView?.setMirror(false)
-    hmsVideoView?.disableAutoSimulcastLayerSelect(disableAutoSimulcastLayerSelect)
+  // Whether layer of the track is selected by the pooled renderer of this view, as per its size
+  val isAutoSimulcast: Boolean
+    get() = textureVideoView == null && !isLayerArbitrated && !disableAutoSimulcastLayerSelect
 
-    hmsVideoView?.addVideoViewStateChangeListener(
-      object : VideoViewStateChangeListener {
-        override fun onResolutionChange(
-          newWidth: Int,
-          newHeight: Int,
-        ) {
-          super.onResolutionChange(newWidth, newHeight)
+  // Auto simulcast is turned off while rendering is paused, so that it doesn't override layer of a hidden track
+  private fun applyAutoSimulcastLayerSelect() {
+    hmsVideoView?.disableAutoSimulcastLayerSelect(isLayerArbitrated || disableAutoSimulcastLayerSelect || isRenderingPaused)
+  }
 
-          videoTrack?.let { nonnullVideoTrack ->
-            // emit when source is screen or `jsCanApplyStyles` is `false`
-            if (nonnullVideoTrack.source == "screen" || !jsCanApplyStyles) {
-              jsCanApplyStyles = true
+  private fun addTrackToRenderer(track: HMSVideoTrack) {
+    val textureView = textureVideoView
+    if (textureView != null) {
+      textureView.addTrack(track)
+    } else {
+      hmsVideoView?.addTrack(track)
+    }
+  }
 
-              val data = Arguments.createMap()
-              data.putInt("width", newWidth)
-              data.putInt("height", newHeight)
+  private fun removeTrackFromRenderer() {
+    val textureView = textureVideoView
+    if (textureView != null) {
+      textureView.removeTrack()
+    } else {
+      hmsVideoView?.removeTrack()
+    }
+  }
 
-              sendEventToJS("ON_RESOLUTION_CHANGE_EVENT", data)
-            }
-          }
-        }
-      },
-    )
+  /**
+   * Switches between `SURFACE` render mode, which renders with a pooled `HMSVideoView`, and `TEXTURE`
+   * render mode, which renders into a `TextureView` from the EGL context shared by all views in this mode
+   */
+  fun updateRenderMode(renderMode: String?) {
+    val useTexture = renderMode == "TEXTURE"
+    if (useTexture == (textureVideoView != null)) {
+      return
+    }
+
+    val isTrackBound = isAttachedToWindow && !isRenderingPaused
+    if (isTrackBound) {
+      removeTrackFromRenderer()
+    }
+
+    if (useTexture) {
+      releaseRenderer()
+      val view = HMSTextureVideoView(context) { width, height -> onRendererResolutionChange(width, height) }
+      view.setMirror(mirror)
+      view.setScalingType(scalingType)
+      addView(view, LayoutParams(LayoutParams.MATCH_PARENT, LayoutParams.MATCH_PARENT))
+      textureVideoView = view
+    } else {
+      textureVideoView?.let { removeView(it) }
+      textureVideoView = null
+      bindPooledRenderer()
+    }
+
+    if (isTrackBound) {
+      videoTrack?.let { addTrackToRenderer(it) }
+    }
+  }
+
+  // Called by the pooled renderer bound to this view
+  fun onRendererResolutionChange(
+    newWidth: Int,
+    newHeight: Int,
+  ) {
+    videoTrack?.let { nonnullVideoTrack ->
+      // emit when source is screen or `jsCanApplyStyles` is `false`
+      if (nonnullVideoTrack.source == "screen" || !jsCanApplyStyles) {
+        jsCanApplyStyles = true
+
+        val data = Arguments.createMap()
+        data.putInt("width", newWidth)
+        data.putInt("height", newHeight)
+
+        sendEventToJS("ON_RESOLUTION_CHANGE_EVENT", data)
+      }
+    }
+  }
+
+  // Returns the renderer to the pool once the view is dropped by React Native
+  fun releaseRenderer() {
+    val pooledRenderer = renderer ?: return
+    renderer = null
+    hmsVideoView = null
+    rendererPool.release(pooledRenderer)
   }
 
   private fun sendEventToJS(
@@ -77,22 +161,29 @@ class HMSView(
 
   @RequiresApi(Build.VERSION_CODES.N)
   fun captureHmsView(args: ReadableArray?) {
-    hmsVideoView?.let {
+    (textureVideoView ?: hmsVideoView)?.let {
       HMSHelper.captureSurfaceView(it, sdkId, args, context, id)
     }
   }
 
   override fun onDetachedFromWindow() {
     super.onDetachedFromWindow()
-    hmsVideoView?.removeTrack()
+    HMSViewVisibilityTracker.unregister(this)
+    layerArbiter?.unregister(this)
+    if (!isRenderingPaused) {
+      removeTrackFromRenderer()
+    }
+    isRenderingPaused = false
   }
 
   override fun onAttachedToWindow() {
     super.onAttachedToWindow()
+    HMSViewVisibilityTracker.register(this)
+    layerArbiter?.register(this)
 
     videoTrack?.let {
       // Safe Call Operator to check if videoTrack is not null
-      hmsVideoView?.addTrack(it) // add the videoTrack to the hmsVideoView
+      addTrackToRenderer(it) // add the videoTrack to the hmsVideoView
     } ?: run {
       // Elvis Operator to handle the case when videoTrack is null
       Log.e(
@@ -102,8 +193,53 @@ class HMSView(
     }
   }
 
+  // Called by `HMSViewVisibilityTracker` when the view is hidden or visible again
+  fun setRenderingPaused(paused: Boolean) {
+    if (paused == isRenderingPaused) {
+      return
+    }
+    isRenderingPaused = paused
+    applyAutoSimulcastLayerSelect()
+    if (paused) {
+      removeTrackFromRenderer()
+    } else {
+      videoTrack?.let { addTrackToRenderer(it) }
+    }
+    layerArbiter?.scheduleEvaluation()
+  }
+
+  override fun onSizeChanged(
+    w: Int,
+    h: Int,
+    oldw: Int,
+    oldh: Int,
+  ) {
+    super.onSizeChanged(w, h, oldw, oldh)
+    layerArbiter?.scheduleEvaluation()
+  }
+
+  // Called by `HMSLayerArbiter` of the instance, layers of arbitrated views are selected by the arbiter
+  fun updateLayerArbitration(arbitrated: Boolean) {
+    isLayerArbitrated = arbitrated
+    applyAutoSimulcastLayerSelect()
+  }
+
+  fun updatePauseWhenHidden(pauseWhenHidden: Boolean?) {
+    this.pauseWhenHidden = pauseWhenHidden == true
+    if (!this.pauseWhenHidden) {
+      setRenderingPaused(false)
+    }
+    HMSViewVisibilityTracker.scheduleCheck()
+  }
+
+  fun updateMinVisibleSize(minVisibleSize: Double?) {
+    minVisibleSizePx = ((minVisibleSize ?: 0.0) * resources.displayMetrics.density).toInt()
+    HMSViewVisibilityTracker.scheduleCheck()
+  }
+
   fun updateZOrderMediaOverlay(setZOrderMediaOverlay: Boolean?) {
     if (setZOrderMediaOverlay != null && setZOrderMediaOverlay) {
+      zOrderMediaOverlay = true
       // hmsVideoView.setZOrderOnTop(true);
       hmsVideoView?.setZOrderMediaOverlay(setZOrderMediaOverlay)
     }
@@ -113,15 +249,15 @@ class HMSView(
     if (scaleType != null) {
       when (scaleType) {
         "ASPECT_FIT" -> {
-          hmsVideoView?.setScalingType(RendererCommon.ScalingType.SCALE_ASPECT_FIT)
+          setScalingType(RendererCommon.ScalingType.SCALE_ASPECT_FIT)
           return
         }
         "ASPECT_FILL" -> {
-          hmsVideoView?.setScalingType(RendererCommon.ScalingType.SCALE_ASPECT_FILL)
+          setScalingType(RendererCommon.ScalingType.SCALE_ASPECT_FILL)
           return
         }
         "ASPECT_BALANCED" -> {
-          hmsVideoView?.setScalingType(RendererCommon.ScalingType.SCALE_ASPECT_BALANCED)
+          setScalingType(RendererCommon.ScalingType.SCALE_ASPECT_BALANCED)
           return
         }
         else -> {
@@ -131,6 +267,12 @@ class HMSView(
     }
   }
 
+  private fun setScalingType(scalingType: RendererCommon.ScalingType) {
+    this.scalingType = scalingType
+    hmsVideoView?.setScalingType(scalingType)
+    textureVideoView?.setScalingType(scalingType)
+  }
+
   fun setData(
     id: String?,
     trackId: String?,
@@ -144,14 +286,24 @@ class HMSView(
     val rnSDK = hmsCollection[sdkId]
     val hms = rnSDK?.hmsSDK
 
+    if (rnSDK != null && rnSDK.layerArbiter !== layerArbiter) {
+      if (isAttachedToWindow) {
+        layerArbiter?.unregister(this)
+        rnSDK.layerArbiter.register(this)
+      }
+      layerArbiter = rnSDK.layerArbiter
+    }
+
     if (trackId != null && hms != null) {
       if (mirror != null) {
+        this.mirror = mirror
         hmsVideoView?.setMirror(mirror)
+        textureVideoView?.setMirror(mirror)
       }
       updateScaleType(scaleType)
 
       hms.getRoom()?.let { room ->
-        val regularVideoTrack: HMSVideoTrack? = HmsUtilities.getVideoTrack(trackId, room)
+        val regularVideoTrack: HMSVideoTrack? = rnSDK.roomIndex.getTrack(trackId, room) as? HMSVideoTrack
 
         regularVideoTrack.let { fetchedTrack ->
           if (fetchedTrack == null) {
@@ -170,7 +322,8 @@ class HMSView(
 
   fun updateAutoSimulcast(autoSimulcast: Boolean?) {
     autoSimulcast?.let {
-      hmsVideoView?.disableAutoSimulcastLayerSelect(!it)
+      disableAutoSimulcastLayerSelect = !it
+      applyAutoSimulcastLayerSelect()
     }
   }
 }
@@ -0,0 +1,165 @@
+package com.reactnativehmssdk
+
+import android.graphics.Rect
+import android.os.Handler
+import android.os.Looper
+import android.view.ViewTreeObserver
+import live.hms.video.media.settings.HMSLayer
+import live.hms.video.media.tracks.HMSRemoteVideoTrack
+import java.util.WeakHashMap
+
+/**
+ * Tracks visibility of all attached `HMSView`s, to pause rendering of views which are not visible.
+ *
+ * Visibility is checked at most once per `CHECK_INTERVAL_MS` after a scroll or layout change in any of
+ * the windows of the views. A view with `pauseWhenHidden` is hidden when it is not shown, is scrolled out of
+ * its window, or is smaller than its `minVisibleSize`. Rendering of a hidden view is paused, and a remote
+ * track is dropped to the lowest simulcast layer while it is not shown in any visible view. Views without
+ * `pauseWhenHidden` are always treated as visible. Auto simulcast of a view is turned off while it is hidden.
+ * The layer a track had before being dropped is saved, and when the track is visible again or its views are gone,
+ * the saved layer is set back only if nothing else changed the layer in between, i.e. the track is still at the
+ * lowest layer, it isn't shown in a view with auto simulcast, which selects the layer itself, and it isn't
+ * arbitrated by `HMSLayerArbiter`, which is left to the arbiter. Saved layers of an SDK instance are discarded
+ * without being set back by [clear] when the instance leaves the room.
+ *
+ * All methods are called on the main thread.
+ */
+object HMSViewVisibilityTracker {
+  private const val CHECK_INTERVAL_MS = 100L
+
+  private val views = LinkedHashSet<HMSView>()
+  private val observers = WeakHashMap<ViewTreeObserver, Boolean>()
+
+  private class DroppedLayer(
+    val sdkId: String,
+    val track: HMSRemoteVideoTrack,
+    val layer: HMSLayer?,
+  )
+
+  // layers of remote tracks before they were dropped to the lowest layer
+  private val droppedLayers = HashMap<String, DroppedLayer>()
+
+  private val handler = Handler(Looper.getMainLooper())
+  private val visibleRect = Rect()
+  private var isCheckPending = false
+
+  private val checkRunnable =
+    Runnable {
+      isCheckPending = false
+      check()
+    }
+  private val scrollChangedListener = ViewTreeObserver.OnScrollChangedListener { scheduleCheck() }
+  private val globalLayoutListener = ViewTreeObserver.OnGlobalLayoutListener { scheduleCheck() }
+
+  fun register(view: HMSView) {
+    views.add(view)
+    val observer = view.viewTreeObserver
+    if (observer.isAlive && observers.put(observer, true) == null) {
+      observer.addOnScrollChangedListener(scrollChangedListener)
+      observer.addOnGlobalLayoutListener(globalLayoutListener)
+    }
+    scheduleCheck()
+  }
+
+  fun unregister(view: HMSView) {
+    views.remove(view)
+    if (views.isEmpty()) {
+      for (observer in observers.keys) {
+        if (observer.isAlive) {
+          observer.removeOnScrollChangedListener(scrollChangedListener)
+          observer.removeOnGlobalLayoutListener(globalLayoutListener)
+        }
+      }
+      observers.clear()
+    }
+    // layers of tracks dropped for this view are restored by the next check
+    scheduleCheck()
+  }
+
+  fun scheduleCheck() {
+    if (isCheckPending || (droppedLayers.isEmpty() && views.none { it.pauseWhenHidden })) {
+      return
+    }
+    isCheckPending = true
+    handler.postDelayed(checkRunnable, CHECK_INTERVAL_MS)
+  }
+
+  // Called from any thread when the SDK instance of [sdkId] is cleaned up, its tracks can't be updated anymore
+  fun clear(sdkId: String) {
+    handler.post {
+      droppedLayers.values.removeAll { it.sdkId == sdkId }
+    }
+  }
+
+  private fun check() {
+    val visibleTrackIds = HashSet<String>()
+    val autoSimulcastTrackIds = HashSet<String>()
+    val hiddenTracks = HashMap<String, HMSView>()
+    val arbitratedTrackIds = HashSet<String>()
+
+    for (view in views) {
+      val isVisible = !view.pauseWhenHidden || isVisible(view)
+      view.setRenderingPaused(!isVisible)
+
+      val track = view.videoTrack as? HMSRemoteVideoTrack ?: continue
+      if (view.isLayerArbitrated) {
+        arbitratedTrackIds.add(track.trackId)
+      } else if (isVisible) {
+        visibleTrackIds.add(track.trackId)
+        if (view.isAutoSimulcast) {
+          autoSimulcastTrackIds.add(track.trackId)
+        }
+      } else {
+        hiddenTracks[track.trackId] = view
+      }
+    }
+
+    val iterator = droppedLayers.entries.iterator()
+    while (iterator.hasNext()) {
+      val (trackId, droppedLayer) = iterator.next()
+      if (!hiddenTracks.containsKey(trackId) || visibleTrackIds.contains(trackId)) {
+        iterator.remove()
+        // a layer set by anyone else since the track was dropped isn't overridden
+        if (!arbitratedTrackIds.contains(trackId) && !autoSimulcastTrackIds.contains(trackId) &&
+          getLayer(droppedLayer.track) == HMSLayer.LOW
+        ) {
+          droppedLayer.layer?.let { setLayer(droppedLayer.track, it) }
+        }
+      }
+    }
+
+    for ((trackId, view) in hiddenTracks) {
+      if (!visibleTrackIds.contains(trackId) && !arbitratedTrackIds.contains(trackId) && !droppedLayers.containsKey(trackId)) {
+        val track = view.videoTrack as? HMSRemoteVideoTrack ?: continue
+        droppedLayers[trackId] = DroppedLayer(view.sdkId, track, getLayer(track))
+        setLayer(track, HMSLayer.LOW)
+      }
+    }
+  }
+
+  private fun isVisible(view: HMSView): Boolean {
+    if (!view.isShown || !view.getGlobalVisibleRect(visibleRect) || visibleRect.isEmpty) {
+      return false
+    }
+    return minOf(view.width, view.height) >= view.minVisibleSizePx
+  }
+
+  // Tracks of peers who left the room can't be updated anymore, they are skipped
+  private fun getLayer(track: HMSRemoteVideoTrack): HMSLayer? =
+    try {
+      track.getLayer()
+    } catch (e: Exception) {
+      null
+    }
+
+  private fun setLayer(
+    track: HMSRemoteVideoTrack,
+    layer: HMSLayer,
+  ) {
+    try {
+      track.setLayer(layer)
+    } catch (e: Exception) {
+      // track is no longer available
+    }
+  }
+}
@@ -0,0 +1,46 @@
+/**
+ * Options for aggregating audio level updates into top active speakers on the native side. Android only.
+ *
+ * When provided, level of every track is smoothed across audio level updates and `ON_SPEAKER` event is sent
+ * only with the `topK` loudest speakers, and only when the ranked speakers change or the level of a ranked
+ * speaker moves by at least `levelThreshold`. Speakers are sent in ranked order.
+ *
+ * ```
+ * const hmsInstance = await HMSSDK.build({
+ *   activeSpeakers: { topK: 3 },
+ * });
+ * ```
+ *
+ * @interface HMSActiveSpeakerOptions
+ * @property {number} [topK] - Maximum number of speakers sent in an update. Default is `4`.
+ * @property {number} [smoothing] - Weight of the latest level in the exponentially smoothed level of a track, between `0` and `1`. Default is `0.5`.
+ * @property {number} [hysteresis] - Level advantage current speakers get while ranking, so that speakers are not swapped for small level differences. Default is `5`.
+ * @property {number} [levelThreshold] - Minimum change in the level of a ranked speaker for which an update is sent. Default is `10`.
+ * @property {number} [minLevel] - Minimum smoothed level at which a track is considered as speaking. Default is `1`.
+ */
+export interface HMSActiveSpeakerOptions {
+  /**
+   * Maximum number of speakers sent in an update. Default is `4`.
+   */
+  topK?: number;
+
+  /**
+   * Weight of the latest level in the exponentially smoothed level of a track, between `0` and `1`. Default is `0.5`.
+   */
+  smoothing?: number;
+
+  /**
+   * Level advantage current speakers get while ranking, so that speakers are not swapped for small level differences. Default is `5`.
+   */
+  hysteresis?: number;
+
+  /**
+   * Minimum change in the level of a ranked speaker for which an update is sent. Default is `10`.
+   */
+  levelThreshold?: number;
+
+  /**
+   * Minimum smoothed level at which a track is considered as speaking. Default is `1`.
+   */
+  minLevel?: number;
+}
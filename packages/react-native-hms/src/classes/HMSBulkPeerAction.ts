@@ -0,0 +1,46 @@
+/**
+ * Options for actions on multiple peers, like `removePeers`, `changeRoleOfPeers` & `lowerRemotePeerHands`. Android only.
+ *
+ * All peers are resolved together on native side, including peers which are not synced in the room,
+ * then the action is run on at most `maxConcurrency` peers at a time.
+ *
+ * @interface HMSBulkPeerActionOptions
+ * @property {number} [maxConcurrency] - Maximum number of peers on which the action runs at the same time. Default is `8`.
+ */
+export interface HMSBulkPeerActionOptions {
+  /**
+   * Maximum number of peers on which the action runs at the same time. Default is `8`.
+   */
+  maxConcurrency?: number;
+}
+
+/**
+ * Result of an action on a single peer, out of the results of an action on multiple peers.
+ *
+ * @interface HMSBulkPeerActionResult
+ * @property {string} peerId - `peerID` of the peer.
+ * @property {boolean} success - Whether the action succeeded for the peer.
+ * @property {string} [code] - Error code, when the action failed for the peer. `101` when the peer could not be found.
+ * @property {string} [message] - Error message, when the action failed for the peer.
+ */
+export interface HMSBulkPeerActionResult {
+  /**
+   * `peerID` of the peer.
+   */
+  peerId: string;
+
+  /**
+   * Whether the action succeeded for the peer.
+   */
+  success: boolean;
+
+  /**
+   * Error code, when the action failed for the peer. `101` when the peer could not be found.
+   */
+  code?: string;
+
+  /**
+   * Error message, when the action failed for the peer.
+   */
+  message?: string;
+}
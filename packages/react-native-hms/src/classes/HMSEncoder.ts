@@ -45,13 +45,15 @@ import type { Transcriptions } from './transcriptions';
 
 interface InitialData {
   roles: Record<string, HMSRole>;
+  // version of the cached role definitions, keyed by role name
+  roleVersions: Record<string, number | undefined>;
 }
 
 export class HMSEncoder {
-  private static data: InitialData = { roles: {} };
+  private static data: InitialData = { roles: {}, roleVersions: {} };
 
   static clearData() {
-    this.data = { roles: {} };
+    this.data = { roles: {}, roleVersions: {} };
   }
 
   static encodeHmsRoom(room: any, id: string) {
@@ -353,23 +355,32 @@ export class HMSEncoder {
     }
 
     const rolesCache = this.data.roles;
+    const roleVersions = this.data.roleVersions;
 
     const cachedRole = rolesCache[role.name];
 
-    // create new HMSRole instance, if cached role does not exist OR `role.publishSettings?.allowed` does not exist
-    if (!cachedRole || !cachedRole.publishSettings?.allowed) {
+    // Native side interns roles by name and sends a new `version` with the definition when a role changes
+    const isNewVersion =
+      typeof role.version === 'number' &&
+      role.version !== roleVersions[role.name] &&
+      !!role.publishSettings;
+
+    // create new HMSRole instance, if cached role does not exist OR `role.publishSettings?.allowed` does not exist OR role has changed
+    if (!cachedRole || !cachedRole.publishSettings?.allowed || isNewVersion) {
       // Creating HMSRole object with data
       const hmsRole = new HMSRole(role);
 
       // saving the created HMSRole object into cache
       rolesCache[role.name] = hmsRole;
+      roleVersions[role.name] = role.version;
 
       // If the created HMSRole object is complete,
-      // sending notification to Native Side to stop sending data for this role
+      // sending notification to Native Side to stop sending data for this version of role
       if (hmsRole.publishSettings?.allowed) {
         HMSManager.restrictData({
           id: HMSConstants.DEFAULT_SDK_ID,
           roleName: hmsRole.name,
+          version: role.version,
         });
       }
     }
@@ -566,6 +577,36 @@ export class HMSEncoder {
     }
   }
 
+  static encodeHMSMessageBatch(data: any): HMSMessage[] {
+    const senders: Record<string, HMSPeer> = {};
+    Object.keys(data?.senders ?? {}).forEach((peerId) => {
+      senders[peerId] = this.encodeHmsPeer(data.senders[peerId]);
+    });
+
+    const recipients: Record<string, HMSMessageRecipient> = {};
+    Object.keys(data?.recipients ?? {}).forEach((recipientKey) => {
+      recipients[recipientKey] = this.encodeHMSMessageRecipient(
+        data.recipients[recipientKey]
+      );
+    });
+
+    return (data?.messages ?? []).map(
+      (message: any) =>
+        new HMSMessage({
+          message: message?.message,
+          messageId: message?.messageId,
+          type: message?.type,
+          time: new Date(parseInt(message?.time)),
+          sender:
+            (message?.senderId && senders[message.senderId]) ||
+            this.encodeHmsPeer(undefined),
+          recipient:
+            recipients[message?.recipientKey] ??
+            this.encodeHMSMessageRecipient(undefined),
+        })
+    );
+  }
+
   static encodeHMSMessageRecipient(data: any) {
     return new HMSMessageRecipient({
       recipientType: data?.recipientType,
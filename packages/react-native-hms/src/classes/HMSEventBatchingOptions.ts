@@ -0,0 +1,36 @@
+import type { HMSUpdateListenerActions } from './HMSUpdateListenerActions';
+
+/**
+ * Options for batching high frequency events on the native side before they are sent over the bridge. Android only.
+ *
+ * Events of the configured types are buffered and delivered together once per frame, or once per `flushInterval`.
+ * Superseded updates are coalesced, so only the latest `NETWORK_QUALITY_UPDATED` update of a peer and the
+ * latest stats of a track are delivered in a batch.
+ *
+ * ```
+ * const hmsInstance = await HMSSDK.build({
+ *   eventBatching: {
+ *     events: [
+ *       HMSUpdateListenerActions.ON_PEER_UPDATE,
+ *       HMSUpdateListenerActions.ON_REMOTE_VIDEO_STATS,
+ *     ],
+ *     flushInterval: 250,
+ *   },
+ * });
+ * ```
+ *
+ * @interface HMSEventBatchingOptions
+ * @property {HMSUpdateListenerActions[]} events - Event types which should be batched.
+ * @property {number} [flushInterval] - Interval in milliseconds after which buffered events are delivered. Buffered events are delivered on next frame if not provided.
+ */
+export interface HMSEventBatchingOptions {
+  /**
+   * Event types which should be batched
+   */
+  events: HMSUpdateListenerActions[];
+
+  /**
+   * Interval in milliseconds after which buffered events are delivered. Buffered events are delivered on next frame if not provided.
+   */
+  flushInterval?: number;
+}
@@ -0,0 +1,40 @@
+/**
+ * Options for capturing a frame of `HmsView` with `capture` method. Android only.
+ *
+ * ```
+ * const uri = await hmsViewRef.current?.capture({
+ *   format: 'jpeg',
+ *   quality: 80,
+ *   maxDimension: 480,
+ *   output: 'file',
+ * });
+ * ```
+ *
+ * @interface HMSFrameCaptureOptions
+ * @property {'png' | 'jpeg' | 'webp'} [format] - Image format of the captured frame. Default is `png`.
+ * @property {number} [quality] - Compression quality from `0` to `100`, ignored for `png`. Default is `100`.
+ * @property {number} [maxDimension] - Frame is scaled down so that its larger side is at most `maxDimension` pixels.
+ * @property {'base64' | 'file'} [output] - Whether the frame is returned as Base64 string or as `file://` URI of a file in cache directory. Default is `base64`.
+ */
+export interface HMSFrameCaptureOptions {
+  /**
+   * Image format of the captured frame. Default is `png`.
+   */
+  format?: 'png' | 'jpeg' | 'webp';
+
+  /**
+   * Compression quality from `0` to `100`, ignored for `png`. Default is `100`.
+   */
+  quality?: number;
+
+  /**
+   * Frame is scaled down so that its larger side is at most `maxDimension` pixels.
+   */
+  maxDimension?: number;
+
+  /**
+   * Whether the frame is returned as Base64 string or as `file://` URI of a file in cache directory.
+   * Only the latest few capture files are kept. Default is `base64`.
+   */
+  output?: 'base64' | 'file';
+}
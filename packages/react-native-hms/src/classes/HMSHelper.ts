@@ -1,3 +1,4 @@
+import type { HMSPeer } from './HMSPeer';
 import type { HMSRole } from './HMSRole';
 
 export class HMSHelper {
@@ -12,4 +13,8 @@ export class HMSHelper {
 
     return names;
   }
+
+  static getPeerIds(peers: Array<HMSPeer | string>) {
+    return peers.map((peer) => (typeof peer === 'string' ? peer : peer.peerID));
+  }
 }
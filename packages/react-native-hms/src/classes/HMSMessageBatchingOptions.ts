@@ -0,0 +1,22 @@
+/**
+ * Options for delivering received messages in batches from the native side. Android only.
+ *
+ * Messages received within `batchInterval` are sent to JS together, with senders & recipients encoded once
+ * per batch. Listeners of `HMSUpdateListenerActions.ON_MESSAGE_BATCH` receive every batch as one array,
+ * listeners of `HMSUpdateListenerActions.ON_MESSAGE` still receive messages one at a time.
+ *
+ * ```
+ * const hmsInstance = await HMSSDK.build({
+ *   messageBatching: { batchInterval: 100 },
+ * });
+ * ```
+ *
+ * @interface HMSMessageBatchingOptions
+ * @property {number} [batchInterval] - Interval in milliseconds within which received messages are batched. Default is `100`.
+ */
+export interface HMSMessageBatchingOptions {
+  /**
+   * Interval in milliseconds within which received messages are batched. Default is `100`.
+   */
+  batchInterval?: number;
+}
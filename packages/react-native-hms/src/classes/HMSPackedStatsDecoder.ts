@@ -0,0 +1,114 @@
+export const PACKED_STATS_SCHEMA_VERSION = 1;
+
+export enum HMSPackedStatsKind {
+  REMOTE_AUDIO = 0,
+  REMOTE_VIDEO = 1,
+}
+
+export type HMSPackedStatsRecord = {
+  handle: number;
+  kind: HMSPackedStatsKind;
+  stats: any[];
+};
+
+const BASE64_CHARS =
+  'ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/';
+
+const BASE64_LOOKUP = (() => {
+  const lookup = new Uint8Array(256);
+  for (let i = 0; i < BASE64_CHARS.length; i++) {
+    lookup[BASE64_CHARS.charCodeAt(i)] = i;
+  }
+  return lookup;
+})();
+
+function base64ToDoubles(base64: string): Float64Array {
+  const padding = base64.endsWith('==') ? 2 : base64.endsWith('=') ? 1 : 0;
+  const byteLength = (base64.length * 3) / 4 - padding;
+  const bytes = new Uint8Array(byteLength);
+
+  let byteIndex = 0;
+  for (let i = 0; i < base64.length; i += 4) {
+    const a = BASE64_LOOKUP[base64.charCodeAt(i)]!;
+    const b = BASE64_LOOKUP[base64.charCodeAt(i + 1)]!;
+    const c = BASE64_LOOKUP[base64.charCodeAt(i + 2)]!;
+    const d = BASE64_LOOKUP[base64.charCodeAt(i + 3)]!;
+
+    bytes[byteIndex++] = (a << 2) | (b >> 4);
+    if (byteIndex < byteLength) {
+      bytes[byteIndex++] = ((b & 15) << 4) | (c >> 2);
+    }
+    if (byteIndex < byteLength) {
+      bytes[byteIndex++] = ((c & 3) << 6) | d;
+    }
+  }
+
+  const view = new DataView(bytes.buffer);
+  const doubles = new Float64Array(byteLength / 8);
+  for (let i = 0; i < doubles.length; i++) {
+    doubles[i] = view.getFloat64(i * 8, true);
+  }
+  return doubles;
+}
+
+// converts `-1` placeholder of packed buffer to values expected by `HMSEncoder` stats encoders
+function toCounter(value: number) {
+  return value >= 0 ? value.toString() : '';
+}
+
+/**
+ * Decodes packed stats buffer sent by native side, into positional stats arrays
+ * which are accepted by `HMSEncoder.encodeHMSRemoteAudioStats` & `HMSEncoder.encodeHMSRemoteVideoStats`
+ */
+export function decodePackedStats(
+  encoding: 'array' | 'base64',
+  stats: number[] | string
+): HMSPackedStatsRecord[] {
+  const buffer: ArrayLike<number> =
+    encoding === 'base64'
+      ? base64ToDoubles(stats as string)
+      : (stats as number[]);
+
+  if (buffer[0] !== PACKED_STATS_SCHEMA_VERSION) {
+    return [];
+  }
+
+  const records: HMSPackedStatsRecord[] = [];
+  const recordCount = buffer[1]!;
+  let offset = 2;
+
+  for (let i = 0; i < recordCount; i++) {
+    const handle = buffer[offset]!;
+    const kind = buffer[offset + 1]!;
+    const fieldCount = buffer[offset + 2]!;
+    const f = (index: number) => buffer[offset + 3 + index]!;
+
+    if (kind === HMSPackedStatsKind.REMOTE_AUDIO) {
+      // [bitrate, bytesReceived, jitter, packetsLost, packetsReceived]
+      records.push({
+        handle,
+        kind,
+        stats: [f(0), toCounter(f(1)), f(2), f(3), toCounter(f(4))],
+      });
+    } else if (kind === HMSPackedStatsKind.REMOTE_VIDEO) {
+      // [bitrate, bytesReceived, frameRate, jitter, packetsLost, packetsReceived, resolution]
+      records.push({
+        handle,
+        kind,
+        stats: [
+          f(0),
+          toCounter(f(1)),
+          f(2),
+          f(3),
+          f(4),
+          toCounter(f(5)),
+          f(6) >= 0 && f(7) >= 0 ? [f(6), f(7)] : null,
+        ],
+      });
+    }
+
+    offset += 3 + fieldCount;
+  }
+
+  return records;
+}
@@ -7,15 +7,19 @@ import { getHmsPeersCache } from './HMSPeersCache';
 
 export class HMSPeerListIterator {
   private readonly uniqueId: string;
+  private readonly isProjected: boolean;
   private _totalCount: number = 0;
+  // definitions of roles of projected peers, sent once per iterator from native side
+  private readonly roles = new Map<string, any>();
 
   get totalCount() {
     return this._totalCount;
   }
 
-  constructor(uniqueId: string, totalCount: number) {
+  constructor(uniqueId: string, totalCount: number, isProjected = false) {
     this.uniqueId = uniqueId;
     this._totalCount = totalCount;
+    this.isProjected = isProjected;
   }
 
   async hasNext(): Promise<boolean> {
@@ -34,15 +38,18 @@ export class HMSPeerListIterator {
   async next(): Promise<HMSPeer[]> {
     logger?.verbose('#Function HMSPeerListIterator#next', this.uniqueId);
     try {
-      const { totalCount, peers } = await HMSManagerModule.peerListIteratorNext(
-        {
+      const { totalCount, peers, roles } =
+        await HMSManagerModule.peerListIteratorNext({
           id: HMSConstants.DEFAULT_SDK_ID,
           uniqueId: this.uniqueId,
-        }
-      );
+        });
 
       this._totalCount = totalCount;
 
+      if (this.isProjected) {
+        return this.decodeProjectedPeers(peers, roles);
+      }
+
       if (Array.isArray(peers) && peers.length > 0) {
         const hmsPeersCache = getHmsPeersCache();
 
@@ -59,4 +66,22 @@ export class HMSPeerListIterator {
       return Promise.reject(e);
     }
   }
+
+  // Projected peers carry only the requested fields, other properties are read from native side when accessed
+  private decodeProjectedPeers(peers: any[], roles: any): HMSPeer[] {
+    Object.entries(roles || {}).forEach(([roleName, role]) => {
+      this.roles.set(roleName, role);
+    });
+
+    const hmsPeersCache = getHmsPeersCache();
+
+    return (peers || []).map((peerData: any) => {
+      const { roleName, ...peer } = peerData;
+      if (typeof roleName === 'string') {
+        peer.role = this.roles.get(roleName);
+      }
+      hmsPeersCache?.cachePeerData(peer);
+      return HMSEncoder.encodeHmsPeer(peer);
+    });
+  }
 }
@@ -1,3 +1,18 @@
+/**
+ * fields of peers which can be projected in pages of `HMSPeerListIterator`. `tracks` includes audio, video & auxiliary tracks.
+ */
+export type HMSPeerListIteratorField =
+  | 'name'
+  | 'isLocal'
+  | 'customerUserID'
+  | 'joinedAt'
+  | 'metadata'
+  | 'role'
+  | 'isHandRaised'
+  | 'networkQuality'
+  | 'tracks'
+  | 'type';
+
 /**
  * options for creating `HMSPeerListIterator` instance
  *
@@ -23,4 +38,17 @@ export interface HMSPeerListIteratorOptions {
    * number of peers fetched by the iterator in `next` method call. Default value is `10`
    */
   limit?: number;
+
+  /**
+   * fields of peers sent from native side in every page, `peerID` is always sent. Other properties of the
+   * returned peers are read from native side when accessed, from the room or from the latest 1000 peers
+   * returned by the iterator for peers which aren't in the room. All fields are sent by default. Android only.
+   */
+  fields?: HMSPeerListIteratorField[];
+
+  /**
+   * whether the next page is fetched on native side while the current one is being rendered, so that the
+   * next `next` method call resolves without waiting for the network. Default value is `false`. Android only.
+   */
+  prefetch?: boolean;
 }
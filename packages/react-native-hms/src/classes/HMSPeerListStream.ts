@@ -0,0 +1,60 @@
+import type { HMSPeer } from './HMSPeer';
+
+/**
+ * options for streaming the peer list of the room with `streamPeerList`. Android only.
+ *
+ * ```
+ * const { cancel } = await hmsInstance.streamPeerList(
+ *   (page) => console.log(page.peers.length, page.cursor),
+ *   { pageSize: 100, maxPages: 2 }
+ * );
+ * ```
+ */
+export interface HMSPeerListStreamOptions {
+  /**
+   * number of peers sent in a page. Default value is `50`
+   */
+  pageSize?: number;
+
+  /**
+   * maximum number of pages sent for this call, remaining pages can be fetched by resuming from `cursor` of the last page.
+   * All pages are sent if not provided.
+   */
+  maxPages?: number;
+
+  /**
+   * `cursor` of a previously received page, from which the stream should be resumed.
+   * A paused stream is available for 60 seconds after its last page was sent.
+   */
+  cursor?: string | null;
+}
+
+/**
+ * A page of peers received from `streamPeerList`
+ */
+export interface HMSPeerListPage {
+  /**
+   * id of the stream, same for all pages of a `streamPeerList` call
+   */
+  streamId: string;
+
+  /**
+   * peers of this page
+   */
+  peers: HMSPeer[];
+
+  /**
+   * index of the first peer of this page in the peer list
+   */
+  offset: number;
+
+  /**
+   * total number of peers in the peer list
+   */
+  totalCount: number;
+
+  /**
+   * cursor to resume the stream from next page, `null` if this is the last page
+   */
+  cursor: string | null;
+}
@@ -1,4 +1,9 @@
+import { Platform } from 'react-native';
 import HMSManager from '../modules/HMSManagerModule';
+import {
+  getPeerScalarPropertySync,
+  hasSyncReads,
+} from '../modules/HMSManagerSyncReads';
 
 import { HMSEncoder } from './HMSEncoder';
 import { HMSPeerUpdate } from './HMSPeerUpdate';
@@ -47,6 +52,12 @@ export type HMSPeerCacheProps = {
 export class HMSPeersCache {
   private _data = new Map<string, HMSPeerCacheProps>();
   private id: string;
+  // version of native peer snapshot store, at which each cached peer was last read, keyed by `peerID`
+  private _peerVersions = new Map<string, number>();
+  // `seq` of the last delta encoded update applied for a peer or track, keyed by `peerID` or `trackId`
+  private _seqs = new Map<string, number>();
+  // last known state of tracks, keyed by `trackId`, on which delta encoded track updates are applied
+  private _tracks = new Map<string, any>();
 
   constructor(id: string) {
     this.id = id;
@@ -73,11 +84,180 @@ export class HMSPeersCache {
     return encodedValue;
   }
 
+  /**
+   * Fetches `properties` of all peers with `peerIds` from native side in a single call and stores them in cache.
+   * Peers which already have all the `properties` in cache are skipped. Android only.
+   */
+  hydrate(peerIds: string[], properties: Array<keyof HMSPeerCacheProps>) {
+    if (Platform.OS !== 'android') {
+      return;
+    }
+
+    const peerIdsToFetch = peerIds.filter((peerId) => {
+      const peerObj = this._data.get(peerId);
+      return !peerObj || properties.some((property) => !(property in peerObj));
+    });
+
+    if (peerIdsToFetch.length === 0) {
+      return;
+    }
+
+    const data = getPeerPropertiesFromNative(
+      this.id,
+      peerIdsToFetch,
+      properties
+    );
+
+    this.applyPeerProperties(data, peerIdsToFetch, properties);
+  }
+
+  /**
+   * Fetches `properties` of the peers with `peerIds`, which have changed on native side since they were last read.
+   * Peers never read are fetched completely. Nothing is decoded if no peer has changed. Android only.
+   */
+  refresh(peerIds: string[], properties: Array<keyof HMSPeerCacheProps>) {
+    if (Platform.OS !== 'android') {
+      return;
+    }
+
+    const unreadPeerIds: string[] = [];
+    const readPeerIds: string[] = [];
+    let sinceVersion: number | undefined;
+
+    peerIds.forEach((peerId) => {
+      const peerVersion = this._peerVersions.get(peerId);
+      if (peerVersion === undefined) {
+        unreadPeerIds.push(peerId);
+      } else {
+        readPeerIds.push(peerId);
+        sinceVersion =
+          sinceVersion === undefined
+            ? peerVersion
+            : Math.min(sinceVersion, peerVersion);
+      }
+    });
+
+    if (unreadPeerIds.length > 0) {
+      const data = getPeerPropertiesFromNative(
+        this.id,
+        unreadPeerIds,
+        properties
+      );
+      this.applyPeerProperties(data, unreadPeerIds, properties);
+    }
+
+    if (readPeerIds.length > 0) {
+      // peers read at a later version may be sent again, which only re-applies their current state
+      const data = getPeerPropertiesFromNative(
+        this.id,
+        readPeerIds,
+        properties,
+        sinceVersion
+      );
+      this.applyPeerProperties(data, readPeerIds, properties);
+    }
+  }
+
+  private applyPeerProperties(
+    data: ReturnType<typeof getPeerPropertiesFromNative>,
+    peerIds: string[],
+    properties: Array<keyof HMSPeerCacheProps>
+  ) {
+    if (!data) {
+      return;
+    }
+
+    // requested peers which are not sent haven't changed since they were read
+    peerIds.forEach((peerId) => this._peerVersions.set(peerId, data.version));
+
+    Object.entries(data.peers || {}).forEach(([peerId, peerData]) => {
+      if (!peerData) {
+        // peer is no longer in the room
+        this._data.delete(peerId);
+        this._peerVersions.delete(peerId);
+        return;
+      }
+
+      const peerObj = this._data.get(peerId) || {};
+
+      properties.forEach((property) => {
+        // @ts-ignore - typescript is giving error because `property` is an union of keys
+        peerObj[property] = encodePeerProperty(this.id, property, peerData);
+      });
+
+      this._data.set(peerId, peerObj);
+    });
+  }
+
+  /**
+   * Applies a delta encoded track update on the last known state of its track & peer.
+   * Returns the complete `peer` & `track` data of the update, or `null` if a newer update was already applied.
+   */
+  applyTrackDelta(data: {
+    seq: number;
+    peer: { peerID: string; name?: string };
+    track: any;
+    type: HMSTrackUpdate;
+  }): { peer: any; track: any } | null {
+    const { seq, peer: peerDelta, track: trackDelta } = data;
+    const trackId: string = trackDelta.trackId;
+
+    if (this.isStaleDelta(trackId, seq)) {
+      return null;
+    }
+
+    const track = { ...this._tracks.get(trackId), ...trackDelta };
+
+    if (data.type === HMSTrackUpdate.TRACK_REMOVED) {
+      this._tracks.delete(trackId);
+      this._seqs.delete(trackId);
+    } else {
+      this._tracks.set(trackId, track);
+    }
+
+    if (peerDelta.name !== undefined) {
+      this.updatePeerCache(peerDelta.peerID, { name: peerDelta.name });
+    }
+
+    return { peer: peerDelta, track };
+  }
+
+  /**
+   * Stores all properties available in the decoded `peerData` of a peer, replacing the cached ones.
+   */
+  cachePeerData(peerData: any) {
+    if (!peerData?.peerID) {
+      return;
+    }
+
+    const peerObj = this._data.get(peerData.peerID) || {};
+
+    (Object.keys(peerData) as Array<keyof HMSPeerCacheProps>).forEach(
+      (property) => {
+        if (property === 'peerID') {
+          return;
+        }
+        // @ts-ignore - typescript is giving error because `property` is an union of keys
+        peerObj[property] = encodePeerProperty(this.id, property, peerData);
+      }
+    );
+
+    this._data.set(peerData.peerID, peerObj);
+  }
+
   updatePeerCache(
     peerId: string,
-    data: Partial<Record<keyof HMSPeerCacheProps | 'track', any>>,
+    data: Partial<Record<keyof HMSPeerCacheProps | 'track' | 'seq', any>>,
     updateType?: HMSPeerUpdate | HMSTrackUpdate
   ) {
+    if (typeof data.seq === 'number') {
+      if (this.isStaleDelta(peerId, data.seq)) {
+        return;
+      }
+      data = { ...data };
+      delete data.seq;
+    }
+
     const peerObj = this._data.get(peerId);
 
     if (updateType === HMSPeerUpdate.PEER_JOINED) {
@@ -89,11 +269,18 @@ export class HMSPeersCache {
 
     if (updateType === HMSPeerUpdate.PEER_LEFT) {
       this._data.delete(peerId);
+      this._peerVersions.delete(peerId);
+      this._seqs.delete(peerId);
       return;
     }
 
     let updatedObj = peerObj || {};
 
+    // delta encoded updates carry `name` only when it has changed
+    if (typeof data.name === 'string') {
+      updatedObj.name = data.name;
+    }
+
     switch (updateType) {
       case HMSTrackUpdate.TRACK_ADDED: {
         const track = data.track as HMSTrack;
@@ -226,6 +413,19 @@ export class HMSPeersCache {
 
   cleanup() {
     this._data.clear();
+    this._peerVersions.clear();
+    this._seqs.clear();
+    this._tracks.clear();
+  }
+
+  // Returns whether an update with `seq` is older than the last update applied for `key`, and records it otherwise
+  private isStaleDelta(key: string, seq: number) {
+    const lastSeq = this._seqs.get(key);
+    if (lastSeq !== undefined && seq <= lastSeq) {
+      return true;
+    }
+    this._seqs.set(key, seq);
+    return false;
   }
 }
 
@@ -234,12 +434,43 @@ export function getPeerPropertyFromNative<T extends keyof HMSPeerCacheProps>(
   peerId: string,
   property: T
 ): HMSPeerCacheProps[T] {
-  const data: any = HMSManager.getPeerProperty({
+  const scalar = hasSyncReads
+    ? getPeerScalarPropertySync(id, peerId, property)
+    : undefined;
+
+  let data: any;
+  if (scalar) {
+    data = scalar.value === null ? null : { [property]: scalar.value };
+  } else {
+    data = HMSManager.getPeerProperty({
+      id,
+      peerId,
+      property,
+    });
+  }
+
+  return encodePeerProperty(id, property, data);
+}
+
+export function getPeerPropertiesFromNative(
+  id: string,
+  peerIds: string[],
+  properties: Array<keyof HMSPeerCacheProps>,
+  sinceVersion?: number
+): { version: number; peers?: Record<string, any | null> } | null {
+  return HMSManager.getPeerProperties({
     id,
-    peerId,
-    property,
+    peerIds,
+    properties,
+    sinceVersion,
   });
+}
 
+function encodePeerProperty<T extends keyof HMSPeerCacheProps>(
+  id: string,
+  property: T,
+  data: any
+): HMSPeerCacheProps[T] {
   let value;
 
   if (property === 'role') {
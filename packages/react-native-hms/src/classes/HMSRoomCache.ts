@@ -1,4 +1,8 @@
 import HMSManager from '../modules/HMSManagerModule';
+import {
+  getRoomScalarPropertySync,
+  hasSyncReads,
+} from '../modules/HMSManagerSyncReads';
 
 import type { HMSRoom } from './HMSRoom';
 import { HMSEncoder } from './HMSEncoder';
@@ -129,10 +133,19 @@ export function getHMSRoomPropertyFromNative<T extends keyof HMSRoomCacheProps>(
   id: string,
   property: T
 ): Required<HMSRoomCacheProps>[T] {
-  const data: any = HMSManager.getRoomProperty({
-    id,
-    property,
-  });
+  const scalar = hasSyncReads
+    ? getRoomScalarPropertySync(id, property)
+    : undefined;
+
+  let data: any;
+  if (scalar) {
+    data = scalar.value === null ? null : { [property]: scalar.value };
+  } else {
+    data = HMSManager.getRoomProperty({
+      id,
+      property,
+    });
+  }
 
   if (!data) return data;
 
@@ -34,6 +34,7 @@ import {
   HMSPeersCache,
   setHmsPeersCache,
 } from './HMSPeersCache';
+import type { HMSPeerCacheProps } from './HMSPeersCache';
 import {
   clearHmsRoomCache,
   getHmsRoomCache,
@@ -50,6 +51,28 @@ import type { HMSHLSTimedMetadata } from './HMSHLSTimedMetadata';
 import type { HMSVideoTrack } from './HMSVideoTrack';
 import type { HMSRemoteVideoTrack } from './HMSRemoteVideoTrack';
 import type { HMSRemoteAudioTrack } from './HMSRemoteAudioTrack';
+import type { HMSEventBatchingOptions } from './HMSEventBatchingOptions';
+import type { HMSStatsTransportOptions } from './HMSStatsTransportOptions';
+import type { HMSActiveSpeakerOptions } from './HMSActiveSpeakerOptions';
+import type { HMSSessionStoreUpdatesOptions } from './HMSSessionStoreUpdatesOptions';
+import type { HMSMessageBatchingOptions } from './HMSMessageBatchingOptions';
+import type {
+  HMSBulkPeerActionOptions,
+  HMSBulkPeerActionResult,
+} from './HMSBulkPeerAction';
+import type {
+  HMSPeerListPage,
+  HMSPeerListStreamOptions,
+} from './HMSPeerListStream';
+import type {
+  HMSThumbnail,
+  HMSThumbnailSamplerOptions,
+} from './HMSThumbnailSampler';
+import type {
+  HMSSimulcastLayerDecisions,
+  HMSSimulcastLayerPolicy,
+} from './HMSSimulcastLayerArbitration';
+import { decodePackedStats, HMSPackedStatsKind } from './HMSPackedStatsDecoder';
 
 type HmsViewProps = Omit<HmsComponentProps, 'id'>;
 
@@ -84,6 +107,7 @@ export class HMSSDK {
   private onTrackDelegate?: any;
   private onErrorDelegate?: any;
   private onMessageDelegate?: any;
+  private onMessageBatchDelegate?: any;
   private onSpeakerDelegate?: any;
   private onReconnectingDelegate?: any;
   private onReconnectedDelegate?: any;
@@ -106,6 +130,13 @@ export class HMSSDK {
       HMSNativeEventSubscription
     >
   > = {};
+  private internalSubscriptions: HMSNativeEventSubscription[] = [];
+  private statsTrackHandles = new Map<
+    number,
+    { kind: HMSPackedStatsKind; peer: HMSPeer; track: any }
+  >();
+  // role definitions received in peer list pages, keyed by role name
+  private peerListStreamRoles = new Map<string, any>();
 
   private constructor(id: string) {
     this.id = id;
@@ -125,6 +156,12 @@ export class HMSSDK {
    * @param {preferredExtension} params.preferredExtension is an optional value only required for implementing Screen & Audio Share on iOS. They are not required for Android. DO NOT USE if your app does not implements Screen or Audio Share on iOS.
    * @param {boolean} params.haltPreviewJoinForPermissionsRequestOnAndroid - Optional flag to halt the preview/join process until permissions are explicitly granted by the user. Android only. This is particularly useful when you might want to request permissions before proceeding with the preview or join operation.
    * @param {HMSLogSettings} params.logSettings - Optional settings for logging.
+   * @param {HMSEventBatchingOptions} params.eventBatching - Optional settings for batching & coalescing high frequency events on native side before sending them to JS. Android only.
+   * @param {HMSStatsTransportOptions} params.statsTransport - Optional settings for sending remote track stats in a single packed buffer per stats tick. Android only.
+   * @param {boolean} params.deltaUpdates - Optional flag to send only the changed fields of peers & tracks in peer & track update events. Android only.
+   * @param {HMSActiveSpeakerOptions} params.activeSpeakers - Optional settings for sending only the top active speakers, ranked on native side, in speaker updates. Android only.
+   * @param {HMSSessionStoreUpdatesOptions} params.sessionStoreUpdates - Optional settings for coalescing session store key changes & sending their values as raw JSON. Android only.
+   * @param {HMSMessageBatchingOptions} params.messageBatching - Optional settings for delivering received messages in batches, with senders & recipients encoded once per batch. Android only.
    *
    * @returns {Promise<HMSSDK>} A promise that resolves to an instance of HMSSDK.
    * @throws {Error} If the HMSSDK instance cannot be created.
@@ -155,6 +192,12 @@ export class HMSSDK {
     preferredExtension?: String;
     logSettings?: HMSLogSettings;
     isPrebuilt?: boolean;
+    eventBatching?: HMSEventBatchingOptions;
+    statsTransport?: HMSStatsTransportOptions;
+    deltaUpdates?: boolean;
+    activeSpeakers?: HMSActiveSpeakerOptions;
+    sessionStoreUpdates?: HMSSessionStoreUpdatesOptions;
+    messageBatching?: HMSMessageBatchingOptions;
   }) {
     const { version } = require('../../package.json');
     const { major, minor, patch } = ReactNativeVersion.version;
@@ -170,8 +213,37 @@ export class HMSSDK {
         isPrebuilt: params?.isPrebuilt || false,
       },
       logSettings: params?.logSettings,
+      eventBatching: params?.eventBatching, // only available on Android
+      statsTransport: params?.statsTransport, // only available on Android
+      deltaUpdates: params?.deltaUpdates, // only available on Android
+      activeSpeakers: params?.activeSpeakers, // only available on Android
+      sessionStoreUpdates: params?.sessionStoreUpdates, // only available on Android
+      messageBatching: params?.messageBatching, // only available on Android
     });
     HmsSdk = new HMSSDK(id);
+    if (Platform.OS === 'android' && params?.eventBatching) {
+      HmsSdk.internalSubscriptions.push(
+        HMSNativeEventListener.addListener(
+          id,
+          'ON_BATCHED_EVENTS',
+          HmsSdk.onBatchedEventsListener
+        )
+      );
+    }
+    if (Platform.OS === 'android' && params?.statsTransport) {
+      HmsSdk.internalSubscriptions.push(
+        HMSNativeEventListener.addListener(
+          id,
+          'ON_STATS_TRACK_HANDLES',
+          HmsSdk.onStatsTrackHandlesListener
+        ),
+        HMSNativeEventListener.addListener(
+          id,
+          'ON_PACKED_STATS',
+          HmsSdk.onPackedStatsListener
+        )
+      );
+    }
     return HmsSdk;
   }
 
@@ -198,6 +270,9 @@ export class HMSSDK {
     clearHmsPeersCache();
     clearHmsRoomCache();
     this.removeAllListeners();
+    this.internalSubscriptions.forEach((subscription) => subscription.remove());
+    this.internalSubscriptions = [];
+    this.statsTrackHandles.clear();
     return await HMSManager.destroy({ id: this.id });
   };
 
@@ -310,6 +385,9 @@ export class HMSSDK {
    * - `scaleType`: Determines how the video fits within the bounds of the view (e.g., aspect fill, aspect fit).
    * - `setZOrderMediaOverlay`: When true, the video view will be rendered above the regular view hierarchy.
    * - `autoSimulcast`: Enables automatic simulcast layer switching based on network conditions (if supported).
+   * - `pauseWhenHidden`: When true, rendering is paused while the view is not visible on screen (Android only).
+   * - `minVisibleSize`: Views smaller than this size are treated as not visible when `pauseWhenHidden` is true (Android only).
+   * - `renderMode`: `TEXTURE` renders into a `TextureView` from an EGL context shared by all views in this mode, for dense grids (Android only).
    *
    * @param {Object} props - The properties passed to the HmsView component.
    * @param {React.Ref} ref - A ref provided by `forwardRef` for accessing the underlying DOM element.
@@ -331,6 +409,9 @@ export class HMSSDK {
       scaleType,
       setZOrderMediaOverlay,
       autoSimulcast,
+      pauseWhenHidden,
+      minVisibleSize,
+      renderMode,
     } = props;
     return (
       <HmsViewComponent
@@ -339,6 +420,9 @@ export class HMSSDK {
         style={style}
         autoSimulcast={autoSimulcast}
         setZOrderMediaOverlay={setZOrderMediaOverlay}
+        pauseWhenHidden={pauseWhenHidden}
+        minVisibleSize={minVisibleSize}
+        renderMode={renderMode}
         mirror={mirror}
         scaleType={scaleType}
         id={this.id}
@@ -351,6 +435,8 @@ export class HMSSDK {
     clearHmsPeersCache();
     clearHmsRoomCache();
     HMSEncoder.clearData(); // Clearing cached data in encoder
+    this.statsTrackHandles.clear(); // Track handles are reset on native side on leave
+    this.peerListStreamRoles.clear();
   };
 
   /**
@@ -745,6 +831,47 @@ export class HMSSDK {
     return HMSManager.changeRoleOfPeer(data);
   };
 
+  /**
+   * Asynchronously changes the role of multiple peers within the room. Android only.
+   *
+   * All peers are resolved together on native side, including peers which are not synced in the room in large rooms,
+   * and role change is applied on at most `maxConcurrency` peers at a time. Result of every peer is returned,
+   * the promise doesn't reject when the role change fails for some of the peers.
+   *
+   * @param {Array<HMSPeer | string>} peers - The peers, or `peerID`s of the peers, whose role is to be changed.
+   * @param {HMSRole} role - The new role to be assigned to the peers.
+   * @param {boolean} [force=false] - Determines whether the role change should be applied immediately (`true`) or sent as a request (`false`).
+   * @param {HMSBulkPeerActionOptions} [options] - Options for running the role changes.
+   * @returns {Promise<HMSBulkPeerActionResult[]>} A promise that resolves with the result of every peer, in the order of `peers`.
+   * @example
+   * const results = await hmsInstance.changeRoleOfPeers(peers, viewerRole, true);
+   *
+   * @async
+   * @function changeRoleOfPeers
+   * @memberof HMSSDK
+   */
+  changeRoleOfPeers = async (
+    peers: Array<HMSPeer | string>,
+    role: HMSRole,
+    force: boolean = false,
+    options?: HMSBulkPeerActionOptions
+  ): Promise<HMSBulkPeerActionResult[]> => {
+    if (Platform.OS !== 'android') {
+      return Promise.reject(
+        new Error('changeRoleOfPeers is only available on Android')
+      );
+    }
+    const data = {
+      peerIds: HMSHelper.getPeerIds(peers),
+      role: role.name,
+      force: force,
+      maxConcurrency: options?.maxConcurrency,
+      id: this.id,
+    };
+    logger?.verbose('#Function changeRoleOfPeers', data);
+    return HMSManager.changeRoleOfPeers(data);
+  };
+
   /**
    * Asynchronously changes the roles of multiple peers within the room.
    *
@@ -918,6 +1045,46 @@ export class HMSSDK {
     return await HMSManager.removePeer(data);
   };
 
+  /**
+   * Asynchronously removes multiple peers from the room. Android only.
+   *
+   * All peers are resolved together on native side, including peers which are not synced in the room in large rooms,
+   * and at most `maxConcurrency` peers are removed at a time. Result of every peer is returned,
+   * the promise doesn't reject when removal fails for some of the peers.
+   *
+   * @param {Array<HMSPeer | string>} peers - The peers, or `peerID`s of the peers, to be removed.
+   * @param {string} reason - A string detailing the reason for the removal, communicated to the removed peers.
+   * @param {HMSBulkPeerActionOptions} [options] - Options for running the removals.
+   * @returns {Promise<HMSBulkPeerActionResult[]>} A promise that resolves with the result of every peer, in the order of `peers`.
+   *
+   * @example
+   * const results = await hmsInstance.removePeers(peerIds, "Violation of room rules");
+   *
+   * @async
+   * @function removePeers
+   * @memberof HMSSDK
+   */
+  removePeers = async (
+    peers: Array<HMSPeer | string>,
+    reason: string,
+    options?: HMSBulkPeerActionOptions
+  ): Promise<HMSBulkPeerActionResult[]> => {
+    if (Platform.OS !== 'android') {
+      return Promise.reject(
+        new Error('removePeers is only available on Android')
+      );
+    }
+    const data = {
+      peerIds: HMSHelper.getPeerIds(peers),
+      reason,
+      maxConcurrency: options?.maxConcurrency,
+      id: this.id,
+    };
+    logger?.verbose('#Function removePeers', data);
+
+    return await HMSManager.removePeers(data);
+  };
+
   /**
    * Asynchronously ends the current room session for all participants.
    *
@@ -1133,6 +1300,8 @@ export class HMSSDK {
    * @async
    * @function getRoom
    * @memberof HMSSDK
+   * @param {Object} [options] - Optional settings.
+   * @param {boolean} [options.excludePeers] - If `true`, `peers` of the room are not sent, use `streamPeerList` to get peers of large rooms in pages. Android only.
    * @returns {Promise<HMSRoom>} A promise that resolves to the current room object.
    * @example
    * // Fetch the current room details
@@ -1141,11 +1310,17 @@ export class HMSSDK {
    *
    * @see https://www.100ms.live/docs/react-native/v2/how-to-guides/listen-to-room-updates/get-methods
    */
-  getRoom = async (): Promise<HMSRoom> => {
+  getRoom = async (options?: {
+    excludePeers?: boolean;
+  }): Promise<HMSRoom> => {
     logger?.verbose('#Function getRoom', {
       id: this.id,
+      options,
+    });
+    const hmsRoom = await HMSManager.getRoom({
+      id: this.id,
+      excludePeers: options?.excludePeers,
     });
-    const hmsRoom = await HMSManager.getRoom({ id: this.id });
 
     getHmsRoomCache()?.updateRoomCache(hmsRoom);
 
@@ -1799,6 +1974,31 @@ export class HMSSDK {
     return HMSManager.lowerRemotePeerHand(data);
   };
 
+  /**
+   * - This function is used to lower hand for multiple remote peers, eg. to clear all raised hands. Android only.
+   * - All peers are resolved together on native side and hands are lowered for at most `maxConcurrency` peers at a time.
+   * - Resolves with the result of every peer, in the order of `peers`.
+   * @param peers peers, or `peerID`s of the peers
+   * @param options options for lowering the hands
+   */
+  lowerRemotePeerHands = async (
+    peers: Array<HMSPeer | string>,
+    options?: HMSBulkPeerActionOptions
+  ): Promise<HMSBulkPeerActionResult[]> => {
+    if (Platform.OS !== 'android') {
+      return Promise.reject(
+        new Error('lowerRemotePeerHands is only available on Android')
+      );
+    }
+    const data = {
+      peerIds: HMSHelper.getPeerIds(peers),
+      maxConcurrency: options?.maxConcurrency,
+      id: this.id,
+    };
+    logger?.verbose('#Function lowerRemotePeerHands', data);
+    return HMSManager.lowerRemotePeerHands(data);
+  };
+
   /**
    * `getPeerListIterator` method returns an instance of `HMSPeerListIterator` class
    *
@@ -1816,6 +2016,14 @@ export class HMSSDK {
    *    byRoleName: 'viewer-realtime',
    * });
    * ```
+   * OR, for large participant lists on Android
+   * ```
+   * const peerListIterator =  hmsInstance.getPeerListIterator({
+   *    limit: 50,
+   *    fields: ['name', 'role', 'isHandRaised'],
+   *    prefetch: true,
+   * });
+   * ```
    */
   getPeerListIterator = (
     options?: HMSPeerListIteratorOptions
@@ -1842,7 +2050,333 @@ export class HMSSDK {
       throw new Error('Unable to create PeerListIterator');
     }
 
-    return new HMSPeerListIterator(data.uniqueId, data.totalCount);
+    return new HMSPeerListIterator(
+      data.uniqueId,
+      data.totalCount,
+      !!options?.fields
+    );
+  };
+
+  /**
+   * - This function streams the peer list of the room in pages of `pageSize` peers, which are decoded on a background thread on native side.
+   * - `onPage` is called with every page, peers of the page are also stored in peers cache.
+   * - Role of a peer is sent only once for the whole stream, so page payloads stay small for large rooms.
+   * - Stream can be resumed later from `cursor` of the last received page, `cursor` is `null` on the last page.
+   * - A stream paused after `maxPages` pages can be resumed for 60 seconds, promise is rejected if the stream of `cursor` is no longer available.
+   * - Android only.
+   *
+   * @param onPage callback called with every page of peers
+   * @param options page size, maximum pages and cursor to resume from
+   * @returns id & total peer count of the stream, and a function to cancel the stream
+   *
+   * Example usage:
+   * ```
+   * const { cancel } = await hmsInstance.streamPeerList((page) => {
+   *   setPeers((prevPeers) => [...prevPeers, ...page.peers]);
+   * }, { pageSize: 100 });
+   * ```
+   */
+  streamPeerList = async (
+    onPage: (page: HMSPeerListPage) => void,
+    options?: HMSPeerListStreamOptions
+  ): Promise<{ streamId: string; totalCount: number; cancel: () => void }> => {
+    logger?.verbose('#Function streamPeerList', {
+      id: this.id,
+      options,
+    });
+
+    if (Platform.OS !== 'android') {
+      return Promise.reject(
+        new Error('streamPeerList is only available on Android')
+      );
+    }
+
+    const streamId = Math.random().toString(16).slice(2);
+    const maxPages = options?.maxPages;
+    let receivedPages = 0;
+
+    const subscription = HMSNativeEventListener.addListener(
+      this.id,
+      'ON_PEER_LIST_PAGE',
+      (data: any) => {
+        if (data.id !== this.id || data.streamId !== streamId) {
+          return;
+        }
+        receivedPages++;
+        // no more pages are sent for this call after the last page, or `maxPages` pages
+        if (
+          data.cursor === null ||
+          (maxPages !== undefined && receivedPages >= maxPages)
+        ) {
+          subscription.remove();
+        }
+        onPage(this.decodePeerListPage(data));
+      }
+    );
+
+    const cancel = () => {
+      subscription.remove();
+      HMSManager.cancelPeerListStream({ id: this.id, streamId });
+    };
+
+    try {
+      const data = await HMSManager.startPeerListStream({
+        id: this.id,
+        streamId,
+        pageSize: options?.pageSize,
+        maxPages,
+        cursor: options?.cursor,
+      });
+
+      return { streamId, totalCount: data.totalCount, cancel };
+    } catch (e) {
+      subscription.remove();
+      logger?.error('#Error in #Function streamPeerList ', e);
+      return Promise.reject(e);
+    }
+  };
+
+  /**
+   * - This function periodically samples frames of a video track into small JPEG thumbnails, without mounting `HmsView` for the track.
+   * - Frames are scaled down and encoded on a background thread on native side, at most `fps` thumbnails are sent per second.
+   * - Sampling stops when `stop` is called, when the track is removed or when the room is left, `onStop` is called in the latter two cases.
+   * - Android only.
+   *
+   * @param trackId id of the video track to sample
+   * @param onThumbnail callback called with every sampled thumbnail
+   * @param options size, rate, quality and output of thumbnails
+   * @param onStop callback called when the sampler is stopped on native side
+   * @returns id of the sampler, and a function to stop the sampler
+   *
+   * Example usage:
+   * ```
+   * const { stop } = await hmsInstance.startThumbnailSampler(
+   *   peer.videoTrack.trackId,
+   *   (thumbnail) => setAvatarUri(thumbnail.uri),
+   *   { fps: 1, maxDimension: 160 }
+   * );
+   * ```
+   */
+  startThumbnailSampler = async (
+    trackId: string,
+    onThumbnail: (thumbnail: HMSThumbnail) => void,
+    options?: HMSThumbnailSamplerOptions,
+    onStop?: () => void
+  ): Promise<{ samplerId: string; stop: () => void }> => {
+    logger?.verbose('#Function startThumbnailSampler', {
+      id: this.id,
+      trackId,
+      options,
+    });
+
+    if (Platform.OS !== 'android') {
+      return Promise.reject(
+        new Error('startThumbnailSampler is only available on Android')
+      );
+    }
+
+    const samplerId = Math.random().toString(16).slice(2);
+
+    const subscription = HMSNativeEventListener.addListener(
+      this.id,
+      'ON_THUMBNAIL',
+      (data: any) => {
+        if (data.id !== this.id || data.samplerId !== samplerId) {
+          return;
+        }
+        const thumbnail = { ...data };
+        delete thumbnail.id;
+        onThumbnail(thumbnail);
+      }
+    );
+
+    const stopSubscription = HMSNativeEventListener.addListener(
+      this.id,
+      'ON_THUMBNAIL_SAMPLER_STOPPED',
+      (data: any) => {
+        if (data.id !== this.id || data.samplerId !== samplerId) {
+          return;
+        }
+        subscription.remove();
+        stopSubscription.remove();
+        onStop?.();
+      }
+    );
+
+    const stop = () => {
+      subscription.remove();
+      stopSubscription.remove();
+      HMSManager.stopThumbnailSampler({ id: this.id, samplerId });
+    };
+
+    try {
+      await HMSManager.startThumbnailSampler({
+        id: this.id,
+        trackId,
+        samplerId,
+        options,
+      });
+
+      return { samplerId, stop };
+    } catch (e) {
+      subscription.remove();
+      stopSubscription.remove();
+      logger?.error('#Error in #Function startThumbnailSampler ', e);
+      return Promise.reject(e);
+    }
+  };
+
+  /**
+   * - This function sets the policy for selecting simulcast layers of all remote video tracks rendered in `HmsView`s jointly.
+   * - When enabled, every track gets the lowest layer covering its largest visible view, and layers are lowered, smaller views first,
+   * to keep the total bitrate within a budget derived from the received video bitrate and `maxBitrate`.
+   * - Layers are lowered only when packets are lost, and one more layer is probed every 5 seconds otherwise, so tracks can step up again.
+   * - Views don't select layers on their own while the policy is enabled, `autoSimulcast` prop is applied again once it is disabled.
+   * - Android only.
+   *
+   * @param policy layer arbitration policy
+   * @returns `true` once the policy is set
+   *
+   * Example usage:
+   * ```
+   * await hmsInstance.setSimulcastLayerPolicy({ enabled: true, maxBitrate: 2500 });
+   * ```
+   */
+  setSimulcastLayerPolicy = async (
+    policy: HMSSimulcastLayerPolicy
+  ): Promise<boolean> => {
+    logger?.verbose('#Function setSimulcastLayerPolicy', {
+      id: this.id,
+      policy,
+    });
+
+    if (Platform.OS !== 'android') {
+      return Promise.reject(
+        new Error('setSimulcastLayerPolicy is only available on Android')
+      );
+    }
+
+    return HMSManager.setSimulcastLayerPolicy({ id: this.id, policy });
+  };
+
+  /**
+   * - This function returns the current decisions of simulcast layer arbitration, set with `setSimulcastLayerPolicy`.
+   * - Android only.
+   *
+   * @returns downlink estimate, budget and selected layers of remote video tracks
+   */
+  getSimulcastLayerDecisions =
+    async (): Promise<HMSSimulcastLayerDecisions> => {
+      logger?.verbose('#Function getSimulcastLayerDecisions', {
+        id: this.id,
+      });
+
+      if (Platform.OS !== 'android') {
+        return Promise.reject(
+          new Error('getSimulcastLayerDecisions is only available on Android')
+        );
+      }
+
+      const data = await HMSManager.getSimulcastLayerDecisions({ id: this.id });
+      delete data.id;
+      return data;
+    };
+
+  /**
+   * - This function adds a listener called whenever simulcast layer arbitration changes the selected layers.
+   * - Android only.
+   *
+   * @param callback called with current decisions
+   * @returns a function to remove the listener
+   *
+   * Example usage:
+   * ```
+   * const removeListener = hmsInstance.addSimulcastLayerDecisionsListener((decisions) => {
+   *   console.log(decisions.budget, decisions.tracks);
+   * });
+   * ```
+   */
+  addSimulcastLayerDecisionsListener = (
+    callback: (decisions: HMSSimulcastLayerDecisions) => void
+  ): (() => void) => {
+    logger?.verbose('#Function addSimulcastLayerDecisionsListener', {
+      id: this.id,
+    });
+
+    const subscription = HMSNativeEventListener.addListener(
+      this.id,
+      'ON_SIMULCAST_LAYER_DECISIONS',
+      (data: any) => {
+        if (data.id !== this.id) {
+          return;
+        }
+        const decisions = { ...data };
+        delete decisions.id;
+        callback(decisions);
+      }
+    );
+
+    return () => subscription.remove();
+  };
+
+  private decodePeerListPage = (data: any): HMSPeerListPage => {
+    Object.entries(data.roles || {}).forEach(([roleName, role]) => {
+      this.peerListStreamRoles.set(roleName, role);
+    });
+
+    const hmsPeersCache = getHmsPeersCache();
+
+    const peers = (data.peers || []).map((peerData: any) => {
+      const { roleName, ...peer } = peerData;
+      peer.role = this.peerListStreamRoles.get(roleName);
+      hmsPeersCache?.cachePeerData(peer);
+      return HMSEncoder.encodeHmsPeer(peer);
+    });
+
+    return {
+      streamId: data.streamId,
+      peers,
+      offset: data.offset,
+      totalCount: data.totalCount,
+      cursor: data.cursor,
+    };
+  };
+
+  /**
+   * - This function fetches given properties of multiple peers in a single native call and stores them in peers cache,
+   * so that reading these properties on `HMSPeer` objects doesn't require a blocking native call per property.
+   * - Useful before rendering a list or grid of peers. Peers which already have all the properties in cache are skipped.
+   * - Pass `refresh` as true to re-fetch only the peers which have changed on native side since last fetch.
+   * - Android only, this is a no-op on iOS.
+   *
+   * @param peerIds `peerID`s of the peers
+   * @param properties properties of the peers to fetch
+   * @param refresh whether to re-fetch peers changed since last fetch
+   *
+   * Example usage:
+   * ```
+   * hmsInstance.prefetchPeerProperties(peerIds, ['name', 'role', 'videoTrack']);
+   * ```
+   */
+  prefetchPeerProperties = (
+    peerIds: string[],
+    properties: Array<keyof HMSPeerCacheProps>,
+    refresh: boolean = false
+  ) => {
+    logger?.verbose('#Function prefetchPeerProperties', {
+      id: this.id,
+      peerIds,
+      properties,
+      refresh,
+    });
+
+    const hmsPeersCache = getHmsPeersCache();
+
+    if (refresh) {
+      hmsPeersCache?.refresh(peerIds, properties);
+    } else {
+      hmsPeersCache?.hydrate(peerIds, properties);
+    }
   };
 
   /**
@@ -2082,6 +2616,22 @@ export class HMSSDK {
         this.onMessageDelegate = callback;
         break;
       }
+      case HMSUpdateListenerActions.ON_MESSAGE_BATCH: {
+        // Batches are delivered by the ON_MESSAGE native listener
+        if (!this.emitterSubscriptions[HMSUpdateListenerActions.ON_MESSAGE]) {
+          // Adding ON_MESSAGE native listener
+          const messageSubscription = HMSNativeEventListener.addListener(
+            this.id,
+            HMSUpdateListenerActions.ON_MESSAGE,
+            this.onMessageListener
+          );
+          this.emitterSubscriptions[HMSUpdateListenerActions.ON_MESSAGE] =
+            messageSubscription;
+        }
+        // Adding App Delegate listener
+        this.onMessageBatchDelegate = callback;
+        break;
+      }
       case HMSUpdateListenerActions.ON_SPEAKER: {
         // Checking if we already have ON_SPEAKER subscription
         if (!this.emitterSubscriptions[HMSUpdateListenerActions.ON_SPEAKER]) {
@@ -2519,8 +3069,8 @@ export class HMSSDK {
       case HMSUpdateListenerActions.ON_MESSAGE: {
         const subscription =
           this.emitterSubscriptions[HMSUpdateListenerActions.ON_MESSAGE];
-        // Removing ON_MESSAGE native listener
-        if (subscription) {
+        // Removing ON_MESSAGE native listener, if batches are not listened
+        if (subscription && !this.onMessageBatchDelegate) {
           subscription.remove();
 
           this.emitterSubscriptions[HMSUpdateListenerActions.ON_MESSAGE] =
@@ -2530,6 +3080,20 @@ export class HMSSDK {
         this.onMessageDelegate = null;
         break;
       }
+      case HMSUpdateListenerActions.ON_MESSAGE_BATCH: {
+        const subscription =
+          this.emitterSubscriptions[HMSUpdateListenerActions.ON_MESSAGE];
+        // Removing ON_MESSAGE native listener, if messages are not listened
+        if (subscription && !this.onMessageDelegate) {
+          subscription.remove();
+
+          this.emitterSubscriptions[HMSUpdateListenerActions.ON_MESSAGE] =
+            undefined;
+        }
+        // Removing App Delegate listener
+        this.onMessageBatchDelegate = null;
+        break;
+      }
       case HMSUpdateListenerActions.ON_SPEAKER: {
         const subscription =
           this.emitterSubscriptions[HMSUpdateListenerActions.ON_SPEAKER];
@@ -2791,6 +3355,7 @@ export class HMSSDK {
     this.onTrackDelegate = null;
     this.onErrorDelegate = null;
     this.onMessageDelegate = null;
+    this.onMessageBatchDelegate = null;
     this.onSpeakerDelegate = null;
     this.onReconnectingDelegate = null;
     this.onReconnectedDelegate = null;
@@ -2812,6 +3377,58 @@ export class HMSSDK {
     logger?.verbose('#Function REMOVE_ALL_LISTENER', { id: this.id });
   };
 
+  onBatchedEventsListener = (data: {
+    id: string;
+    batches: Array<{ event: string; data: any[] }>;
+  }) => {
+    if (data.id !== this.id) {
+      return;
+    }
+    logger?.verbose('#Listener ON_BATCHED_EVENTS_LISTENER_CALL', {
+      batches: data.batches.length,
+    });
+
+    data.batches.forEach((batch) => {
+      const listener = this.getListenerForBatchedEvent(batch.event);
+      if (listener) {
+        batch.data.forEach((eventData) => listener(eventData));
+      }
+    });
+  };
+
+  private getListenerForBatchedEvent = (
+    event: string
+  ): ((data: any) => void) | undefined => {
+    switch (event) {
+      case HMSUpdateListenerActions.ON_ROOM_UPDATE:
+        return this.onRoomListener;
+      case HMSUpdateListenerActions.ON_PEER_UPDATE:
+        return this.onPeerListener;
+      case HMSUpdateListenerActions.ON_PEER_LIST_UPDATED:
+        return this.onPeerListUpdatedListener;
+      case HMSUpdateListenerActions.ON_TRACK_UPDATE:
+        return this.onTrackListener;
+      case HMSUpdateListenerActions.ON_MESSAGE:
+        return this.onMessageListener;
+      case HMSUpdateListenerActions.ON_SPEAKER:
+        return this.onSpeakerListener;
+      case HMSUpdateListenerActions.ON_TRANSCRIPTS:
+        return this.onTranscriptsListener;
+      case HMSUpdateListenerActions.ON_RTC_STATS:
+        return this.RTCStatsListener;
+      case HMSUpdateListenerActions.ON_LOCAL_AUDIO_STATS:
+        return this.onLocalAudioStatsListener;
+      case HMSUpdateListenerActions.ON_LOCAL_VIDEO_STATS:
+        return this.onLocalVideoStatsListener;
+      case HMSUpdateListenerActions.ON_REMOTE_AUDIO_STATS:
+        return this.onRemoteAudioStatsListener;
+      case HMSUpdateListenerActions.ON_REMOTE_VIDEO_STATS:
+        return this.onRemoteVideoStatsListener;
+      default:
+        return undefined;
+    }
+  };
+
   onPreviewListener = (data: any) => {
     if (data.id !== this.id) {
       return;
@@ -2954,6 +3571,17 @@ export class HMSSDK {
     if (data.id !== this.id) {
       return;
     }
+    // delta encoded updates are completed from the last known state of the track
+    if (typeof data.seq === 'number') {
+      const hmsPeersCache = getHmsPeersCache();
+      const resolvedData = hmsPeersCache
+        ? hmsPeersCache.applyTrackDelta(data)
+        : data;
+      if (!resolvedData) {
+        return;
+      }
+      data = { ...data, ...resolvedData };
+    }
     const track: HMSTrack = HMSEncoder.encodeHmsTrack(data.track, this.id);
     const peer: HMSPeer = HMSEncoder.encodeHmsPeer(data.peer);
     const type = data.type;
@@ -2978,10 +3606,22 @@ export class HMSSDK {
     if (data.id !== this.id) {
       return;
     }
-    const message = HMSEncoder.encodeHMSMessage(data);
+    // messages are sent in batches when `messageBatching` is enabled
+    const messages = Array.isArray(data.messages)
+      ? HMSEncoder.encodeHMSMessageBatch(data)
+      : [HMSEncoder.encodeHMSMessage(data)!];
+
+    if (this.onMessageBatchDelegate) {
+      logger?.verbose('#Listener ON_MESSAGE_BATCH_LISTENER_CALL', {
+        messages: messages.length,
+      });
+      this.onMessageBatchDelegate(messages);
+    }
     if (this.onMessageDelegate) {
-      logger?.verbose('#Listener ON_MESSAGE_LISTENER_CALL', message);
-      this.onMessageDelegate(message);
+      messages.forEach((message) => {
+        logger?.verbose('#Listener ON_MESSAGE_LISTENER_CALL', message);
+        this.onMessageDelegate(message);
+      });
     }
   };
 
@@ -3193,6 +3833,74 @@ export class HMSSDK {
     }
   };
 
+  onStatsTrackHandlesListener = (data: {
+    id: string;
+    handles: Array<{
+      handle: number;
+      kind: HMSPackedStatsKind;
+      peer: any;
+      track: any;
+    }>;
+    released?: number[];
+  }) => {
+    if (data.id !== this.id) {
+      return;
+    }
+    // handles of removed tracks, a handle is never reused
+    data.released?.forEach((handle) => this.statsTrackHandles.delete(handle));
+    // sent for new handles, and again when peer or track of a handle changes
+    data.handles.forEach(({ handle, kind, peer, track }) => {
+      this.statsTrackHandles.set(handle, {
+        kind,
+        peer: HMSEncoder.encodeHmsPeer(peer),
+        track:
+          kind === HMSPackedStatsKind.REMOTE_VIDEO
+            ? HMSEncoder.encodeHmsRemoteVideoTrack(track, this.id)
+            : HMSEncoder.encodeHmsRemoteAudioTrack(track, this.id),
+      });
+    });
+  };
+
+  onPackedStatsListener = (data: {
+    id: string;
+    encoding: 'array' | 'base64';
+    stats: number[] | string;
+  }) => {
+    if (data.id !== this.id) {
+      return;
+    }
+    const records = decodePackedStats(data.encoding, data.stats);
+
+    records.forEach(({ handle, kind, stats }) => {
+      const trackHandle = this.statsTrackHandles.get(handle);
+      if (!trackHandle) {
+        return;
+      }
+      const { peer, track } = trackHandle;
+
+      if (kind === HMSPackedStatsKind.REMOTE_VIDEO) {
+        if (this.onRemoteVideoStatsDelegate) {
+          const remoteVideoStats =
+            HMSEncoder.encodeHMSRemoteVideoStats(stats);
+          this.onRemoteVideoStatsDelegate({
+            id: this.id,
+            remoteVideoStats,
+            peer,
+            track,
+          });
+        }
+      } else if (this.onRemoteAudioStatsDelegate) {
+        const remoteAudioStats = HMSEncoder.encodeHMSRemoteAudioStats(stats);
+        this.onRemoteAudioStatsDelegate({
+          id: this.id,
+          remoteAudioStats,
+          peer,
+          track,
+        });
+      }
+    });
+  };
+
   onAudioDeviceChangedListener = (data: {
     id: string;
     device: string;
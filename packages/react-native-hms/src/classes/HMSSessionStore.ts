@@ -1,4 +1,4 @@
-import { DeviceEventEmitter } from 'react-native';
+import { DeviceEventEmitter, Platform } from 'react-native';
 import type { EmitterSubscription as RNEmitterSubscription } from 'react-native';
 
 import HMSManager from '../modules/HMSManagerModule';
@@ -16,6 +16,31 @@ export type JsonMap = {
 export type JsonArray = Array<JsonPrimitive | JsonMap | JsonArray>;
 export type JsonValue = JsonPrimitive | JsonMap | JsonArray;
 
+/**
+ * Value of a session store key, along with its version in the local mirror of the session store.
+ *
+ * @interface HMSSessionStoreEntry
+ * @property {string} key - The key of the value.
+ * @property {JsonValue} value - The value of the key.
+ * @property {number} [version] - Version of the value, higher for values recorded later. Android only.
+ */
+export interface HMSSessionStoreEntry<K extends string = string> {
+  /**
+   * The key of the value.
+   */
+  key: K;
+
+  /**
+   * The value of the key.
+   */
+  value: JsonValue;
+
+  /**
+   * Version of the value, higher for values recorded later. Android only.
+   */
+  version?: number;
+}
+
 /**
  * Session store is a shared realtime key-value store that is accessible by all Peers in a Room.
  * It can be utilized to implement features such as pinned text, spotlight (which brings a particular
@@ -60,6 +85,9 @@ export class HMSSessionStore {
    *
    * To listen to value change updates use `addKeyChangeListener` method instead.
    *
+   * On Android, value of a key which has a key change listener is returned from the local mirror of the
+   * session store, without a round trip to the server.
+   *
    * @param {string} key - The key whose value is to be retrieved.
    * @returns {Promise} A promise that resolves with the value of the key.
    */
@@ -71,6 +99,31 @@ export class HMSSessionStore {
     return data;
   }
 
+  /**
+   * Retrieves the values for multiple keys from the session store in a single call. Like `get`, this
+   * method does not subscribe to changes.
+   *
+   * On Android, values of keys which have key change listeners are returned from the local mirror of the
+   * session store, and only the remaining keys are fetched from the server, together.
+   *
+   * @param {string[]} keys - The keys whose values are to be retrieved.
+   * @returns {Promise<HMSSessionStoreEntry[]>} A promise that resolves with the entries of the keys, in the order of `keys`.
+   */
+  async getForKeys<T extends string[]>(
+    keys: T
+  ): Promise<HMSSessionStoreEntry<T[number]>[]> {
+    if (Platform.OS !== 'android') {
+      const values = await Promise.all(keys.map((key) => this.get(key)));
+      return keys.map((key, index) => ({ key, value: values[index] ?? null }));
+    }
+    const data: HMSSessionStoreEntry<T[number]>[] =
+      await HMSManager.getSessionMetadataForKeys({
+        id: HMSConstants.DEFAULT_SDK_ID,
+        keys,
+      });
+    return data;
+  }
+
   /**
    * Registers a callback to listen for changes to specified keys in the session store.
    * The callback is called with the initial value and again whenever any value changes.
@@ -83,7 +136,7 @@ export class HMSSessionStore {
     forKeys: T,
     callback: (
       error: string | null,
-      data: { key: T[number]; value: JsonValue } | null
+      data: HMSSessionStoreEntry<T[number]> | null
     ) => void
   ) {
     // Add Native Device Event Emitter if it is not already added
@@ -181,7 +234,9 @@ export class HMSSessionStore {
   private _deviceEventEmitterListener(data: {
     id: string;
     key: string;
-    value: JsonValue;
+    value?: JsonValue;
+    rawValue?: string;
+    version?: number;
   }) {
     // if id is different from default sdk_id, return early
     if (data.id !== HMSConstants.DEFAULT_SDK_ID) {
@@ -191,6 +246,44 @@ export class HMSSessionStore {
     // emit event for the key
     getLogger()?.verbose('#Listener ON_SESSION_STORE_CHANGED event: ', data);
 
+    if (typeof data.rawValue === 'string') {
+      this._eventEmitter?.emit(
+        data.key,
+        null,
+        this._createLazyKeyChange(data.key, data.rawValue, data.version)
+      );
+      return;
+    }
+
     this._eventEmitter?.emit(data.key, null, data);
   }
+
+  // Value sent as raw JSON is parsed once, when it is first read by any of the listeners of the key
+  private _createLazyKeyChange(
+    key: string,
+    rawValue: string,
+    version?: number
+  ): HMSSessionStoreEntry {
+    let parsed = false;
+    let value: JsonValue = null;
+    return {
+      key,
+      version,
+      get value(): JsonValue {
+        if (!parsed) {
+          parsed = true;
+          try {
+            value = JSON.parse(rawValue);
+          } catch (error) {
+            getLogger()?.verbose(
+              '#Error while parsing session store value',
+              error
+            );
+            value = rawValue;
+          }
+        }
+        return value;
+      },
+    };
+  }
 }
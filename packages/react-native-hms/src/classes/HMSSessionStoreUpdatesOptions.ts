@@ -0,0 +1,28 @@
+/**
+ * Options for delivering session store key changes from the native side. Android only.
+ *
+ * Key changes are always decoded on a background thread. When a key changes multiple times within
+ * `coalesceInterval`, only its latest value is sent to JS. With `rawJson`, values cross the bridge as JSON
+ * strings and are parsed only when `value` of a key change is read in the key change listener.
+ *
+ * ```
+ * const hmsInstance = await HMSSDK.build({
+ *   sessionStoreUpdates: { coalesceInterval: 100, rawJson: true },
+ * });
+ * ```
+ *
+ * @interface HMSSessionStoreUpdatesOptions
+ * @property {number} [coalesceInterval] - Interval in milliseconds within which changes of a key are coalesced into its latest value. Default is `0`.
+ * @property {boolean} [rawJson] - Whether values are sent as JSON strings and parsed lazily on JS side. Default is `false`.
+ */
+export interface HMSSessionStoreUpdatesOptions {
+  /**
+   * Interval in milliseconds within which changes of a key are coalesced into its latest value. Default is `0`.
+   */
+  coalesceInterval?: number;
+
+  /**
+   * Whether values are sent as JSON strings and parsed lazily on JS side. Default is `false`.
+   */
+  rawJson?: boolean;
+}
@@ -0,0 +1,86 @@
+import type { HMSLayer } from './HMSLayer';
+
+/**
+ * Policy for selecting simulcast layers of all remote video tracks rendered in `HmsView`s jointly,
+ * set with `setSimulcastLayerPolicy`. Android only.
+ *
+ * ```
+ * await hmsInstance.setSimulcastLayerPolicy({ enabled: true, maxBitrate: 2500 });
+ * ```
+ */
+export interface HMSSimulcastLayerPolicy {
+  /**
+   * enables layer arbitration, views don't select layers on their own while it is enabled
+   */
+  enabled: boolean;
+
+  /**
+   * maximum total bitrate of video layers in kbps, in addition to the downlink estimate
+   */
+  maxBitrate?: number;
+
+  /**
+   * fraction of the downlink estimate added to the budget for higher layers. Default value is `0.25`
+   */
+  headroom?: number;
+
+  /**
+   * estimated bitrate of a layer in kbps per pixel of its resolution. Default value is `0.0025`
+   */
+  kbpsPerPixel?: number;
+}
+
+/**
+ * Layer selected for a remote video track by simulcast layer arbitration
+ */
+export interface HMSSimulcastLayerDecision {
+  /**
+   * id of the remote video track
+   */
+  trackId: string;
+
+  /**
+   * layer selected within the budget
+   */
+  layer: HMSLayer;
+
+  /**
+   * lowest layer covering the largest visible view of the track
+   */
+  desiredLayer: HMSLayer;
+
+  /**
+   * width of the largest visible view of the track in pixels, `0` if the track is not visible
+   */
+  viewWidth: number;
+
+  /**
+   * height of the largest visible view of the track in pixels, `0` if the track is not visible
+   */
+  viewHeight: number;
+}
+
+/**
+ * Current decisions of simulcast layer arbitration
+ */
+export interface HMSSimulcastLayerDecisions {
+  /**
+   * whether layer arbitration is enabled
+   */
+  enabled: boolean;
+
+  /**
+   * smoothed video bitrate received in kbps
+   */
+  downlinkEstimate: number;
+
+  /**
+   * budget in kbps within which layers are selected, `null` if it is not limited
+   */
+  budget: number | null;
+
+  /**
+   * selected layers of remote video tracks
+   */
+  tracks: HMSSimulcastLayerDecision[];
+}
@@ -0,0 +1,22 @@
+/**
+ * Options for packed transport of remote track stats. Android only.
+ *
+ * When provided, `ON_REMOTE_AUDIO_STATS` & `ON_REMOTE_VIDEO_STATS` stats of all tracks for one stats tick are sent
+ * from native side in a single flat buffer, instead of one event per track carrying peer & track objects.
+ * Listeners added for these events keep receiving the same data.
+ *
+ * ```
+ * const hmsInstance = await HMSSDK.build({
+ *   statsTransport: { encoding: 'base64' },
+ * });
+ * ```
+ *
+ * @interface HMSStatsTransportOptions
+ * @property {'array' | 'base64'} [encoding] - Encoding of the packed stats buffer. Default is `array`.
+ */
+export interface HMSStatsTransportOptions {
+  /**
+   * Encoding of the packed stats buffer, `array` sends an array of numbers and `base64` sends base64 string of little endian doubles. Default is `array`.
+   */
+  encoding?: 'array' | 'base64';
+}
@@ -0,0 +1,73 @@
+/**
+ * options for sampling thumbnails of a video track with `startThumbnailSampler`. Android only.
+ *
+ * ```
+ * const { stop } = await hmsInstance.startThumbnailSampler(
+ *   videoTrack.trackId,
+ *   (thumbnail) => setAvatarUri(thumbnail.uri),
+ *   { fps: 1, maxDimension: 160 }
+ * );
+ * ```
+ */
+export interface HMSThumbnailSamplerOptions {
+  /**
+   * larger side of the thumbnail in pixels, frames are scaled down to fit in it. Default value is `160`
+   */
+  maxDimension?: number;
+
+  /**
+   * number of thumbnails sampled per second. Default value is `1`
+   */
+  fps?: number;
+
+  /**
+   * JPEG quality from `0` to `100`. Default value is `70`
+   */
+  quality?: number;
+
+  /**
+   * Whether the thumbnail is delivered as `file://` URI of a file in cache directory, or as Base64 string.
+   * Only the latest thumbnails are kept in cache directory, a replaced thumbnail file is deleted after 5 seconds. Default value is `file`
+   */
+  output?: 'file' | 'base64';
+}
+
+/**
+ * A thumbnail received from `startThumbnailSampler`
+ */
+export interface HMSThumbnail {
+  /**
+   * id of the sampler, same for all thumbnails of a `startThumbnailSampler` call
+   */
+  samplerId: string;
+
+  /**
+   * id of the sampled video track
+   */
+  trackId: string;
+
+  /**
+   * `file://` URI of the JPEG thumbnail, available when `output` is `file`
+   */
+  uri?: string;
+
+  /**
+   * Base64 encoded JPEG thumbnail, available when `output` is `base64`
+   */
+  data?: string;
+
+  /**
+   * width of the thumbnail in pixels
+   */
+  width: number;
+
+  /**
+   * height of the thumbnail in pixels
+   */
+  height: number;
+
+  /**
+   * time at which the thumbnail was sampled, in milliseconds since epoch
+   */
+  timestamp: number;
+}
@@ -24,6 +24,7 @@
  * @property {string} ON_TRACK_UPDATE - Emitted when there is an update related to a track in the room.
  * @property {string} ON_ERROR - Emitted when an error occurs.
  * @property {string} ON_MESSAGE - Emitted when a message is received.
+ * @property {string} ON_MESSAGE_BATCH - Emitted with all messages received within a batch interval.
  * @property {string} ON_SPEAKER - Emitted when there is an update on the current speaker.
  * @property {string} RECONNECTING - Emitted when the SDK is attempting to reconnect to the room.
  * @property {string} RECONNECTED - Emitted when the SDK has successfully reconnected to the room.
@@ -142,6 +143,18 @@ export enum HMSUpdateListenerActions {
    */
   ON_MESSAGE = 'ON_MESSAGE',
 
+  /**
+   * Event emitted with an array of received messages.
+   *
+   * When `messageBatching` is enabled in `HMSSDK.build`, messages received within the batch interval are delivered together,
+   * so that a burst of chat messages can be handled as a single update. Otherwise, every message is delivered as an array of one message.
+   * Message batching is available only on Android.
+   *
+   * @type {string}
+   * @see HMSMessageBatchingOptions
+   */
+  ON_MESSAGE_BATCH = 'ON_MESSAGE_BATCH',
+
   /**
    * Event emitted when there is an update on the current speaker.
    *
@@ -0,0 +1,11 @@
+/**
+ * Determines how `HmsView` renders video. Android only.
+ *
+ * - `SURFACE` renders with a `SurfaceView`, which has its own surface and render thread. This is the default.
+ * - `TEXTURE` renders into a `TextureView` from a single EGL context and render thread shared by all views in this mode,
+ * suited for dense grids of many tiles. Simulcast layers of views in this mode are not selected automatically.
+ */
+export enum HMSVideoRenderMode {
+  SURFACE = 'SURFACE',
+  TEXTURE = 'TEXTURE',
+}
@@ -9,7 +9,9 @@ import {
 import type { NativeSyntheticEvent, ViewStyle } from 'react-native';
 import { HMSConstants } from './HMSConstants';
 import { HMSVideoViewMode } from './HMSVideoViewMode';
+import { HMSVideoRenderMode } from './HMSVideoRenderMode';
 import { setHmsViewsResolutionsState } from '../hooks/hmsviews';
+import type { HMSFrameCaptureOptions } from './HMSFrameCaptureOptions';
 
 /**
  * Interface defining the properties for the `HmsView` component.
@@ -26,6 +28,9 @@ import { setHmsViewsResolutionsState } from '../hooks/hmsviews';
  * @property {HMSVideoViewMode} data.scaleType - Determines how the video fits within the bounds of the view (e.g., aspect fill, aspect fit).
  * @property {boolean} autoSimulcast - Enables automatic simulcast layer switching based on network conditions, if supported.
  * @property {boolean} setZOrderMediaOverlay - When true, the video view will be rendered above the regular view hierarchy.
+ * @property {boolean} pauseWhenHidden - When true, rendering is paused while the view is not visible on screen. Android only.
+ * @property {number} minVisibleSize - Views smaller than this size are treated as not visible when `pauseWhenHidden` is true. Android only.
+ * @property {HMSVideoRenderMode} renderMode - Determines whether the video is rendered with a `SurfaceView` or a `TextureView`. Android only.
  * @property {ViewStyle} style - Custom styles to apply to the view.
  * @property {Function} onChange - A callback function that is invoked when the `HmsView` component emits a change event.
  * @property {Function} onDataReturned - A callback function that is invoked when the `HmsView` component returns data in response to a capture frame event.
@@ -41,6 +46,9 @@ interface HmsViewProps {
   };
   autoSimulcast: boolean;
   setZOrderMediaOverlay: boolean;
+  pauseWhenHidden: boolean;
+  minVisibleSize: number;
+  renderMode: HMSVideoRenderMode;
   scaleType: HMSVideoViewMode;
   style: ViewStyle;
   onChange: Function;
@@ -65,6 +73,11 @@ let _requestMap = new Map();
  * @property {boolean} [autoSimulcast] - Optional. Enables automatic simulcast layer switching based on network conditions, if supported.
  * @property {HMSVideoViewMode} [scaleType] - Optional. Determines how the video fits within the bounds of the view (e.g., aspect fill, aspect fit).
  * @property {boolean} [setZOrderMediaOverlay] - Optional. When true, the video view will be rendered above the regular view hierarchy.
+ * @property {boolean} [pauseWhenHidden] - Optional. When true, rendering is paused while the view is scrolled out of screen, hidden or smaller than `minVisibleSize`,
+ * and a remote track is dropped to the lowest simulcast layer while it is not visible in any view. Useful for tiles of paged or scrolled grids. Android only.
+ * @property {number} [minVisibleSize] - Optional. Minimum width and height of the view, below which it is treated as not visible when `pauseWhenHidden` is true. Default is `0`. Android only.
+ * @property {HMSVideoRenderMode} [renderMode] - Optional. `TEXTURE` renders into a `TextureView` from a single EGL context shared by all views in this mode,
+ * which avoids a surface and render thread per tile in dense grids. Default is `SURFACE`. Android only.
  * @property {string} id - The identifier for the `HmsViewComponent` instance.
  *
  * @see {https://www.100ms.live/docs/react-native/v2/how-to-guides/set-up-video-conferencing/render-video/overview}
@@ -76,6 +89,9 @@ export interface HmsComponentProps {
   autoSimulcast?: boolean;
   scaleType?: HMSVideoViewMode;
   setZOrderMediaOverlay?: boolean;
+  pauseWhenHidden?: boolean;
+  minVisibleSize?: number;
+  renderMode?: HMSVideoRenderMode;
   id: string;
 }
 
@@ -88,6 +104,9 @@ export const HmsViewComponent = React.forwardRef<any, HmsComponentProps>(
       mirror = false,
       setZOrderMediaOverlay = false,
       autoSimulcast = true,
+      pauseWhenHidden = false,
+      minVisibleSize = 0,
+      renderMode = HMSVideoRenderMode.SURFACE,
       scaleType = HMSVideoViewMode.ASPECT_FILL,
     } = props;
 
@@ -141,7 +160,11 @@ export const HmsViewComponent = React.forwardRef<any, HmsComponentProps>(
       _requestMap.delete(requestId);
     };
 
-    const capture = async () => {
+    /**
+     * Captures the current frame of the view. Resolves with Base64 encoded image, or with `file://` URI
+     * when `options.output` is `file`. `options` are supported only on Android.
+     */
+    const capture = async (options?: HMSFrameCaptureOptions) => {
       const viewManagerConfig = UIManager.getViewManagerConfig('HMSView');
 
       let requestId = _nextRequestId++;
@@ -156,7 +179,7 @@ export const HmsViewComponent = React.forwardRef<any, HmsComponentProps>(
       UIManager.dispatchViewManagerCommand(
         findNodeHandle(hmsViewRef.current),
         viewManagerConfig.Commands.capture,
-        [requestId]
+        Platform.OS === 'android' && options ? [requestId, options] : [requestId]
       );
       return promise;
     };
@@ -178,6 +201,9 @@ export const HmsViewComponent = React.forwardRef<any, HmsComponentProps>(
         autoSimulcast={autoSimulcast}
         scaleType={scaleType}
         setZOrderMediaOverlay={setZOrderMediaOverlay}
+        pauseWhenHidden={pauseWhenHidden}
+        minVisibleSize={minVisibleSize}
+        renderMode={renderMode}
         onDataReturned={_onDataReturned}
       />
     );
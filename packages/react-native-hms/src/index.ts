@@ -38,6 +38,7 @@ export * from './classes/HMSTrackUpdate';
 export * from './classes/HMSLogger';
 export * from './classes/HMSLogLevel';
 export * from './classes/HMSVideoViewMode';
+export * from './classes/HMSVideoRenderMode';
 export * from './classes/HMSChangeTrackStateRequest';
 export * from './classes/HMSSpeaker';
 export * from './classes/HMSCameraFacing';
@@ -86,6 +87,7 @@ export * from './classes/HMSStreamingState';
 export * from './classes/HMSHLSPlaylistType';
 export type {
   HMSSessionStore,
+  HMSSessionStoreEntry,
   JsonArray,
   JsonMap,
   JsonPrimitive,
@@ -96,6 +98,29 @@ export type {
   HmsComponentProps as HMSViewProps,
 } from './classes/HmsView';
 export type { HMSPIPConfig } from './classes/HMSPIPConfig';
+export type { HMSEventBatchingOptions } from './classes/HMSEventBatchingOptions';
+export type { HMSStatsTransportOptions } from './classes/HMSStatsTransportOptions';
+export type { HMSActiveSpeakerOptions } from './classes/HMSActiveSpeakerOptions';
+export type { HMSSessionStoreUpdatesOptions } from './classes/HMSSessionStoreUpdatesOptions';
+export type { HMSMessageBatchingOptions } from './classes/HMSMessageBatchingOptions';
+export type {
+  HMSBulkPeerActionOptions,
+  HMSBulkPeerActionResult,
+} from './classes/HMSBulkPeerAction';
+export type { HMSFrameCaptureOptions } from './classes/HMSFrameCaptureOptions';
+export type {
+  HMSPeerListStreamOptions,
+  HMSPeerListPage,
+} from './classes/HMSPeerListStream';
+export type {
+  HMSThumbnail,
+  HMSThumbnailSamplerOptions,
+} from './classes/HMSThumbnailSampler';
+export type {
+  HMSSimulcastLayerPolicy,
+  HMSSimulcastLayerDecision,
+  HMSSimulcastLayerDecisions,
+} from './classes/HMSSimulcastLayerArbitration';
 export { HMSRecordingState } from './classes/HMSRecordingState';
 export type { HMSPoll } from './classes/polls/HMSPoll';
 export * from './classes/HMSNoiseCancellationPlugin';
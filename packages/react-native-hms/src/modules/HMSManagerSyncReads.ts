@@ -0,0 +1,54 @@
+import HMSManager from './HMSManagerModule';
+
+/**
+ * Synchronous read methods of `HMSManager` for scalar peer & room properties. These take typed arguments and
+ * return the property value itself, so neither arguments nor result are marshalled as maps. Available on Android only.
+ *
+ * Callers should fallback to the object based methods when `hasSyncReads` is false, or the property isn't scalar.
+ */
+export const hasSyncReads =
+  typeof HMSManager?.getPeerStringPropertySync === 'function';
+
+const PEER_STRING_PROPERTIES = ['name', 'type', 'metadata', 'customerUserID'];
+const PEER_BOOLEAN_PROPERTIES = ['isLocal', 'isHandRaised'];
+const ROOM_STRING_PROPERTIES = ['sessionId', 'name'];
+const ROOM_BOOLEAN_PROPERTIES = ['isLargeRoom'];
+
+/**
+ * Returns `{ value }` of a scalar peer property, `value` is `null` if peer is not available.
+ * Returns `undefined` if property isn't scalar.
+ */
+export const getPeerScalarPropertySync = (
+  id: string,
+  peerId: string,
+  property: string
+): { value: string | boolean | null } | undefined => {
+  if (PEER_STRING_PROPERTIES.includes(property)) {
+    return {
+      value: HMSManager.getPeerStringPropertySync(id, peerId, property),
+    };
+  }
+  if (PEER_BOOLEAN_PROPERTIES.includes(property)) {
+    return {
+      value: HMSManager.getPeerBooleanPropertySync(id, peerId, property),
+    };
+  }
+  return undefined;
+};
+
+/**
+ * Returns `{ value }` of a scalar room property, `value` is `null` if room is not available.
+ * Returns `undefined` if property isn't scalar.
+ */
+export const getRoomScalarPropertySync = (
+  id: string,
+  property: string
+): { value: string | boolean | null } | undefined => {
+  if (ROOM_STRING_PROPERTIES.includes(property)) {
+    return { value: HMSManager.getRoomStringPropertySync(id, property) };
+  }
+  if (ROOM_BOOLEAN_PROPERTIES.includes(property)) {
+    return { value: HMSManager.getRoomBooleanPropertySync(id, property) };
+  }
+  return undefined;
+};
@@ -145,6 +145,7 @@ const getHmsInstance = async (
     appGroup,
     preferredExtension,
     isPrebuilt: true,
+    messageBatching: { batchInterval: 100 }, // only available on Android
   });
 
   const logger = new HMSLogger();
@@ -6,13 +6,14 @@ import {
 } from '@shopify/flash-list';
 import { Platform, StyleSheet, View } from 'react-native';
 import type { StyleProp, ViewStyle } from 'react-native';
-import { useSelector } from 'react-redux';
 
-import type { RootState } from '../../redux';
 import { ChatMessage } from './ChatMessage';
 import { ChatBanner } from './ChatBanner';
 import { PinnedMessages } from './PinnedMessages';
-import { useIsAllowedToSendMessage } from '../../hooks-util';
+import {
+  useChatMessagesWindow,
+  useIsAllowedToSendMessage,
+} from '../../hooks-util';
 
 type ChatListProps = {
   style?: StyleProp<ViewStyle>;
@@ -22,7 +23,7 @@ type ChatListProps = {
 const _ChatList: React.FC<ChatListProps> = ({ style }) => {
   const flashlistRef = React.useRef<null | FlashList<HMSMessage>>(null);
   const isAllowedToSendMessage = useIsAllowedToSendMessage();
-  const messages = useSelector((state: RootState) => state.messages.messages);
+  const { messages, loadOlderMessages } = useChatMessagesWindow();
 
   const _keyExtractor = React.useCallback(
     (item: HMSMessage) => item.messageId,
@@ -55,6 +56,8 @@ const _ChatList: React.FC<ChatListProps> = ({ style }) => {
           // ItemSeparatorComponent={() => <View style={{ height: 16 }} />} // TODO: There is a bug related to this: https://github.com/Shopify/flash-list/issues/638
           renderItem={_renderItem}
           keyExtractor={_keyExtractor}
+          onEndReached={loadOlderMessages}
+          onEndReachedThreshold={0.5}
         />
       ) : (
         <ChatBanner />
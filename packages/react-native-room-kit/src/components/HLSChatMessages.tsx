@@ -1,15 +1,14 @@
 import * as React from 'react';
 import { FlatList, Platform, StyleSheet, View } from 'react-native';
-import { useSelector } from 'react-redux';
 import type { HMSMessage } from '@100mslive/react-native-hms';
 
-import type { RootState } from '../redux';
+import { useChatMessagesWindow } from '../hooks-util';
 import { HMSHLSMessage } from './HMSHLSMessage';
 import { ChatBanner, PinnedMessages } from './Chat';
 import { MessageOptionsBottomSheet } from './Chat/MessageOptionsBottomSheet';
 
 export const HLSChatMessages = () => {
-  const messages = useSelector((state: RootState) => state.messages.messages);
+  const { messages, loadOlderMessages } = useChatMessagesWindow();
 
   const _keyExtractor = React.useCallback(
     (item: HMSMessage) => item.messageId,
@@ -42,6 +41,8 @@ export const HLSChatMessages = () => {
             // ItemSeparatorComponent={() => <View style={{ height: 16 }} />} // TODO: There is a bug related to this: https://github.com/Shopify/flash-list/issues/638
             renderItem={_renderItem}
             keyExtractor={_keyExtractor}
+            onEndReached={loadOlderMessages}
+            onEndReachedThreshold={0.5}
           />
         ) : (
           <ChatBanner />
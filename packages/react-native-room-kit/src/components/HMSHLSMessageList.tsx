@@ -1,16 +1,15 @@
 import * as React from 'react';
 import { StyleSheet, View, useWindowDimensions } from 'react-native';
-import { useSelector } from 'react-redux';
 import { FlashList } from '@shopify/flash-list';
 import type { HMSMessage } from '@100mslive/react-native-hms';
 
-import type { RootState } from '../redux';
+import { useChatMessagesWindow } from '../hooks-util';
 import { useIsLandscapeOrientation } from '../utils/dimension';
 import { HMSOverlayMessageView } from './HMSOverlayMessageView';
 
 export const HMSHLSMessageList: React.FC = () => {
   const { height: windowHeight } = useWindowDimensions();
-  const messages = useSelector((state: RootState) => state.messages.messages);
+  const { messages, loadOlderMessages } = useChatMessagesWindow();
   const isLandscapeOrientation = useIsLandscapeOrientation();
 
   const _keyExtractor = React.useCallback(
@@ -52,6 +51,8 @@ export const HMSHLSMessageList: React.FC = () => {
         // ItemSeparatorComponent={() => <View style={{ height: 16 }} />} // TODO: There is a bug related to this: https://github.com/Shopify/flash-list/issues/638
         renderItem={_renderItem}
         keyExtractor={_keyExtractor}
+        onEndReached={loadOlderMessages}
+        onEndReachedThreshold={0.5}
       />
     </View>
   );
@@ -13,6 +13,10 @@ import { ParticipantsGroupHeader } from './ParticipantsGroupHeader';
 import { useSelector } from 'react-redux';
 import type { RootState } from '../../redux';
 import { ParticipantsListFooter } from './ParticipantsListFooter';
+import {
+  selectGroupedParticipants,
+  selectParticipantsOfRole,
+} from '../../hooks-util-selectors';
 
 export type ParticipantsListProps = {
   searchText: string;
@@ -42,8 +46,8 @@ export const ParticipantsList: React.FC<ParticipantsListProps> = ({
   // Getting initial data for the selected group ID
   const dataForGroupId = useSelector((state: RootState) => {
     return selectedGroupId === 'hand-raised'
-      ? state.hmsStates.groupedParticipants
-      : state.hmsStates.groupedParticipants[selectedGroupId];
+      ? selectGroupedParticipants(state)
+      : selectParticipantsOfRole(state, selectedGroupId);
   });
 
   const finalDataForGroupId = React.useMemo(() => {
@@ -74,6 +74,7 @@ const _VideoView = React.forwardRef<
           trackId={trackId}
           key={trackId}
           autoSimulcast={autoSimulcast}
+          pauseWhenHidden={!peer.isLocal}
           mirror={peer.isLocal ? mirrorCamera : false}
           scaleType={scaleType}
           style={styles.hmsView}
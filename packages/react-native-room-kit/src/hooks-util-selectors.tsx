@@ -3,7 +3,11 @@ import type {
   HLSLiveStreamingScreen,
   Layout,
 } from '@100mslive/types-prebuilt';
-import type { HMSRole } from '@100mslive/react-native-hms';
+import type {
+  HMSLocalPeer,
+  HMSPeer,
+  HMSRole,
+} from '@100mslive/react-native-hms';
 import { JoinForm_JoinBtnType } from '@100mslive/types-prebuilt/elements/join_form';
 
 import type { RootState } from './redux';
@@ -86,3 +90,99 @@ export const selectConferencingScreenConfig = (
     null
   );
 };
+
+type Participant = HMSPeer | HMSLocalPeer;
+
+const EMPTY_PARTICIPANTS: Participant[] = [];
+
+// Last selected list of every role, reused while peers of the role are unchanged
+const participantsOfRoleCache = new Map<string, Participant[]>();
+
+let groupedParticipantsCache: {
+  participantsById: Record<string, Participant> | null;
+  participantIdsByRole: Record<string, string[]> | null;
+  groupedParticipants: Record<string, Participant[]>;
+} = {
+  participantsById: null,
+  participantIdsByRole: null,
+  groupedParticipants: {},
+};
+
+export const selectParticipantById = (state: RootState, peerId: string) =>
+  state.hmsStates.participantsById[peerId];
+
+/**
+ * Returns participants of the role, in order. Returned list keeps its identity while
+ * the peers of the role are unchanged, even if peers of other roles change.
+ */
+export const selectParticipantsOfRole = (
+  state: RootState,
+  roleName: string
+): Participant[] => {
+  const peerIds = state.hmsStates.participantIdsByRole[roleName];
+
+  if (!peerIds || peerIds.length === 0) {
+    participantsOfRoleCache.delete(roleName);
+    return EMPTY_PARTICIPANTS;
+  }
+
+  const participantsById = state.hmsStates.participantsById;
+  const cachedParticipants = participantsOfRoleCache.get(roleName);
+
+  if (
+    cachedParticipants &&
+    cachedParticipants.length === peerIds.length &&
+    peerIds.every(
+      (peerId, index) => participantsById[peerId] === cachedParticipants[index]
+    )
+  ) {
+    return cachedParticipants;
+  }
+
+  const participants = peerIds.map((peerId) => participantsById[peerId]!);
+  participantsOfRoleCache.set(roleName, participants);
+  return participants;
+};
+
+/**
+ * Returns participants grouped by role name. Returned object keeps its identity while no participant
+ * is changed, and lists of unchanged roles keep their identity.
+ */
+export const selectGroupedParticipants = (
+  state: RootState
+): Record<string, Participant[]> => {
+  const { participantsById, participantIdsByRole } = state.hmsStates;
+
+  if (
+    groupedParticipantsCache.participantsById === participantsById &&
+    groupedParticipantsCache.participantIdsByRole === participantIdsByRole
+  ) {
+    return groupedParticipantsCache.groupedParticipants;
+  }
+
+  const previousGroupedParticipants =
+    groupedParticipantsCache.groupedParticipants;
+  const groupedParticipants: Record<string, Participant[]> = {};
+  let changed =
+    Object.keys(previousGroupedParticipants).length !==
+    Object.keys(participantIdsByRole).length;
+
+  for (const roleName in participantIdsByRole) {
+    const participants = selectParticipantsOfRole(state, roleName);
+    groupedParticipants[roleName] = participants;
+
+    if (previousGroupedParticipants[roleName] !== participants) {
+      changed = true;
+    }
+  }
+
+  groupedParticipantsCache = {
+    participantsById,
+    participantIdsByRole,
+    groupedParticipants: changed
+      ? groupedParticipants
+      : previousGroupedParticipants,
+  };
+
+  return groupedParticipantsCache.groupedParticipants;
+};
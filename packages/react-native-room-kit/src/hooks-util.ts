@@ -62,13 +62,21 @@ import {
 import type { OnLeaveHandler, PeerTrackNode } from './utils/types';
 import {
   ChatBroadcastFilter,
+  ChatMessagesWindowSize,
   MaxTilesInOnePage,
   ModalTypes,
+  OffStagePeerListPageSize,
   OnLeaveReason,
+  ParticipantSearchDebounceDelay,
+  PeerListMaxRefreshInterval,
   PeerListRefreshInterval,
   PipModes,
 } from './utils/types';
 import { createPeerTrackNode, parseMetadata } from './utils/functions';
+import {
+  normalizeSearchText,
+  ParticipantSearchIndex,
+} from './utils/participantSearchIndex';
 import {
   batch,
   shallowEqual,
@@ -80,6 +88,7 @@ import type { AppDispatch, RootState } from './redux';
 import {
   addCuedPollId,
   addMessage,
+  addMessages,
   addNotification,
   addParticipant,
   addParticipants,
@@ -125,6 +134,10 @@ import {
   updateMiniViewPeerTrackNode,
   updateScreenshareTile,
 } from './redux/actions';
+import {
+  chatMessageBuffer,
+  MAX_CHAT_MESSAGES,
+} from './utils/chatMessageBuffer';
 import {
   createPeerTrackNodeUniqueId,
   degradeOrRestorePeerTrackNodes,
@@ -609,6 +622,10 @@ type PeerListUpdate = {
   removedPeers: HMSPeer[];
 };
 
+// SDK keeps a single `ON_PEER_LIST_UPDATED` listener, other hooks observe
+// its payloads through these listeners
+const peerListUpdateListeners = new Set<(update: PeerListUpdate) => void>();
+
 const useHMSPeerListUpdated = (hmsInstance: HMSSDK) => {
   const dispatch = useDispatch();
 
@@ -621,6 +638,9 @@ const useHMSPeerListUpdated = (hmsInstance: HMSSDK) => {
         dispatch(addParticipants(addedPeers));
         dispatch(removeParticipants(removedPeers));
       });
+      peerListUpdateListeners.forEach((listener) =>
+        listener({ addedPeers, removedPeers })
+      );
     };
 
     hmsInstance.addEventListener(
@@ -1417,32 +1437,45 @@ export const useHMSMessages = () => {
   );
 
   useEffect(() => {
-    const onMessageListener = (message: HMSMessage) => {
-      if (message.type === NotificationTypes.ROLE_CHANGE_DECLINED) {
-        if (canChangeRole) {
-          dispatch(
-            addNotification({
-              id: `${message.sender?.peerID}-${NotificationTypes.ROLE_CHANGE_DECLINED}`,
-              type: NotificationTypes.ROLE_CHANGE_DECLINED,
-              peer: message.sender!,
-            })
-          );
+    // Messages received together are added to chat with a single action
+    const onMessageBatchListener = (messages: HMSMessage[]) => {
+      const chatMessages: HMSMessage[] = [];
+
+      batch(() => {
+        messages.forEach((message) => {
+          if (message.type === NotificationTypes.ROLE_CHANGE_DECLINED) {
+            if (canChangeRole) {
+              dispatch(
+                addNotification({
+                  id: `${message.sender?.peerID}-${NotificationTypes.ROLE_CHANGE_DECLINED}`,
+                  type: NotificationTypes.ROLE_CHANGE_DECLINED,
+                  peer: message.sender!,
+                })
+              );
+            }
+          } else if (message.type === 'EMOJI_REACTION') {
+            console.log('Ignoring Emoji Reaction Message: ', message);
+          } else if (canShowChat) {
+            chatMessages.push(message);
+          }
+        });
+
+        if (chatMessages.length > 0) {
+          dispatch(addMessages(chatMessages));
         }
-      } else if (message.type === 'EMOJI_REACTION') {
-        console.log('Ignoring Emoji Reaction Message: ', message);
-      } else if (canShowChat) {
-        dispatch(addMessage(message));
-      }
+      });
     };
 
     hmsInstance.addEventListener(
-      HMSUpdateListenerActions.ON_MESSAGE,
-      onMessageListener
+      HMSUpdateListenerActions.ON_MESSAGE_BATCH,
+      onMessageBatchListener
     );
 
     return () => {
       // TODO: Remove this listener when user leaves, removed or room is ended
-      hmsInstance.removeEventListener(HMSUpdateListenerActions.ON_MESSAGE);
+      hmsInstance.removeEventListener(
+        HMSUpdateListenerActions.ON_MESSAGE_BATCH
+      );
     };
   }, [canChangeRole, canShowChat, hmsInstance]);
 };
@@ -2056,8 +2089,31 @@ export type ParticipantAccordianData = {
   data: (HMSPeer | HMSLocalPeer)[];
 };
 
+type OffStageRoleSyncState = {
+  // participant ids of the role in store, as of the last store update
+  participantIds: string[];
+  totalCount: number | undefined;
+  refreshDelay: number;
+  refreshTimeoutId: ReturnType<typeof setTimeout> | null;
+  refreshDueAt: number;
+  refreshing: boolean;
+};
+
+/**
+ * Keeps total counts & first page of participants of off-stage roles in sync.
+ *
+ * Counts are updated from peers joining & leaving in `ON_PEER_LIST_UPDATED`
+ * payloads, including peers which are not in the store, and from participants
+ * moving between roles in the store. Peer list iterator is used to fetch the
+ * initial state, and to refresh a role when its count drifts from its
+ * participants in store. Consecutive refreshes which find store out of sync
+ * are backed off exponentially, from `PeerListRefreshInterval` up to
+ * `PeerListMaxRefreshInterval`. Every role is also refreshed once per
+ * `PeerListMaxRefreshInterval`, to correct changes no update was received for.
+ */
 export const useOffStageParticipants = () => {
   const dispatch = useDispatch();
+  const store = useStore<RootState>();
   const hmsInstance = useHMSInstance();
   const offStageRoles = useHMSLayoutConfig(
     (layoutConfig) =>
@@ -2073,36 +2129,225 @@ export const useOffStageParticipants = () => {
     if (offStageRoles) {
       let mounted = true;
 
-      const createIterator = async (forRole: string) => {
-        const iterator = hmsInstance.getPeerListIterator({
-          byRoleName: forRole,
-          limit: 10,
+      const getParticipantIds = (role: string) =>
+        store.getState().hmsStates.participantIdsByRole[role] ?? [];
+
+      const syncStates: Record<string, OffStageRoleSyncState> = {};
+      offStageRoles.forEach((role) => {
+        syncStates[role] = {
+          participantIds: getParticipantIds(role),
+          totalCount: undefined,
+          refreshDelay: PeerListRefreshInterval,
+          refreshTimeoutId: null,
+          refreshDueAt: 0,
+          refreshing: false,
+        };
+      });
+
+      const updateTotalCounts = () => {
+        setParticipantsTotalCounts((prev) => {
+          let changed = false;
+          const totalCounts: Record<string, number> = {};
+          offStageRoles.forEach((role) => {
+            const totalCount = syncStates[role]?.totalCount;
+            if (typeof totalCount === 'number') {
+              totalCounts[role] = totalCount;
+            }
+            if (prev[role] !== totalCounts[role]) {
+              changed = true;
+            }
+          });
+          return changed ? totalCounts : prev;
         });
-        const participants = await iterator.next();
-        if (mounted) {
-          dispatch(replaceParticipantsList(participants, forRole));
-          setParticipantsTotalCounts((prev) => ({
-            ...prev,
-            [forRole]: iterator.totalCount,
-          }));
+      };
+
+      const hasDrifted = (syncState: OffStageRoleSyncState) => {
+        const { totalCount, participantIds } = syncState;
+        return (
+          typeof totalCount !== 'number' ||
+          // store knows more participants than counted
+          participantIds.length > totalCount ||
+          // first page isn't full, while role has more participants
+          (participantIds.length < OffStagePeerListPageSize &&
+            totalCount > participantIds.length)
+        );
+      };
+
+      const refresh = async (role: string) => {
+        const syncState = syncStates[role]!;
+        syncState.refreshTimeoutId = null;
+        syncState.refreshing = true;
+
+        let inSync = false;
+        try {
+          const iterator = hmsInstance.getPeerListIterator({
+            byRoleName: role,
+            limit: OffStagePeerListPageSize,
+          });
+          const participants = await iterator.next();
+          if (!mounted) {
+            return;
+          }
+
+          const currentIds = getParticipantIds(role);
+          const samePage =
+            participants.length === currentIds.length &&
+            participants.every(
+              (participant, index) => participant.peerID === currentIds[index]
+            );
+          inSync = samePage && syncState.totalCount === iterator.totalCount;
+
+          if (!samePage) {
+            dispatch(replaceParticipantsList(participants, role));
+          }
+          syncState.participantIds = getParticipantIds(role);
+          syncState.totalCount = iterator.totalCount;
+        } catch (error) {
+          console.log('Off-stage participants refresh failed', role, error);
+        }
+        if (!mounted) {
+          return;
+        }
+
+        syncState.refreshing = false;
+        syncState.refreshDelay = inSync
+          ? PeerListRefreshInterval
+          : Math.min(syncState.refreshDelay * 2, PeerListMaxRefreshInterval);
+        updateTotalCounts();
+        scheduleRefresh(role);
+      };
+
+      // Drifted role is refreshed after its backoff delay, others after
+      // `PeerListMaxRefreshInterval`
+      const scheduleRefresh = (role: string, delay?: number) => {
+        const syncState = syncStates[role]!;
+        if (syncState.refreshing) {
+          return;
+        }
+        const refreshDelay =
+          delay ??
+          (hasDrifted(syncState)
+            ? syncState.refreshDelay
+            : PeerListMaxRefreshInterval);
+        const refreshDueAt = Date.now() + refreshDelay;
+        if (syncState.refreshTimeoutId !== null) {
+          if (syncState.refreshDueAt <= refreshDueAt) {
+            return;
+          }
+          clearTimeout(syncState.refreshTimeoutId);
+        }
+        syncState.refreshDueAt = refreshDueAt;
+        syncState.refreshTimeoutId = setTimeout(
+          () => refresh(role),
+          refreshDelay
+        );
+      };
+
+      const adjustTotalCount = (role: string, delta: number) => {
+        const syncState = syncStates[role];
+        // count of a role being refreshed is replaced by the refresh
+        if (
+          !syncState ||
+          syncState.refreshing ||
+          typeof syncState.totalCount !== 'number'
+        ) {
+          return false;
+        }
+        syncState.totalCount = Math.max(0, syncState.totalCount + delta);
+        return true;
+      };
+
+      // Applies peers joining & leaving off-stage roles, in store or not
+      const onPeerListUpdate = ({
+        addedPeers,
+        removedPeers,
+      }: PeerListUpdate) => {
+        const changedRoles = new Set<string>();
+        const applyPeers = (peers: HMSPeer[], delta: number) => {
+          peers.forEach((peer) => {
+            const role = peer.role?.name;
+            if (role && adjustTotalCount(role, delta)) {
+              changedRoles.add(role);
+            }
+          });
+        };
+        applyPeers(addedPeers, 1);
+        applyPeers(removedPeers, -1);
+
+        if (changedRoles.size > 0) {
+          updateTotalCounts();
+          changedRoles.forEach((role) => scheduleRefresh(role));
         }
       };
 
-      const createIteratorForRoles = () => {
+      let participantRoleById = store.getState().hmsStates.participantRoleById;
+
+      // Applies participants moving between roles in store, peers joining &
+      // leaving are counted by `onPeerListUpdate`
+      const onStoreChange = () => {
+        const prevParticipantRoleById = participantRoleById;
+        participantRoleById = store.getState().hmsStates.participantRoleById;
+
+        let countsChanged = false;
         offStageRoles.forEach((role) => {
-          createIterator(role);
+          const syncState = syncStates[role]!;
+          const participantIds = getParticipantIds(role);
+          if (participantIds === syncState.participantIds) {
+            return;
+          }
+
+          const prevIds = new Set(syncState.participantIds);
+          const nextIds = new Set(participantIds);
+          let delta = 0;
+          nextIds.forEach((id) => {
+            const prevRole = prevParticipantRoleById[id];
+            if (
+              !prevIds.has(id) &&
+              prevRole !== undefined &&
+              prevRole !== role
+            ) {
+              delta += 1;
+            }
+          });
+          prevIds.forEach((id) => {
+            const nextRole = participantRoleById[id];
+            if (
+              !nextIds.has(id) &&
+              nextRole !== undefined &&
+              nextRole !== role
+            ) {
+              delta -= 1;
+            }
+          });
+          if (delta !== 0) {
+            countsChanged = adjustTotalCount(role, delta) || countsChanged;
+          }
+          syncState.participantIds = participantIds;
+          scheduleRefresh(role);
         });
+
+        if (countsChanged) {
+          updateTotalCounts();
+        }
       };
 
-      createIteratorForRoles();
+      const unsubscribe = store.subscribe(onStoreChange);
+      peerListUpdateListeners.add(onPeerListUpdate);
 
-      const intervalId = setInterval(() => {
-        createIteratorForRoles();
-      }, PeerListRefreshInterval);
+      offStageRoles.forEach((role) => {
+        scheduleRefresh(role, 0);
+      });
 
       return () => {
         mounted = false;
-        clearInterval(intervalId);
+        unsubscribe();
+        peerListUpdateListeners.delete(onPeerListUpdate);
+        offStageRoles.forEach((role) => {
+          const refreshTimeoutId = syncStates[role]?.refreshTimeoutId;
+          if (refreshTimeoutId) {
+            clearTimeout(refreshTimeoutId);
+          }
+        });
       };
     }
   }, [offStageRoles]);
@@ -2120,12 +2365,32 @@ export const useFilteredParticipants = (filterText: string) => {
 
   const offStageParticipantsTotalCounts = useOffStageParticipants();
 
-  const formattedSearchText = filterText.trim().toLowerCase();
+  const normalizedFilterText = normalizeSearchText(filterText);
+  const [formattedSearchText, setFormattedSearchText] =
+    useState(normalizedFilterText);
+
+  // Query is evaluated once typing pauses, cleared search is applied at once
+  useEffect(() => {
+    if (normalizedFilterText.length <= 0) {
+      setFormattedSearchText(normalizedFilterText);
+      return;
+    }
+    const timeoutId = setTimeout(() => {
+      setFormattedSearchText(normalizedFilterText);
+    }, ParticipantSearchDebounceDelay);
+
+    return () => clearTimeout(timeoutId);
+  }, [normalizedFilterText]);
 
-  const groupedParticipants = useSelector(
-    (state: RootState) => state.hmsStates.groupedParticipants
+  const participantsById = useSelector(
+    (state: RootState) => state.hmsStates.participantsById
+  );
+  const participantIdsByRole = useSelector(
+    (state: RootState) => state.hmsStates.participantIdsByRole
   );
 
+  const searchIndexRef = useRef<ParticipantSearchIndex | null>(null);
+
   const sortedRoles = useMemo(
     () => {
       return roles
@@ -2181,46 +2446,44 @@ export const useFilteredParticipants = (filterText: string) => {
   const participantsAccordianData: ParticipantAccordianData[] = useMemo(() => {
     const t = [];
 
-    const filteredHandRaisedPeers: (HMSPeer | HMSLocalPeer)[][] = [];
+    if (!searchIndexRef.current) {
+      searchIndexRef.current = new ParticipantSearchIndex();
+    }
+    const searchIndex = searchIndexRef.current;
+    searchIndex.sync(participantsById, participantIdsByRole);
+
+    const handRaisedParticipants: (HMSPeer | HMSLocalPeer)[] = [];
 
     sortedRoles.forEach((role) => {
-      const list = groupedParticipants[role.name!];
-      const filteredList =
-        Array.isArray(list) && formattedSearchText.length > 0
-          ? list.filter((peer) =>
-              peer.name?.toLowerCase().includes(formattedSearchText)
-            )
-          : list;
+      const searchResult = searchIndex.search(
+        role.name!,
+        formattedSearchText,
+        10
+      );
 
-      if (Array.isArray(filteredList) && filteredList.length > 0) {
-        filteredHandRaisedPeers.push(filteredList);
+      if (searchResult.count > 0) {
+        handRaisedParticipants.push(...searchResult.handRaisedParticipants);
         const offStageRoleTotalCount =
           offStageParticipantsTotalCounts[role.name!];
 
-        const firstTen = filteredList.slice(0, 10);
-
         t.push({
           id: role.name!,
           label: `${role.name!} (${
             typeof offStageRoleTotalCount === 'number' &&
-            offStageRoleTotalCount > filteredList.length
+            offStageRoleTotalCount > searchResult.count
               ? offStageRoleTotalCount // only use `offStageRoleTotalCount` when it is number and more than list length
-              : filteredList.length
+              : searchResult.count
           })`,
           showViewAll:
             typeof offStageRoleTotalCount === 'number' &&
             formattedSearchText.length <= 0
               ? offStageRoleTotalCount > 10
-              : filteredList.length > 10,
-          data: firstTen,
+              : searchResult.count > 10,
+          data: searchResult.participants,
         });
       }
     });
 
-    const handRaisedParticipants = filteredHandRaisedPeers
-      .flat()
-      .filter((participant) => participant.isHandRaised);
-
     const firstTenHandRaisedParticipants = handRaisedParticipants.slice(0, 10);
 
     if (handRaisedParticipants.length > 0) {
@@ -2235,8 +2498,9 @@ export const useFilteredParticipants = (filterText: string) => {
     return t;
   }, [
     formattedSearchText,
-    groupedParticipants,
     offStageParticipantsTotalCounts,
+    participantIdsByRole,
+    participantsById,
     sortedRoles,
   ]);
 
@@ -2609,6 +2873,40 @@ export const useIsAllowedToSendMessage = () => {
   );
 };
 
+/**
+ * Returns latest chat messages to be rendered, latest message first.
+ *
+ * Starts with `ChatMessagesWindowSize` messages, `loadOlderMessages` extends
+ * the window by `ChatMessagesWindowSize` older messages. Returned list is
+ * created only when messages or the window change.
+ */
+export const useChatMessagesWindow = () => {
+  const [windowSize, setWindowSize] = useState(ChatMessagesWindowSize);
+  const messagesVersion = useSelector(
+    (state: RootState) => state.messages.messagesVersion
+  );
+  const messagesCount = useSelector(
+    (state: RootState) => state.messages.messagesCount
+  );
+
+  const messages = useMemo(
+    () => chatMessageBuffer.getLatest(windowSize),
+    [messagesVersion, windowSize]
+  );
+
+  const hasOlderMessages = windowSize < messagesCount;
+
+  const loadOlderMessages = useCallback(() => {
+    if (hasOlderMessages) {
+      setWindowSize((prev) =>
+        Math.min(prev + ChatMessagesWindowSize, MAX_CHAT_MESSAGES)
+      );
+    }
+  }, [hasOlderMessages]);
+
+  return { messages, hasOlderMessages, loadOlderMessages };
+};
+
 export const useHMSChatLayoutConfig = <Selected = unknown>(
   selector: (chatConfig: ChatConfig | null) => Selected,
   equalityFn?: (left: Selected, right: Selected) => boolean
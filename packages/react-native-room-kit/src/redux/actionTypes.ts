@@ -17,6 +17,8 @@ const createRequests = (base: String) => {
 
 const ADD_MESSAGE = createRequests('ADD_MESSAGE');
 
+const ADD_MESSAGES = createRequests('ADD_MESSAGES');
+
 const ADD_PINNED_MESSAGES = createRequests('ADD_PINNED_MESSAGES');
 
 const CLEAR_MESSAGE_DATA = createRequests('CLEAR_MESSAGE_DATA');
@@ -126,6 +128,7 @@ const FILTER_OUT_BLOCKED_MSGS = 'FILTER_OUT_BLOCKED_MSGS';
 export default {
   ADD_PINNED_MESSAGES,
   ADD_MESSAGE,
+  ADD_MESSAGES,
   CLEAR_MESSAGE_DATA,
   CLEAR_PEER_DATA,
   SET_PEER_STATE,
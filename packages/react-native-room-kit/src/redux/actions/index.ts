@@ -64,6 +64,7 @@ import type {
 } from '../actionTypes';
 import { MeetingState } from '../../types';
 import type { ChatState, Notification, PinnedMessage } from '../../types';
+import { chatMessageBuffer } from '../../utils/chatMessageBuffer';
 
 export const setPrebuiltData = (data: {
   roomCode?: string;
@@ -89,9 +90,12 @@ export const setOnLeaveHandler = (onLeave?: OnLeaveHandler) => ({
   payload: { onLeave },
 });
 
-export const clearStore = () => ({
-  type: HmsStateActionTypes.CLEAR_STATES,
-});
+export const clearStore = () => {
+  chatMessageBuffer.clear();
+  return {
+    type: HmsStateActionTypes.CLEAR_STATES,
+  };
+};
 
 export const setRoomLocallyMuted = (roomLocallyMuted: boolean) => ({
   type: HmsStateActionTypes.SET_ROOM_LOCALLY_MUTED,
@@ -139,19 +143,35 @@ export const setHMSInstance = (hmsInstance: HMSSDK) => ({
   payload: { hmsInstance },
 });
 
-export const addMessage = (data: HMSMessage) => ({
-  type: actionTypes.ADD_MESSAGE.REQUEST,
-  payload: data,
-});
+// Messages are kept in `chatMessageBuffer`, actions carry only its count
+export const addMessage = (data: HMSMessage) => {
+  chatMessageBuffer.add(data);
+  return {
+    type: actionTypes.ADD_MESSAGE.REQUEST,
+    payload: { messagesCount: chatMessageBuffer.count },
+  };
+};
+
+export const addMessages = (data: HMSMessage[]) => {
+  data.forEach((message) => chatMessageBuffer.add(message));
+  return {
+    type: actionTypes.ADD_MESSAGES.REQUEST,
+    payload: { messagesCount: chatMessageBuffer.count },
+  };
+};
 
 export const addPinnedMessages = (data: PinnedMessage[]) => ({
   type: actionTypes.ADD_PINNED_MESSAGES.REQUEST,
   payload: data,
 });
 
-export const clearMessageData = () => ({
-  type: actionTypes.CLEAR_MESSAGE_DATA.REQUEST,
-});
+export const clearMessageData = () => {
+  chatMessageBuffer.clearMessages();
+  return {
+    type: actionTypes.CLEAR_MESSAGE_DATA.REQUEST,
+    payload: { messagesCount: chatMessageBuffer.count },
+  };
+};
 
 export const setPeerState = (data: { peerState: PeerTrackNode[] }) => ({
   type: actionTypes.SET_PEER_STATE,
@@ -488,10 +508,15 @@ export const setChatPeerBlacklist = (chatPeerBlacklist: string[]) => ({
   payload: { chatPeerBlacklist },
 });
 
-export const filterOutMsgsFromBlockedPeers = (chatPeerBlacklist: string[]) => ({
-  type: actionTypes.FILTER_OUT_BLOCKED_MSGS,
-  payload: chatPeerBlacklist,
-});
+export const filterOutMsgsFromBlockedPeers = (
+  chatPeerBlacklist: string[]
+) => {
+  chatMessageBuffer.setBlockedSenders(chatPeerBlacklist);
+  return {
+    type: actionTypes.FILTER_OUT_BLOCKED_MSGS,
+    payload: { messagesCount: chatMessageBuffer.count },
+  };
+};
 
 export const setHlsDescriptionPaneVisible = (visible: boolean) => ({
   type: actionTypes.SET_HLS_DESC_PANE_VISIBLE,
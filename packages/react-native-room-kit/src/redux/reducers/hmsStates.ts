@@ -160,7 +160,10 @@ type IntialStateType = {
   roomLocallyMuted: boolean;
   room: HMSRoom | null;
   localPeer: HMSLocalPeer | null;
-  groupedParticipants: Record<string, (HMSPeer | HMSLocalPeer)[]>;
+  // Participants are normalized, peers are stored once by `peerID` and role lists only keep `peerID`s
+  participantsById: Record<string, HMSPeer | HMSLocalPeer>;
+  participantIdsByRole: Record<string, string[]>;
+  participantRoleById: Record<string, string>;
   activeSpeakers: HMSSpeaker[];
   roles: HMSRole[];
   previewPeersList: HMSPeer[];
@@ -179,7 +182,9 @@ const INITIAL_STATE: IntialStateType = {
   roomLocallyMuted: false,
   room: null,
   localPeer: null,
-  groupedParticipants: {},
+  participantsById: {},
+  participantIdsByRole: {},
+  participantRoleById: {},
   activeSpeakers: [],
   roles: [],
   previewPeersList: [],
@@ -190,6 +195,152 @@ const INITIAL_STATE: IntialStateType = {
   whiteboard: null,
 };
 
+type ParticipantsState = Pick<
+  IntialStateType,
+  'participantsById' | 'participantIdsByRole' | 'participantRoleById'
+>;
+
+/**
+ * Adds `peers` which are not in the participants yet, at the end of their role lists,
+ * or at the start when `prepend` is true. Peers without role are skipped.
+ */
+const addParticipants = (
+  state: ParticipantsState,
+  peers: (HMSPeer | HMSLocalPeer)[],
+  prepend: boolean = false
+): ParticipantsState => {
+  const participantsById = { ...state.participantsById };
+  const participantRoleById = { ...state.participantRoleById };
+  const idsToAdd = new Map<string, string[]>();
+
+  peers.forEach((peer) => {
+    const roleName = peer.role?.name;
+
+    if (!roleName || participantRoleById[peer.peerID] !== undefined) {
+      return;
+    }
+
+    participantsById[peer.peerID] = peer;
+    participantRoleById[peer.peerID] = roleName;
+
+    const ids = idsToAdd.get(roleName);
+    if (ids) {
+      ids.push(peer.peerID);
+    } else {
+      idsToAdd.set(roleName, [peer.peerID]);
+    }
+  });
+
+  if (idsToAdd.size === 0) {
+    return state;
+  }
+
+  const participantIdsByRole = { ...state.participantIdsByRole };
+
+  idsToAdd.forEach((ids, roleName) => {
+    const oldIds = participantIdsByRole[roleName] ?? [];
+    participantIdsByRole[roleName] = prepend
+      ? [...ids, ...oldIds]
+      : [...oldIds, ...ids];
+  });
+
+  return { participantsById, participantIdsByRole, participantRoleById };
+};
+
+/**
+ * Removes participants with `peerIds`, role lists of other roles are left untouched
+ */
+const removeParticipants = (
+  state: ParticipantsState,
+  peerIds: string[]
+): ParticipantsState => {
+  const idsToRemove = new Map<string, Set<string>>();
+
+  peerIds.forEach((peerId) => {
+    const roleName = state.participantRoleById[peerId];
+
+    if (roleName === undefined) {
+      return;
+    }
+
+    const ids = idsToRemove.get(roleName);
+    if (ids) {
+      ids.add(peerId);
+    } else {
+      idsToRemove.set(roleName, new Set([peerId]));
+    }
+  });
+
+  if (idsToRemove.size === 0) {
+    return state;
+  }
+
+  const participantsById = { ...state.participantsById };
+  const participantRoleById = { ...state.participantRoleById };
+  const participantIdsByRole = { ...state.participantIdsByRole };
+
+  idsToRemove.forEach((ids, roleName) => {
+    ids.forEach((peerId) => {
+      delete participantsById[peerId];
+      delete participantRoleById[peerId];
+    });
+    participantIdsByRole[roleName] = (
+      participantIdsByRole[roleName] ?? []
+    ).filter((peerId) => !ids.has(peerId));
+  });
+
+  return { participantsById, participantIdsByRole, participantRoleById };
+};
+
+/**
+ * Replaces the stored `peer`, moving it to its current role list when its role has changed.
+ * Peers which are not in the participants are ignored.
+ */
+const updateParticipant = (
+  state: ParticipantsState,
+  peer: HMSPeer | HMSLocalPeer,
+  prependOnRoleChange: boolean = false
+): ParticipantsState => {
+  const previousRoleName = state.participantRoleById[peer.peerID];
+
+  if (previousRoleName === undefined) {
+    return state;
+  }
+
+  const participantsById = {
+    ...state.participantsById,
+    [peer.peerID]: peer,
+  };
+
+  const currentRoleName = peer.role?.name;
+
+  if (!currentRoleName || currentRoleName === previousRoleName) {
+    return { ...state, participantsById };
+  }
+
+  const previousIds = state.participantIdsByRole[previousRoleName] ?? [];
+  const currentIds = state.participantIdsByRole[currentRoleName] ?? [];
+
+  return {
+    participantsById,
+    participantIdsByRole: {
+      ...state.participantIdsByRole,
+      // - add to new
+      [currentRoleName]: prependOnRoleChange
+        ? [peer.peerID, ...currentIds]
+        : [...currentIds, peer.peerID],
+      // - delete from old
+      [previousRoleName]: previousIds.filter(
+        (peerId) => peerId !== peer.peerID
+      ),
+    },
+    participantRoleById: {
+      ...state.participantRoleById,
+      [peer.peerID]: currentRoleName,
+    },
+  };
+};
+
 const hmsStatesReducer = (
   state = INITIAL_STATE,
   action: ActionType
@@ -201,89 +352,14 @@ const hmsStatesReducer = (
         room: action.room,
       };
     case HmsStateActionTypes.SET_LOCAL_PEER_STATE: {
-      let updatedGroupedParticipants = state.groupedParticipants;
+      let participants: ParticipantsState = state;
 
       if (action.localPeer !== null) {
-        let previousRoleName: HMSRole['name'] | null = null;
-        let savedLocalPeer: HMSLocalPeer | HMSPeer | null = null;
-
-        for (const groupName in state.groupedParticipants) {
-          if (
-            Object.prototype.hasOwnProperty.call(
-              state.groupedParticipants,
-              groupName
-            )
-          ) {
-            const participantsList = state.groupedParticipants[groupName];
-
-            if (Array.isArray(participantsList)) {
-              const result = participantsList.find(
-                (participant) => participant.peerID === action.localPeer?.peerID
-              );
-
-              if (result) {
-                previousRoleName = groupName;
-                savedLocalPeer = result;
-                break;
-              }
-            }
-          }
-        }
-
-        // update peer or check if  role change happened
-        if (savedLocalPeer) {
-          const currentRoleName = action.localPeer.role?.name!;
-
-          const roleChanged =
-            previousRoleName && previousRoleName !== currentRoleName;
-
-          if (roleChanged && previousRoleName) {
-            const previousList = state.groupedParticipants[previousRoleName];
-            const currentList = state.groupedParticipants[currentRoleName];
-
-            updatedGroupedParticipants = {
-              ...state.groupedParticipants,
-              // add to new list
-              [currentRoleName]: Array.isArray(currentList)
-                ? [action.localPeer, ...currentList]
-                : [action.localPeer],
-              // delete from old list
-              [previousRoleName]: Array.isArray(previousList)
-                ? previousList.filter(
-                    (peer) => peer.peerID !== action.localPeer?.peerID
-                  )
-                : [],
-            };
-          } else {
-            const participants = state.groupedParticipants[currentRoleName];
-
-            updatedGroupedParticipants = {
-              ...state.groupedParticipants,
-              [currentRoleName]: Array.isArray(participants)
-                ? participants.map((participant) =>
-                    participant.peerID === action.localPeer?.peerID
-                      ? action.localPeer
-                      : participant
-                  )
-                : [action.localPeer],
-            };
-          }
-        }
-        // add peer
-        else {
-          const localPeerRoleName = action.localPeer.role?.name;
-
-          if (localPeerRoleName) {
-            const participants = state.groupedParticipants[localPeerRoleName];
-
-            updatedGroupedParticipants = {
-              ...state.groupedParticipants,
-              [localPeerRoleName]: Array.isArray(participants)
-                ? [action.localPeer, ...participants]
-                : [action.localPeer],
-            };
-          }
-        }
+        // update peer or check if role change happened, otherwise add peer
+        participants =
+          state.participantRoleById[action.localPeer.peerID] !== undefined
+            ? updateParticipant(state, action.localPeer, true)
+            : addParticipants(state, [action.localPeer], true);
       }
 
       return {
@@ -293,237 +369,58 @@ const hmsStatesReducer = (
         isLocalVideoMuted: action.localPeer?.videoTrack?.isMute(),
 
         // Adding or updating local peer in participants list
-        groupedParticipants: updatedGroupedParticipants,
+        participantsById: participants.participantsById,
+        participantIdsByRole: participants.participantIdsByRole,
+        participantRoleById: participants.participantRoleById,
       };
     }
     case HmsStateActionTypes.ADD_PARTICIPANT: {
-      const participantRoleName = action.participant.role?.name;
-
-      if (!participantRoleName) {
-        return state;
-      }
-
-      const participants = state.groupedParticipants[participantRoleName];
-
-      if (
-        Array.isArray(participants) &&
-        participants.findIndex(
-          (participant) => participant.peerID === action.participant.peerID
-        ) >= 0
-      ) {
-        return state;
-      }
+      const participants = addParticipants(state, [action.participant]);
 
-      return {
-        ...state,
-        groupedParticipants: {
-          ...state.groupedParticipants,
-          [participantRoleName]: Array.isArray(participants)
-            ? [...participants, action.participant]
-            : [action.participant],
-        },
-      };
+      return participants === state ? state : { ...state, ...participants };
     }
     case HmsStateActionTypes.ADD_PARTICIPANTS: {
-      const participantsToAdd = new Map<string, (HMSPeer | HMSLocalPeer)[]>();
-
-      const participants = Object.values(state.groupedParticipants).flat();
-
-      action.participants.forEach((peerToAdd) => {
-        // check if `peerToAdd` already exists
-        const exists =
-          participants.findIndex(
-            (participant) => participant.peerID === peerToAdd.peerID
-          ) >= 0;
-
-        // if not exists, push to existing list or create new against the role
-        if (!exists) {
-          const list = participantsToAdd.get(peerToAdd.role?.name!);
-
-          if (list) {
-            list.push(peerToAdd);
-          } else {
-            participantsToAdd.set(peerToAdd.role?.name!, [peerToAdd]);
-          }
-        }
-      });
-
-      if (participantsToAdd.size === 0) {
-        return state;
-      }
+      const participants = addParticipants(state, action.participants);
 
-      let updatedGroupedParticipants = { ...state.groupedParticipants };
-
-      participantsToAdd.forEach((list, roleName) => {
-        const oldList = updatedGroupedParticipants[roleName];
-        updatedGroupedParticipants[roleName] = Array.isArray(oldList)
-          ? [...oldList, ...list]
-          : list;
-      });
-
-      return {
-        ...state,
-        groupedParticipants: updatedGroupedParticipants,
-      };
+      return participants === state ? state : { ...state, ...participants };
     }
     case HmsStateActionTypes.REMOVE_PARTICIPANT: {
-      const participantRoleName = action.participant.role?.name;
-
-      if (!participantRoleName) {
-        return state;
-      }
-
-      const participants = state.groupedParticipants[participantRoleName];
-
-      if (
-        Array.isArray(participants) &&
-        participants.findIndex(
-          (participant) => participant.peerID === action.participant.peerID
-        ) >= 0
-      ) {
-        return {
-          ...state,
-          groupedParticipants: {
-            ...state.groupedParticipants,
-            [participantRoleName]: participants.filter(
-              (participant) => participant.peerID !== action.participant.peerID
-            ),
-          },
-        };
-      }
+      const participants = removeParticipants(state, [
+        action.participant.peerID,
+      ]);
 
-      return state;
+      return participants === state ? state : { ...state, ...participants };
     }
     case HmsStateActionTypes.REMOVE_PARTICIPANTS: {
-      const participantsToRemove = new Map<
-        string,
-        (HMSPeer | HMSLocalPeer)[]
-      >();
-
-      const participants = Object.values(state.groupedParticipants).flat();
-
-      action.participants.forEach((peerToAdd) => {
-        // check if `peerToAdd` already exists
-        const exists =
-          participants.findIndex(
-            (participant) => participant.peerID === peerToAdd.peerID
-          ) >= 0;
-
-        // if exists, push to existing list or create new against the role
-        if (exists) {
-          const list = participantsToRemove.get(peerToAdd.role?.name!);
-
-          if (list) {
-            list.push(peerToAdd);
-          } else {
-            participantsToRemove.set(peerToAdd.role?.name!, [peerToAdd]);
-          }
-        }
-      });
-
-      if (participantsToRemove.size === 0) {
-        return state;
-      }
-
-      let updatedGroupedParticipants = { ...state.groupedParticipants };
+      const participants = removeParticipants(
+        state,
+        action.participants.map((participant) => participant.peerID)
+      );
 
-      participantsToRemove.forEach((list, roleName) => {
-        const oldList = updatedGroupedParticipants[roleName];
-        updatedGroupedParticipants[roleName] = Array.isArray(oldList)
-          ? oldList.filter((participant) => {
-              const notExists =
-                list.findIndex(
-                  (peerToRemove) => peerToRemove.peerID === participant.peerID
-                ) < 0;
-
-              // if `participant` is not in `removedPeers` list
-              // then keep it, otherwise remove it
-              return notExists;
-            })
-          : [];
-      });
-
-      return {
-        ...state,
-        groupedParticipants: updatedGroupedParticipants,
-      };
+      return participants === state ? state : { ...state, ...participants };
     }
     case HmsStateActionTypes.UPDATE_PARTICIPANT: {
-      let previousRoleName: HMSRole['name'] | null = null;
-
-      for (const groupName in state.groupedParticipants) {
-        if (
-          Object.prototype.hasOwnProperty.call(
-            state.groupedParticipants,
-            groupName
-          )
-        ) {
-          const participantsList = state.groupedParticipants[groupName];
-
-          if (Array.isArray(participantsList)) {
-            const result = participantsList.find(
-              (participant) => participant.peerID === action.participant.peerID
-            );
-
-            if (result) {
-              previousRoleName = groupName;
-              break;
-            }
-          }
-        }
-      }
-
-      if (!previousRoleName) {
-        return state;
-      }
+      const participants = updateParticipant(state, action.participant);
 
-      const currentRoleName = action.participant.role?.name!;
-
-      // check if role change
-      if (previousRoleName !== currentRoleName) {
-        const previousRoleList = state.groupedParticipants[previousRoleName];
-        const currentRoleList = state.groupedParticipants[currentRoleName];
-
-        return {
-          ...state,
-          groupedParticipants: {
-            ...state.groupedParticipants,
-            // - add to new
-            [currentRoleName]: Array.isArray(currentRoleList)
-              ? [...currentRoleList, action.participant]
-              : [action.participant],
-            // - delete from old
-            [previousRoleName]: Array.isArray(previousRoleList)
-              ? previousRoleList.filter(
-                  (p) => p.peerID !== action.participant.peerID
-                )
-              : [],
-          },
-        };
-      }
-
-      // update existing
-
-      const currentList = state.groupedParticipants[currentRoleName];
-
-      return {
-        ...state,
-        groupedParticipants: {
-          ...state.groupedParticipants,
-          [currentRoleName]: Array.isArray(currentList)
-            ? currentList.map((p) =>
-                p.peerID === action.participant.peerID ? action.participant : p
-              )
-            : [action.participant],
-        },
-      };
+      return participants === state ? state : { ...state, ...participants };
     }
     case HmsStateActionTypes.REPLACE_PARTICIPANTS_LIST: {
+      // remove current peers of the role & peers of the new list from their previous roles
+      const participants = addParticipants(
+        removeParticipants(state, [
+          ...(state.participantIdsByRole[action.roleName] ?? []),
+          ...action.participants.map((participant) => participant.peerID),
+        ]),
+        action.participants
+      );
+
       return {
         ...state,
-        groupedParticipants: {
-          ...state.groupedParticipants,
-          [action.roleName]: action.participants,
+        ...participants,
+        participantIdsByRole: {
+          ...participants.participantIdsByRole,
+          [action.roleName]:
+            participants.participantIdsByRole[action.roleName] ?? [],
         },
       };
     }
@@ -1,19 +1,25 @@
-import type { HMSMessage } from '@100mslive/react-native-hms';
 import ActionTypes, { HmsStateActionTypes } from '../actionTypes';
 import type { PinnedMessage } from '../../types';
 
 type ActionType = {
-  payload: HMSMessage | PinnedMessage[] | string[];
+  payload: { messagesCount: number } | PinnedMessage[];
   type: String;
 };
 
+/**
+ * Chat messages are kept in `chatMessageBuffer`, outside of the store. Store
+ * keeps `messagesVersion`, which changes on every update of the buffer, and
+ * `messagesCount` of the buffer. Read messages through `chatMessageBuffer`.
+ */
 type InitType = {
-  messages: Array<HMSMessage>;
+  messagesCount: number;
+  messagesVersion: number;
   pinnedMessages: PinnedMessage[];
 };
 
 const INITIAL_STATE: InitType = {
-  messages: [],
+  messagesCount: 0,
+  messagesVersion: 0,
   pinnedMessages: [],
 };
 
@@ -24,24 +30,20 @@ const messageReducer = (state = INITIAL_STATE, action: ActionType) => {
         INITIAL_STATE.pinnedMessages) as PinnedMessage[];
       return { ...state, pinnedMessages };
     case ActionTypes.ADD_MESSAGE.REQUEST:
-      const message = action.payload as HMSMessage;
-      return { ...state, messages: [message, ...state.messages] };
+    case ActionTypes.ADD_MESSAGES.REQUEST:
     case ActionTypes.CLEAR_MESSAGE_DATA.REQUEST:
-      return { ...state, messages: [] };
     case ActionTypes.FILTER_OUT_BLOCKED_MSGS:
-      const chatPeerBlacklist = action.payload as string[];
+      const { messagesCount } = action.payload as { messagesCount: number };
       return {
         ...state,
-        messages: state.messages.filter((message) => {
-          const senderUserId = message.sender?.customerUserID;
-          if (!senderUserId) {
-            return true;
-          }
-          return !chatPeerBlacklist.includes(senderUserId);
-        }),
+        messagesCount,
+        messagesVersion: state.messagesVersion + 1,
       };
     case HmsStateActionTypes.CLEAR_STATES:
-      return INITIAL_STATE;
+      return {
+        ...INITIAL_STATE,
+        messagesVersion: state.messagesVersion + 1,
+      };
     default:
       return state;
   }
@@ -0,0 +1,110 @@
+import type { HMSMessage } from '@100mslive/react-native-hms';
+
+// Maximum number of chat messages kept, older messages are dropped
+export const MAX_CHAT_MESSAGES = 1000;
+
+/**
+ * Ring buffer of `MAX_CHAT_MESSAGES` chat messages, so that adding a message
+ * doesn't copy the list of messages. Every message gets a sequence number, and
+ * is stored in the slot `sequence % MAX_CHAT_MESSAGES`.
+ *
+ * Buffer is mutable and lives outside the redux store, which keeps only
+ * `messagesVersion` & `messagesCount` of the buffer. Buffer is updated by the
+ * message action creators before their actions are dispatched.
+ */
+export class ChatMessageBuffer {
+  private messageBuffer: Array<HMSMessage | undefined> = new Array(
+    MAX_CHAT_MESSAGES
+  );
+  // sequence number of the next message
+  private nextSequence = 0;
+  private messagesCount = 0;
+  // sequence number of messages in buffer, by `messageId`
+  private messageSequenceById = new Map<string, number>();
+  // `customerUserID`s of peers whose messages are filtered out
+  private blockedSenderIds = new Set<string>();
+
+  get count() {
+    return this.messagesCount;
+  }
+
+  /**
+   * Returns at most `count` latest messages, latest message first
+   */
+  getLatest(count: number): HMSMessage[] {
+    const messages: HMSMessage[] = [];
+    const length = Math.min(count, this.messagesCount);
+    for (let i = 1; i <= length; i++) {
+      const message =
+        this.messageBuffer[(this.nextSequence - i) % MAX_CHAT_MESSAGES];
+      if (message) {
+        messages.push(message);
+      }
+    }
+    return messages;
+  }
+
+  add(message: HMSMessage) {
+    if (this.isFromBlockedSender(message)) {
+      return;
+    }
+
+    // message already in buffer is replaced in its slot
+    const existingSequence = this.messageSequenceById.get(message.messageId);
+    if (existingSequence !== undefined) {
+      this.messageBuffer[existingSequence % MAX_CHAT_MESSAGES] = message;
+      return;
+    }
+
+    const sequence = this.nextSequence;
+    const slot = sequence % MAX_CHAT_MESSAGES;
+    const evictedMessage = this.messageBuffer[slot];
+    if (evictedMessage) {
+      this.messageSequenceById.delete(evictedMessage.messageId);
+    }
+    this.messageBuffer[slot] = message;
+    this.messageSequenceById.set(message.messageId, sequence);
+
+    this.nextSequence = sequence + 1;
+    this.messagesCount = Math.min(this.messagesCount + 1, MAX_CHAT_MESSAGES);
+  }
+
+  /**
+   * Drops messages of `chatPeerBlacklist`, and filters out their later messages
+   */
+  setBlockedSenders(chatPeerBlacklist: string[]) {
+    this.blockedSenderIds = new Set(chatPeerBlacklist);
+    const messages = this.getLatest(this.messagesCount).filter(
+      (message) => !this.isFromBlockedSender(message)
+    );
+
+    if (messages.length === this.messagesCount) {
+      return;
+    }
+
+    // re-add remaining messages, oldest first
+    this.clearMessages();
+    for (let i = messages.length - 1; i >= 0; i--) {
+      this.add(messages[i]!);
+    }
+  }
+
+  clearMessages() {
+    this.messageBuffer = new Array(MAX_CHAT_MESSAGES);
+    this.nextSequence = 0;
+    this.messagesCount = 0;
+    this.messageSequenceById = new Map();
+  }
+
+  clear() {
+    this.clearMessages();
+    this.blockedSenderIds = new Set();
+  }
+
+  private isFromBlockedSender(message: HMSMessage) {
+    const senderUserId = message.sender?.customerUserID;
+    return !!senderUserId && this.blockedSenderIds.has(senderUserId);
+  }
+}
+
+export const chatMessageBuffer = new ChatMessageBuffer();
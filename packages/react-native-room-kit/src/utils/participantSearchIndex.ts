@@ -0,0 +1,237 @@
+import type { HMSLocalPeer, HMSPeer } from '@100mslive/react-native-hms';
+
+type Participant = HMSPeer | HMSLocalPeer;
+
+type IndexedParticipant = {
+  peer: Participant;
+  roleName: string;
+  name: string;
+  grams: string[];
+};
+
+export type ParticipantSearchResult = {
+  // number of participants of the role matching the query
+  count: number;
+  // first `limit` matching participants, in list order
+  participants: Participant[];
+  // all matching participants with raised hand, in list order
+  handRaisedParticipants: Participant[];
+};
+
+// Names are matched on substrings, grams of up to this length are indexed
+const MAX_GRAM_LENGTH = 3;
+
+export const normalizeSearchText = (text: string | undefined) =>
+  (text ?? '').trim().toLowerCase();
+
+const getGrams = (name: string) => {
+  const grams = new Set<string>();
+  for (let length = 1; length <= MAX_GRAM_LENGTH; length++) {
+    for (let i = 0; i + length <= name.length; i++) {
+      grams.add(name.substring(i, i + length));
+    }
+  }
+  return Array.from(grams);
+};
+
+/**
+ * Search index of participant names, per role.
+ *
+ * Every normalized name is indexed by its substrings of up to 3 characters.
+ * A query is looked up by its gram with the fewest participants, so that only
+ * those participants are matched against the full query. Index is synced with
+ * `participantsById` & `participantIdsByRole` of the store, only participants
+ * which are added, removed, moved to another role or renamed are re-indexed.
+ */
+export class ParticipantSearchIndex {
+  private participantsById: Record<string, Participant> = {};
+  private participantIdsByRole: Record<string, string[]> = {};
+  private entries = new Map<string, IndexedParticipant>();
+  private gramsByRole = new Map<string, Map<string, Set<string>>>();
+
+  sync(
+    participantsById: Record<string, Participant>,
+    participantIdsByRole: Record<string, string[]>
+  ) {
+    if (
+      participantsById === this.participantsById &&
+      participantIdsByRole === this.participantIdsByRole
+    ) {
+      return;
+    }
+
+    const previousParticipantIdsByRole = this.participantIdsByRole;
+    const participantsChanged = participantsById !== this.participantsById;
+    this.participantsById = participantsById;
+    this.participantIdsByRole = participantIdsByRole;
+
+    for (const roleName in previousParticipantIdsByRole) {
+      if (!participantIdsByRole[roleName]) {
+        previousParticipantIdsByRole[roleName]!.forEach((peerId) => {
+          if (this.entries.get(peerId)?.roleName === roleName) {
+            this.remove(peerId);
+          }
+        });
+      }
+    }
+
+    for (const roleName in participantIdsByRole) {
+      const peerIds = participantIdsByRole[roleName]!;
+      const previousPeerIds = previousParticipantIdsByRole[roleName];
+      if (peerIds === previousPeerIds) {
+        continue;
+      }
+
+      if (previousPeerIds) {
+        const peerIdsSet = new Set(peerIds);
+        previousPeerIds.forEach((peerId) => {
+          if (
+            !peerIdsSet.has(peerId) &&
+            this.entries.get(peerId)?.roleName === roleName
+          ) {
+            this.remove(peerId);
+          }
+        });
+      }
+
+      peerIds.forEach((peerId) => {
+        const entry = this.entries.get(peerId);
+        const peer = participantsById[peerId];
+        if (peer && (!entry || entry.roleName !== roleName)) {
+          this.add(peerId, peer, roleName);
+        }
+      });
+    }
+
+    if (participantsChanged) {
+      this.entries.forEach((entry, peerId) => {
+        const peer = participantsById[peerId];
+        if (!peer || peer === entry.peer) {
+          return;
+        }
+        if (normalizeSearchText(peer.name) === entry.name) {
+          entry.peer = peer;
+        } else {
+          this.add(peerId, peer, entry.roleName);
+        }
+      });
+    }
+  }
+
+  /**
+   * Returns participants of the role whose name contains the normalized
+   * `query`, all participants of the role when `query` is empty
+   */
+  search(
+    roleName: string,
+    query: string,
+    limit: number
+  ): ParticipantSearchResult {
+    const peerIds = this.participantIdsByRole[roleName] ?? [];
+    const matchingPeerIds =
+      query.length > 0 ? this.match(roleName, query) : null;
+    const result: ParticipantSearchResult = {
+      count: matchingPeerIds ? matchingPeerIds.size : peerIds.length,
+      participants: [],
+      handRaisedParticipants: [],
+    };
+
+    if (result.count === 0) {
+      return result;
+    }
+
+    for (const peerId of peerIds) {
+      if (matchingPeerIds && !matchingPeerIds.has(peerId)) {
+        continue;
+      }
+      const peer = this.participantsById[peerId];
+      if (!peer) {
+        continue;
+      }
+      if (result.participants.length < limit) {
+        result.participants.push(peer);
+      }
+      if (peer.isHandRaised) {
+        result.handRaisedParticipants.push(peer);
+      }
+    }
+
+    return result;
+  }
+
+  private match(roleName: string, query: string) {
+    const matchingPeerIds = new Set<string>();
+    const gramsIndex = this.gramsByRole.get(roleName);
+    if (!gramsIndex) {
+      return matchingPeerIds;
+    }
+
+    const queryGrams =
+      query.length <= MAX_GRAM_LENGTH
+        ? [query]
+        : getGrams(query).filter((gram) => gram.length === MAX_GRAM_LENGTH);
+
+    let candidates: Set<string> | undefined;
+    for (const gram of queryGrams) {
+      const peerIds = gramsIndex.get(gram);
+      if (!peerIds) {
+        return matchingPeerIds;
+      }
+      if (!candidates || peerIds.size < candidates.size) {
+        candidates = peerIds;
+      }
+    }
+
+    candidates?.forEach((peerId) => {
+      if (this.entries.get(peerId)?.name.includes(query)) {
+        matchingPeerIds.add(peerId);
+      }
+    });
+    return matchingPeerIds;
+  }
+
+  private add(peerId: string, peer: Participant, roleName: string) {
+    this.remove(peerId);
+
+    const name = normalizeSearchText(peer.name);
+    const grams = getGrams(name);
+    this.entries.set(peerId, { peer, roleName, name, grams });
+
+    let gramsIndex = this.gramsByRole.get(roleName);
+    if (!gramsIndex) {
+      gramsIndex = new Map();
+      this.gramsByRole.set(roleName, gramsIndex);
+    }
+    for (const gram of grams) {
+      let peerIds = gramsIndex.get(gram);
+      if (!peerIds) {
+        peerIds = new Set();
+        gramsIndex.set(gram, peerIds);
+      }
+      peerIds.add(peerId);
+    }
+  }
+
+  private remove(peerId: string) {
+    const entry = this.entries.get(peerId);
+    if (!entry) {
+      return;
+    }
+    this.entries.delete(peerId);
+
+    const gramsIndex = this.gramsByRole.get(entry.roleName);
+    if (!gramsIndex) {
+      return;
+    }
+    for (const gram of entry.grams) {
+      const peerIds = gramsIndex.get(gram);
+      peerIds?.delete(peerId);
+      if (peerIds?.size === 0) {
+        gramsIndex.delete(gram);
+      }
+    }
+    if (gramsIndex.size === 0) {
+      this.gramsByRole.delete(entry.roleName);
+    }
+  }
+}
@@ -111,8 +111,17 @@ export const ChatBottomSheetTabs = ['Chat', 'Participants'] as const;
 
 export const ChatBroadcastFilter = { name: 'everyone' } as const;
 
+// Number of chat messages rendered initially, and loaded on reaching the oldest
+export const ChatMessagesWindowSize = 50;
+
 export const PeerListRefreshInterval = 5000; // in milliseconds
 
+export const PeerListMaxRefreshInterval = 80000; // in milliseconds
+
+export const OffStagePeerListPageSize = 10;
+
+export const ParticipantSearchDebounceDelay = 150; // in milliseconds
+
 export enum OnLeaveReason {
   /**
    * User left the meeting room by pressing the "Leave" or "End Stream" button in Leave Modal